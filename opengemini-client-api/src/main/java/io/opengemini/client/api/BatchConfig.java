@@ -30,4 +30,9 @@ public class BatchConfig {
      * BatchSize batch size that triggers batch processing.
      */
     private int batchSize;
+    /**
+     * MaxPendingPoints maximum number of points buffered or being written, writes beyond it fail instead of
+     * being buffered. 100 times the batch size when not set.
+     */
+    private int maxPendingPoints;
 }
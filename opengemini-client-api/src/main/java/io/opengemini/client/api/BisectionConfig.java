@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * BisectionConfig configures the isolation of the lines making the server reject a line protocol write with
+ * status 400 or 413. The write is split until every rejected line is isolated, the other lines are written and
+ * the rejected ones are passed to the dead letter handler.
+ */
+@Getter
+@Setter
+public class BisectionConfig {
+    /**
+     * DeadLetterHandler receives the rejected lines.
+     */
+    private DeadLetterHandler deadLetterHandler;
+
+    /**
+     * MaxRejectedLines maximum number of rejected lines isolated in one write, beyond it the write fails with the
+     * error of the server, the lines written up to then staying written.
+     */
+    private int maxRejectedLines = 100;
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * ByteArraySink a growable byte array implementing {@link ByteSink}.
+ * <p>
+ * Sinks can be borrowed from a small shared pool with {@link #acquire()} and handed back with
+ * {@link #release()}, so that encoding a batch reuses an already grown array instead of allocating a new one.
+ * Arrays grown beyond 8 MB are not kept in the pool.
+ */
+public final class ByteArraySink implements ByteSink {
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final int MAX_POOLED_CAPACITY = 8 * 1024 * 1024;
+
+    private static final Queue<ByteArraySink> POOL =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    private byte[] buf;
+
+    private int size;
+
+    public ByteArraySink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ByteArraySink(int initialCapacity) {
+        this.buf = new byte[initialCapacity];
+    }
+
+    /**
+     * Borrow an empty sink from the pool, or create one when the pool is empty.
+     */
+    public static ByteArraySink acquire() {
+        ByteArraySink sink = POOL.poll();
+        return sink != null ? sink : new ByteArraySink();
+    }
+
+    /**
+     * Hand this sink back to the pool. The sink must not be used afterwards.
+     */
+    public void release() {
+        if (buf.length <= MAX_POOLED_CAPACITY) {
+            size = 0;
+            POOL.offer(this);
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensure(1);
+        buf[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] src, int off, int len) {
+        ensure(len);
+        System.arraycopy(src, off, buf, size, len);
+        size += len;
+    }
+
+    @Override
+    public void writeAscii(CharSequence s, int start, int end) {
+        ensure(end - start);
+        byte[] b = buf;
+        int pos = size;
+        for (int i = start; i < end; i++) {
+            b[pos++] = (byte) s.charAt(i);
+        }
+        size = pos;
+    }
+
+    @Override
+    public void writeUtf8(CharSequence s, int start, int end) {
+        // a char takes at most 3 bytes, a surrogate pair 4
+        ensure((end - start) * 3);
+        byte[] b = buf;
+        int pos = size;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                b[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                b[pos++] = (byte) (0xC0 | (c >> 6));
+                b[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                b[pos++] = (byte) (0xF0 | (cp >> 18));
+                b[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                b[pos++] = '?';
+            } else {
+                b[pos++] = (byte) (0xE0 | (c >> 12));
+                b[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        size = pos;
+    }
+
+    /**
+     * Get the backing array, valid up to {@link #size()}.
+     */
+    public byte[] array() {
+        return buf;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discard the content while keeping the capacity.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Drop the content after the given size.
+     *
+     * @param newSize the size to keep, not larger than the current size.
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("size " + newSize + " out of [0, " + size + "]");
+        }
+        size = newSize;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private void ensure(int n) {
+        if (size + n > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + n));
+        }
+    }
+}
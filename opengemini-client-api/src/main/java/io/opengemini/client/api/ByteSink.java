@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+/**
+ * ByteSink receives the bytes of an encoded point, so that line protocol can be written straight to UTF-8
+ * bytes without going through intermediate strings.
+ */
+public interface ByteSink {
+    /**
+     * Write a single byte.
+     *
+     * @param b the byte to write, only the lowest 8 bits are used.
+     */
+    void write(int b);
+
+    /**
+     * Write a range of bytes.
+     *
+     * @param src the bytes to write.
+     * @param off the start offset in src.
+     * @param len the number of bytes to write.
+     */
+    void write(byte[] src, int off, int len);
+
+    /**
+     * Write a range of characters known to be ASCII, one byte per character.
+     *
+     * @param s     the characters to write, all below 0x80.
+     * @param start the index of the first character to write.
+     * @param end   the index after the last character to write.
+     */
+    default void writeAscii(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            write(s.charAt(i));
+        }
+    }
+
+    /**
+     * Write a range of characters encoded as UTF-8. Unpaired surrogates are replaced with '?', like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     *
+     * @param s     the characters to write.
+     * @param start the index of the first character to write.
+     * @param end   the index after the last character to write.
+     */
+    default void writeUtf8(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                write(c);
+            } else if (c < 0x800) {
+                write(0xC0 | (c >> 6));
+                write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                write(0xF0 | (cp >> 18));
+                write(0x80 | ((cp >> 12) & 0x3F));
+                write(0x80 | ((cp >> 6) & 0x3F));
+                write(0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                write('?');
+            } else {
+                write(0xE0 | (c >> 12));
+                write(0x80 | ((c >> 6) & 0x3F));
+                write(0x80 | (c & 0x3F));
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker of one server, fed by the outcomes of the requests sent to it.
+ * <p>
+ * The outcomes of the last requests are kept in a ring buffer. Reading whether the server accepts requests is
+ * lock free, recording an outcome and changing state lock the breaker.
+ */
+public final class CircuitBreaker {
+    private static final byte FAILED = 1;
+
+    private static final byte SLOW = 2;
+
+    private final String endpoint;
+
+    private final CircuitBreakerConfig config;
+
+    private final long slowCallNanos;
+
+    private final long openNanos;
+
+    private final byte[] window;
+
+    private int windowIndex;
+
+    private int calls;
+
+    private int failures;
+
+    private int slowCalls;
+
+    /**
+     * trial requests that may still be sent in the half open state
+     */
+    private final AtomicInteger trialPermits = new AtomicInteger();
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+
+    private volatile long openedAt;
+
+    public CircuitBreaker(String endpoint, CircuitBreakerConfig config) {
+        this.endpoint = endpoint;
+        this.config = config;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDuration());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDuration());
+        this.window = new byte[config.getWindowSize()];
+    }
+
+    public CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * Whether a request could be sent to the server now, without taking a trial permit.
+     */
+    public boolean isCallPermitted() {
+        CircuitState current = state;
+        return current == CircuitState.CLOSED
+                || current == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos
+                || current == CircuitState.HALF_OPEN && trialPermits.get() > 0;
+    }
+
+    /**
+     * Take the permission to send a request to the server, its outcome must then be recorded.
+     *
+     * @return false if the circuit is open, or half open with all trial requests sent.
+     */
+    public boolean tryAcquirePermission() {
+        if (state == CircuitState.CLOSED) {
+            return true;
+        }
+        CircuitBreakerEvent event = null;
+        boolean permitted;
+        synchronized (this) {
+            if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                event = transitionTo(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                permitted = trialPermits.get() > 0;
+                if (permitted) {
+                    trialPermits.decrementAndGet();
+                }
+            } else {
+                permitted = state == CircuitState.CLOSED;
+            }
+        }
+        publish(event);
+        return permitted;
+    }
+
+    /**
+     * Record the outcome of a request sent with permission.
+     *
+     * @param durationNanos the duration of the request.
+     * @param failed        whether the request got no response or a 5xx status.
+     */
+    public void record(long durationNanos, boolean failed) {
+        byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0));
+        CircuitBreakerEvent event = null;
+        synchronized (this) {
+            if (state == CircuitState.CLOSED) {
+                add(outcome);
+                if (calls >= config.getMinimumCalls() && exceedsThresholds()) {
+                    event = transitionTo(CircuitState.OPEN);
+                }
+            } else if (state == CircuitState.HALF_OPEN) {
+                add(outcome);
+                if (calls >= config.getHalfOpenCalls()) {
+                    event = transitionTo(exceedsThresholds() ? CircuitState.OPEN : CircuitState.CLOSED);
+                }
+            }
+            // outcomes of requests sent before the circuit opened are ignored
+        }
+        publish(event);
+    }
+
+    private void add(byte outcome) {
+        if (calls == window.length) {
+            byte evicted = window[windowIndex];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            calls++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+    }
+
+    private boolean exceedsThresholds() {
+        return failures * 100f >= config.getFailureRateThreshold() * calls
+                || slowCalls * 100f >= config.getSlowCallRateThreshold() * calls;
+    }
+
+    private CircuitBreakerEvent transitionTo(CircuitState to) {
+        CircuitBreakerEvent event = new CircuitBreakerEvent(endpoint, state, to,
+                calls == 0 ? 0 : failures * 100f / calls, calls == 0 ? 0 : slowCalls * 100f / calls);
+        state = to;
+        windowIndex = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+        if (to == CircuitState.OPEN) {
+            openedAt = System.nanoTime();
+        } else if (to == CircuitState.HALF_OPEN) {
+            trialPermits.set(config.getHalfOpenCalls());
+        }
+        return event;
+    }
+
+    private void publish(CircuitBreakerEvent event) {
+        CircuitBreakerListener listener = config.getListener();
+        if (event == null || listener == null) {
+            return;
+        }
+        try {
+            listener.onStateTransition(event);
+        } catch (RuntimeException ignored) {
+            // a failing listener must not fail the request that caused the transition
+        }
+    }
+}
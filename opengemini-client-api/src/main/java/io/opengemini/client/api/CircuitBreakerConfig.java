@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * CircuitBreakerConfig configures a circuit breaker per server, fed by the outcomes of the requests sent to it.
+ * Once enough of the last requests failed or were slow the circuit opens and the server is avoided like a server
+ * flagged down by the health check. After the open duration a few trial requests are let through, closing the
+ * circuit again when they succeed.
+ */
+@Getter
+@Setter
+public class CircuitBreakerConfig {
+    /**
+     * WindowSize number of the last requests whose outcomes are recorded.
+     */
+    private int windowSize = 100;
+
+    /**
+     * MinimumCalls number of recorded requests below which the circuit does not open.
+     */
+    private int minimumCalls = 20;
+
+    /**
+     * FailureRateThreshold percentage of failed requests from which the circuit opens. A request fails when it
+     * gets no response or a 5xx status.
+     */
+    private float failureRateThreshold = 50;
+
+    /**
+     * SlowCallDuration duration from which a request is slow. (unit: ms)
+     */
+    private int slowCallDuration = 5000;
+
+    /**
+     * SlowCallRateThreshold percentage of slow requests from which the circuit opens.
+     */
+    private float slowCallRateThreshold = 80;
+
+    /**
+     * OpenDuration delay before trial requests are sent to a server whose circuit opened. (unit: ms)
+     */
+    private int openDuration = 10000;
+
+    /**
+     * HalfOpenCalls number of trial requests deciding whether the circuit closes or opens again.
+     */
+    private int halfOpenCalls = 5;
+
+    /**
+     * Listener notified of the state transitions, may be null.
+     */
+    private CircuitBreakerListener listener;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A state transition of the circuit breaker of a server.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CircuitBreakerEvent {
+    /**
+     * Endpoint url prefix of the server.
+     */
+    private final String endpoint;
+
+    /**
+     * From state before the transition.
+     */
+    private final CircuitState from;
+
+    /**
+     * To state after the transition.
+     */
+    private final CircuitState to;
+
+    /**
+     * FailureRate percentage of failed requests among the recorded ones when the transition happened.
+     */
+    private final float failureRate;
+
+    /**
+     * SlowCallRate percentage of slow requests among the recorded ones when the transition happened.
+     */
+    private final float slowCallRate;
+}
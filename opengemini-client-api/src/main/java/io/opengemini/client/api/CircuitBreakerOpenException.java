@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+/**
+ * Failure of a request rejected by the open {@link CircuitBreaker} of its server. The request was never sent, so
+ * unlike the other failures with a status code it is not an answer of the server and may be sent again.
+ */
+public class CircuitBreakerOpenException extends OpenGeminiException {
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    public CircuitBreakerOpenException(String endpoint) {
+        super("circuit breaker of " + endpoint + " is open", SERVICE_UNAVAILABLE);
+    }
+}
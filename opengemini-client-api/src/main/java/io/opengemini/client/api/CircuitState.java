@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+/**
+ * CircuitState state of the circuit breaker of a server.
+ */
+public enum CircuitState {
+    /**
+     * Send requests to the server and record their outcomes.
+     */
+    CLOSED,
+
+    /**
+     * Avoid the server until the open duration elapses.
+     */
+    OPEN,
+
+    /**
+     * Send a few trial requests to the server, their outcomes decide whether the circuit closes or opens again.
+     */
+    HALF_OPEN
+}
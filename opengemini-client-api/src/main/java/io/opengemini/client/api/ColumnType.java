@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+/**
+ * ColumnType storage type of a column of a {@link ColumnarSeries}.
+ */
+public enum ColumnType {
+    /**
+     * Integers and timestamps, stored in a {@code long[]}.
+     */
+    LONG,
+
+    /**
+     * Floats, and integers of columns also holding floats, stored in a {@code double[]}.
+     */
+    DOUBLE,
+
+    /**
+     * Booleans, stored in a {@code boolean[]}.
+     */
+    BOOLEAN,
+
+    /**
+     * Strings, stored as codes into a dictionary of the distinct values of the column. Columns mixing value types
+     * are stored as strings too.
+     */
+    STRING
+}
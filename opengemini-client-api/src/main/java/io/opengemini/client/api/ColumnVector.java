@@ -0,0 +1,293 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A growable column of primitive values with a null bitmap.
+ * <p>
+ * The type is set by the first value that is not null. An integer arriving in a float column is widened and a
+ * float arriving in an integer column widens the column, any other mismatch turns the column into strings.
+ */
+final class ColumnVector {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private ColumnType type;
+
+    private int size;
+
+    private int capacity = INITIAL_CAPACITY;
+
+    private long[] nulls = new long[1];
+
+    private long[] longs;
+
+    private double[] doubles;
+
+    private boolean[] booleans;
+
+    private int[] codes;
+
+    private List<String> dictionary;
+
+    private Map<String, Integer> dictionaryCodes;
+
+    ColumnType type() {
+        return type == null ? ColumnType.STRING : type;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void appendNull() {
+        ensureCapacity();
+        nulls[size >> 6] |= 1L << size;
+        size++;
+    }
+
+    void appendLong(long value) {
+        if (type == null) {
+            init(ColumnType.LONG);
+        }
+        if (type == ColumnType.DOUBLE) {
+            appendDouble(value);
+            return;
+        }
+        if (type != ColumnType.LONG) {
+            appendString(Long.toString(value));
+            return;
+        }
+        ensureCapacity();
+        longs[size++] = value;
+    }
+
+    void appendDouble(double value) {
+        if (type == null) {
+            init(ColumnType.DOUBLE);
+        } else if (type == ColumnType.LONG) {
+            widenToDouble();
+        }
+        if (type != ColumnType.DOUBLE) {
+            appendString(Double.toString(value));
+            return;
+        }
+        ensureCapacity();
+        doubles[size++] = value;
+    }
+
+    void appendBoolean(boolean value) {
+        if (type == null) {
+            init(ColumnType.BOOLEAN);
+        }
+        if (type != ColumnType.BOOLEAN) {
+            appendString(Boolean.toString(value));
+            return;
+        }
+        ensureCapacity();
+        booleans[size++] = value;
+    }
+
+    void appendString(String value) {
+        if (type == null) {
+            init(ColumnType.STRING);
+        } else if (type != ColumnType.STRING) {
+            convertToStrings();
+        }
+        ensureCapacity();
+        Integer code = dictionaryCodes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            dictionaryCodes.put(value, code);
+        }
+        codes[size++] = code;
+    }
+
+    boolean isNull(int row) {
+        return (nulls[row >> 6] & 1L << row) != 0;
+    }
+
+    long getLong(int row) {
+        check(row, ColumnType.LONG);
+        return longs[row];
+    }
+
+    double getDouble(int row) {
+        if (type == ColumnType.LONG) {
+            return getLong(row);
+        }
+        check(row, ColumnType.DOUBLE);
+        return doubles[row];
+    }
+
+    boolean getBoolean(int row) {
+        check(row, ColumnType.BOOLEAN);
+        return booleans[row];
+    }
+
+    String getString(int row) {
+        if (type == null || isNull(row)) {
+            return null;
+        }
+        check(row, ColumnType.STRING);
+        return dictionary.get(codes[row]);
+    }
+
+    long[] longs() {
+        checkType(ColumnType.LONG);
+        return longs;
+    }
+
+    double[] doubles() {
+        checkType(ColumnType.DOUBLE);
+        return doubles;
+    }
+
+    boolean[] booleans() {
+        checkType(ColumnType.BOOLEAN);
+        return booleans;
+    }
+
+    int[] codes() {
+        checkType(ColumnType.STRING);
+        return codes;
+    }
+
+    List<String> dictionary() {
+        checkType(ColumnType.STRING);
+        return dictionary;
+    }
+
+    /**
+     * Release the unused capacity once the column is complete.
+     */
+    void trim() {
+        if (type == null) {
+            init(ColumnType.STRING);
+        }
+        capacity = size;
+        resize();
+        nulls = Arrays.copyOf(nulls, (size + 63) >> 6);
+        // only needed to append, the codes and dictionary are all a complete column reads
+        dictionaryCodes = null;
+    }
+
+    private void check(int row, ColumnType expected) {
+        checkType(expected);
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " of " + size);
+        }
+    }
+
+    private void checkType(ColumnType expected) {
+        if (type() != expected) {
+            throw new IllegalStateException("column of type " + type() + " read as " + expected);
+        }
+    }
+
+    private void init(ColumnType columnType) {
+        type = columnType;
+        switch (columnType) {
+            case LONG:
+                longs = new long[capacity];
+                break;
+            case DOUBLE:
+                doubles = new double[capacity];
+                break;
+            case BOOLEAN:
+                booleans = new boolean[capacity];
+                break;
+            default:
+                codes = new int[capacity];
+                dictionary = new ArrayList<>();
+                dictionaryCodes = new HashMap<>();
+                break;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == capacity) {
+            capacity = capacity * 2;
+            resize();
+        }
+        if (size >> 6 >= nulls.length) {
+            nulls = Arrays.copyOf(nulls, Math.max(nulls.length * 2, (size >> 6) + 1));
+        }
+    }
+
+    private void resize() {
+        if (longs != null) {
+            longs = Arrays.copyOf(longs, capacity);
+        }
+        if (doubles != null) {
+            doubles = Arrays.copyOf(doubles, capacity);
+        }
+        if (booleans != null) {
+            booleans = Arrays.copyOf(booleans, capacity);
+        }
+        if (codes != null) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+    }
+
+    private void widenToDouble() {
+        doubles = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            doubles[i] = longs[i];
+        }
+        longs = null;
+        type = ColumnType.DOUBLE;
+    }
+
+    private void convertToStrings() {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            if (isNull(i)) {
+                continue;
+            }
+            switch (type) {
+                case LONG:
+                    values[i] = Long.toString(longs[i]);
+                    break;
+                case DOUBLE:
+                    values[i] = Double.toString(doubles[i]);
+                    break;
+                default:
+                    values[i] = Boolean.toString(booleans[i]);
+                    break;
+            }
+        }
+        longs = null;
+        doubles = null;
+        booleans = null;
+        int rows = size;
+        size = 0;
+        init(ColumnType.STRING);
+        for (int i = 0; i < rows; i++) {
+            if (values[i] == null) {
+                size++;
+            } else {
+                appendString(values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A series of a query result held in typed column vectors rather than rows of boxed values.
+ * <p>
+ * Every column is a primitive array of its {@link ColumnType}, strings being codes into a dictionary of the
+ * distinct values of the column, with a bitmap of the null cells. A row costs a few bytes per column instead of
+ * a list of boxed values, which matters when pulling millions of rows.
+ */
+public final class ColumnarSeries {
+    public static final String TIME_COLUMN = "time";
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final Map<String, String> tags;
+
+    @Getter
+    private final List<String> columns;
+
+    /**
+     * Number of rows of the series.
+     */
+    @Getter
+    private final int rowCount;
+
+    private final ColumnVector[] vectors;
+
+    private final int timeColumn;
+
+    private ColumnarSeries(Builder builder) {
+        this.name = builder.name;
+        this.tags = builder.tags == null ? Collections.emptyMap() : builder.tags;
+        this.columns = builder.columns == null ? Collections.emptyList() : builder.columns;
+        this.rowCount = builder.rowCount;
+        this.vectors = new ColumnVector[Math.max(columns.size(), builder.vectors.size())];
+        for (int i = 0; i < vectors.length; i++) {
+            ColumnVector vector = i < builder.vectors.size() ? builder.vectors.get(i) : new ColumnVector();
+            while (vector.size() < rowCount) {
+                vector.appendNull();
+            }
+            vector.trim();
+            vectors[i] = vector;
+        }
+        this.timeColumn = columns.indexOf(TIME_COLUMN);
+    }
+
+    public int getColumnCount() {
+        return vectors.length;
+    }
+
+    /**
+     * Find a column by name.
+     *
+     * @param column the name of the column.
+     * @return the index of the column, -1 if the series has no such column.
+     */
+    public int columnIndex(String column) {
+        return columns.indexOf(column);
+    }
+
+    public ColumnType getColumnType(int column) {
+        return vectors[column].type();
+    }
+
+    public boolean isNull(int row, int column) {
+        return vectors[column].isNull(row);
+    }
+
+    /**
+     * Read the time of a row, in nanoseconds since the epoch when the server returned RFC3339 timestamps and in
+     * the precision of the query when it returned epoch timestamps.
+     *
+     * @param row the index of the row.
+     * @throws IllegalStateException if the series has no time column.
+     */
+    public long getTime(int row) {
+        if (timeColumn < 0) {
+            throw new IllegalStateException("series " + name + " has no " + TIME_COLUMN + " column");
+        }
+        return vectors[timeColumn].getLong(row);
+    }
+
+    /**
+     * Read a cell of a {@link ColumnType#LONG} column, 0 if the cell is null.
+     *
+     * @throws IllegalStateException if the column has another type.
+     */
+    public long getLong(int row, int column) {
+        return vectors[column].getLong(row);
+    }
+
+    /**
+     * Read a cell of a {@link ColumnType#DOUBLE} or {@link ColumnType#LONG} column, 0 if the cell is null.
+     *
+     * @throws IllegalStateException if the column has another type.
+     */
+    public double getDouble(int row, int column) {
+        return vectors[column].getDouble(row);
+    }
+
+    /**
+     * Read a cell of a {@link ColumnType#BOOLEAN} column, false if the cell is null.
+     *
+     * @throws IllegalStateException if the column has another type.
+     */
+    public boolean getBoolean(int row, int column) {
+        return vectors[column].getBoolean(row);
+    }
+
+    /**
+     * Read a cell of a {@link ColumnType#STRING} column, null if the cell is null.
+     *
+     * @throws IllegalStateException if the column has another type.
+     */
+    public String getString(int row, int column) {
+        return vectors[column].getString(row);
+    }
+
+    /**
+     * Read a cell as the boxed value a {@link Series} row would hold.
+     */
+    public Object getValue(int row, int column) {
+        ColumnVector vector = vectors[column];
+        if (vector.isNull(row)) {
+            return null;
+        }
+        switch (vector.type()) {
+            case LONG:
+                return vector.getLong(row);
+            case DOUBLE:
+                return vector.getDouble(row);
+            case BOOLEAN:
+                return vector.getBoolean(row);
+            default:
+                return vector.getString(row);
+        }
+    }
+
+    /**
+     * The values of a {@link ColumnType#LONG} column, indexed by row. The array is the storage of the series and
+     * must not be modified.
+     */
+    public long[] getLongColumn(int column) {
+        return vectors[column].longs();
+    }
+
+    /**
+     * The values of a {@link ColumnType#DOUBLE} column, indexed by row. The array is the storage of the series
+     * and must not be modified.
+     */
+    public double[] getDoubleColumn(int column) {
+        return vectors[column].doubles();
+    }
+
+    /**
+     * The values of a {@link ColumnType#BOOLEAN} column, indexed by row. The array is the storage of the series
+     * and must not be modified.
+     */
+    public boolean[] getBooleanColumn(int column) {
+        return vectors[column].booleans();
+    }
+
+    /**
+     * The dictionary codes of a {@link ColumnType#STRING} column, indexed by row. The array is the storage of the
+     * series and must not be modified.
+     */
+    public int[] getStringCodes(int column) {
+        return vectors[column].codes();
+    }
+
+    /**
+     * The distinct values of a {@link ColumnType#STRING} column, indexed by code.
+     */
+    public List<String> getStringDictionary(int column) {
+        return Collections.unmodifiableList(vectors[column].dictionary());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder appending the cells of a series row by row.
+     */
+    public static final class Builder {
+        private final List<ColumnVector> vectors = new ArrayList<>();
+
+        private String name;
+
+        private Map<String, String> tags;
+
+        private List<String> columns;
+
+        private int rowCount;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder tags(Map<String, String> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        public Builder columns(List<String> columns) {
+            this.columns = columns;
+            return this;
+        }
+
+        public Builder appendNull(int column) {
+            vector(column).appendNull();
+            return this;
+        }
+
+        public Builder appendLong(int column, long value) {
+            vector(column).appendLong(value);
+            return this;
+        }
+
+        public Builder appendDouble(int column, double value) {
+            vector(column).appendDouble(value);
+            return this;
+        }
+
+        public Builder appendBoolean(int column, boolean value) {
+            vector(column).appendBoolean(value);
+            return this;
+        }
+
+        public Builder appendString(int column, String value) {
+            if (value == null) {
+                return appendNull(column);
+            }
+            vector(column).appendString(value);
+            return this;
+        }
+
+        /**
+         * Complete the current row, the columns without a cell in it get a null.
+         */
+        public Builder endRow() {
+            rowCount++;
+            for (ColumnVector vector : vectors) {
+                while (vector.size() < rowCount) {
+                    vector.appendNull();
+                }
+            }
+            return this;
+        }
+
+        public ColumnarSeries build() {
+            return new ColumnarSeries(this);
+        }
+
+        private ColumnVector vector(int column) {
+            while (vectors.size() <= column) {
+                ColumnVector vector = new ColumnVector();
+                for (int i = 0; i < rowCount; i++) {
+                    vector.appendNull();
+                }
+                vectors.add(vector);
+            }
+            ColumnVector vector = vectors.get(column);
+            if (vector.size() > rowCount) {
+                throw new IllegalStateException("column " + column + " already has a cell in row " + rowCount);
+            }
+            return vector;
+        }
+    }
+}
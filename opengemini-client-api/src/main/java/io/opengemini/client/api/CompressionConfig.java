@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * CompressionConfig configures the Content-Encoding of write request bodies.
+ */
+@Getter
+@Setter
+public class CompressionConfig {
+    public static final String GZIP = "gzip";
+
+    public static final String ZSTD = "zstd";
+
+    public static final String SNAPPY = "snappy";
+
+    /**
+     * ContentEncoding name of the codec compressing write bodies, one of gzip, zstd, snappy or the name of a
+     * codec registered through the ContentCodecProvider SPI.
+     */
+    private String contentEncoding;
+
+    /**
+     * ZstdLevel compression level used by the zstd codec, larger levels trade throughput for ratio.
+     */
+    private int zstdLevel = 3;
+
+    /**
+     * ZstdDictionary optional trained dictionary used by the zstd codec, the server must be configured with
+     * the same dictionary.
+     */
+    private byte[] zstdDictionary;
+
+    public CompressionConfig() {
+    }
+
+    public CompressionConfig(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ConcurrencyLimitConfig bounds the number of concurrent http requests sent to each server, separately for
+ * writes and queries.
+ */
+@Getter
+@Setter
+public class ConcurrencyLimitConfig {
+    /**
+     * MaxInFlightWrites maximum number of concurrent write requests to one server.
+     */
+    private int maxInFlightWrites = 64;
+
+    /**
+     * MaxInFlightQueries maximum number of concurrent query requests to one server.
+     */
+    private int maxInFlightQueries = 64;
+
+    /**
+     * SaturationPolicy behavior of a request arriving when the maximum is reached.
+     */
+    private SaturationPolicy saturationPolicy = SaturationPolicy.QUEUE;
+
+    /**
+     * QueueSize maximum number of requests waiting for one server and operation type, with the QUEUE policy, and
+     * with the BLOCK policy for the requests sent by the threads of the client.
+     */
+    private int queueSize = 1024;
+
+    /**
+     * BlockTimeout maximum time a caller is blocked with the BLOCK policy, 0 to wait without limit. (unit: ms)
+     */
+    private int blockTimeout = 30_000;
+}
@@ -39,5 +39,71 @@ public class Configuration {
 
     boolean gzipEnabled;
 
+    /**
+     * compression of write bodies, takes precedence over gzipEnabled when set
+     */
+    CompressionConfig compressionConfig;
+
+    /**
+     * encode large line protocol writes on several threads when set
+     */
+    ParallelEncodingConfig parallelEncodingConfig;
+
+    /**
+     * write the tags of every point in key order and group the lines of every line protocol write by series,
+     * sorted by timestamp within each series
+     */
+    boolean seriesOrderingEnabled;
+
+    /**
+     * spool line protocol writes that cannot reach any server to disk, and replay them once a server is up, when
+     * set
+     */
+    SpoolConfig spoolConfig;
+
+    /**
+     * bound the number of concurrent http requests to each server when set
+     */
+    ConcurrencyLimitConfig concurrencyLimitConfig;
+
+    /**
+     * retry writes and read queries failing transiently when set
+     */
+    RetryConfig retryConfig;
+
+    /**
+     * isolate the lines making the server reject a line protocol write and pass them to a dead letter handler,
+     * writing the other lines, when set
+     */
+    BisectionConfig bisectionConfig;
+
+    /**
+     * open a circuit breaker per server from the failures and slow responses of the requests sent to it, avoiding
+     * the server while it is open, when set
+     */
+    CircuitBreakerConfig circuitBreakerConfig;
+
+    /**
+     * picks the server of each request from the load the client puts on every server, round robin over the
+     * available servers when not set
+     */
+    LoadBalancer loadBalancer;
+
+    /**
+     * probes of the servers, the defaults of HealthCheckConfig when not set
+     */
+    HealthCheckConfig healthCheckConfig;
+
+    /**
+     * format of the responses of read queries, json when not set
+     */
+    ResponseFormat responseFormat;
+
     HttpClientConfig httpConfig;
+
+    /**
+     * maximum size in bytes of the line protocol body of each request when writing points from an iterator,
+     * 4 MiB when not set
+     */
+    int maxWriteBodySize;
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+/**
+ * DeadLetterHandler receives the lines of a write rejected by the server, once they have been isolated from the
+ * lines of the write the server accepts.
+ */
+@FunctionalInterface
+public interface DeadLetterHandler {
+    /**
+     * Receive a rejected line.
+     *
+     * @param database        the database of the write.
+     * @param retentionPolicy the retention policy of the write, may be null.
+     * @param line            the rejected line protocol line.
+     * @param error           the error the server answered for the line.
+     */
+    void rejected(String database, String retentionPolicy, String line, OpenGeminiException error);
+}
@@ -16,17 +16,124 @@
 
 package io.opengemini.client.api;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@Getter
-@Setter
-@AllArgsConstructor
+/**
+ * A server the client sends requests to, with the load the client currently puts on it.
+ * <p>
+ * The load is fed by the requests themselves: the number of requests waiting for a response and a moving average
+ * of their latencies, which a {@link LoadBalancer} reads to pick the server of the next request. Both are updated
+ * without locking, concurrent latency samples may overwrite each other.
+ */
 public class Endpoint {
+    /**
+     * time constant of the latency average, a sample taken this long after the previous one weighs 63%
+     */
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    /**
+     * latency recorded for a request failing without a response, so that a server refusing connections quickly
+     * does not look fast
+     */
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @Getter
+    @Setter
     private String url;
 
+    @Getter
+    @Setter
     private AtomicBoolean isDown;
+
+    /**
+     * circuit breaker fed by the outcomes of the requests sent to the server, null when not configured
+     */
+    @Getter
+    @Setter
+    private CircuitBreaker circuitBreaker;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile long latencyNanos;
+
+    private volatile long lastSampleNanos = System.nanoTime();
+
+    public Endpoint(String url, AtomicBoolean isDown) {
+        this.url = url;
+        this.isDown = isDown;
+    }
+
+    /**
+     * Whether requests may be sent to the server: it is not flagged down by the health check and its circuit
+     * breaker is not open.
+     */
+    public boolean isAvailable() {
+        CircuitBreaker breaker = circuitBreaker;
+        return !isDown.get() && (breaker == null || breaker.isCallPermitted());
+    }
+
+    /**
+     * Record a request sent to the server.
+     *
+     * @return the start time of the request, to pass to {@link #requestCompleted(long, boolean)}.
+     */
+    public long requestStarted() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record the completion of a request and add its latency to the average.
+     * <p>
+     * Samples are weighted by the time elapsed since the previous one rather than by their count, so that a burst
+     * of requests delayed by a pause of the client does not mark the server slow. The first sample and failures
+     * slower than the average replace it at once.
+     *
+     * @param startNanos the start time returned by {@link #requestStarted()}.
+     * @param failed     whether the request failed without a response from the server.
+     */
+    public void requestCompleted(long startNanos, boolean failed) {
+        long now = System.nanoTime();
+        inFlight.decrementAndGet();
+        long sample = now - startNanos;
+        if (failed) {
+            sample = Math.max(sample, FAILURE_PENALTY_NANOS);
+        }
+        long latency = latencyNanos;
+        double weight = decayWeight(now);
+        double previous = latency * weight;
+        if (failed || latency == 0) {
+            latencyNanos = (long) Math.max(previous, sample);
+        } else {
+            latencyNanos = (long) (previous + sample * (1 - weight));
+        }
+        lastSampleNanos = now;
+    }
+
+    /**
+     * Get the number of requests sent to the server and waiting for a response.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get the moving average of the request latencies, decaying towards zero while the server receives no request
+     * so that a server once slow is tried again.
+     *
+     * @return the average latency in nanoseconds, 0 before the first request.
+     */
+    public long getLatencyNanos() {
+        return (long) (latencyNanos * decayWeight(System.nanoTime()));
+    }
+
+    private double decayWeight(long now) {
+        long elapsed = now - lastSampleNanos;
+        return elapsed <= 0 ? 1 : Math.exp(-elapsed / DECAY_NANOS);
+    }
 }
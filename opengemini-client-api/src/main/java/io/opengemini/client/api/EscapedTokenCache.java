@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded concurrent cache of the escaped UTF-8 encoding of line protocol tokens.
+ * <p>
+ * Measurements, tag keys, tag values and field keys repeat across points, so {@link Point} caches their
+ * encoding and writes a cached token with a single array copy. Entries live in two generations: new entries go
+ * to the current generation, and once it holds half of the capacity it becomes the previous generation and the
+ * old previous generation is dropped. Entries read from the previous generation are moved to the current one,
+ * so tokens that keep being used survive while the others are evicted.
+ * <p>
+ * Caching a token costs an allocation, which only pays off when the token repeats. The miss ratio is evaluated
+ * about every half capacity lookups: when more than {@link #MAX_MISS_RATIO} of them missed, the tokens are
+ * mostly unique, such as ids in tag values, and only one in {@link #SAMPLED_ADMISSION} missing tokens is admitted
+ * until the lookups hit enough again. Tokens which are not admitted are escaped in place by the caller.
+ */
+public final class EscapedTokenCache {
+    /**
+     * Tokens longer than this are escaped on every use rather than cached.
+     */
+    public static final int MAX_TOKEN_LENGTH = 256;
+
+    /**
+     * Share of missed lookups during a generation above which missing tokens are only sampled for caching.
+     */
+    public static final double MAX_MISS_RATIO = 0.75;
+
+    /**
+     * One in this many missing tokens is cached while the miss ratio is above {@link #MAX_MISS_RATIO}.
+     */
+    public static final int SAMPLED_ADMISSION = 16;
+
+    private final int generationCapacity;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder rejections = new LongAdder();
+
+    private long lookupsAtEvaluation;
+
+    private long missesAtEvaluation;
+
+    private volatile boolean sampling;
+
+    private volatile Map<String, byte[]> current = new ConcurrentHashMap<>();
+
+    private volatile Map<String, byte[]> previous = new ConcurrentHashMap<>();
+
+    /**
+     * Create a cache.
+     *
+     * @param capacity the maximum number of cached tokens.
+     */
+    public EscapedTokenCache(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.generationCapacity = capacity / 2;
+    }
+
+    /**
+     * Get the cached encoding of a token.
+     *
+     * @param token the token as given by the user.
+     * @return the escaped UTF-8 bytes, or null when the token is not cached.
+     */
+    public byte[] get(String token) {
+        byte[] encoded = current.get(token);
+        if (encoded == null) {
+            encoded = previous.get(token);
+            if (encoded != null) {
+                put(token, encoded);
+            }
+        }
+        if (encoded != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        // evaluating on a random draw rather than a shared count keeps lookups free of contended writes
+        if (ThreadLocalRandom.current().nextInt(generationCapacity) == 0) {
+            evaluateSampling();
+        }
+        return encoded;
+    }
+
+    /**
+     * Check whether a token missing from the cache should be encoded and cached.
+     *
+     * @return false when the token should be escaped in place instead, while most lookups miss.
+     */
+    public boolean admits() {
+        if (!sampling || ThreadLocalRandom.current().nextInt(SAMPLED_ADMISSION) == 0) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Cache the encoding of a token.
+     *
+     * @param token   the token as given by the user.
+     * @param encoded the escaped UTF-8 bytes, must not be modified afterwards.
+     */
+    public void put(String token, byte[] encoded) {
+        Map<String, byte[]> generation = current;
+        generation.put(token, encoded);
+        if (generation.size() >= generationCapacity) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(Map<String, byte[]> full) {
+        if (current != full) {
+            // rotated by another thread already
+            return;
+        }
+        long dropped = 0;
+        for (String token : previous.keySet()) {
+            if (!full.containsKey(token)) {
+                dropped++;
+            }
+        }
+        evictions.add(dropped);
+        previous = full;
+        current = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Turn sampling on or off from the miss ratio of the lookups since the last evaluation, whether or not the
+     * cache rotated meanwhile: while sampling, admissions are too rare to fill a generation soon, and lookups
+     * which all hit never fill it.
+     */
+    private synchronized void evaluateSampling() {
+        long missCount = misses.sum();
+        long lookupCount = hits.sum() + missCount;
+        long windowLookups = lookupCount - lookupsAtEvaluation;
+        if (windowLookups < generationCapacity / 2) {
+            // too few lookups to tell
+            return;
+        }
+        sampling = missCount - missesAtEvaluation > windowLookups * MAX_MISS_RATIO;
+        lookupsAtEvaluation = lookupCount;
+        missesAtEvaluation = missCount;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the number of missing tokens which were escaped in place rather than cached.
+     */
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * Get the number of cached tokens, tokens present in both generations are counted twice.
+     */
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    /**
+     * Drop every cached token, the counters are kept.
+     */
+    public synchronized void clear() {
+        current = new ConcurrentHashMap<>();
+        previous = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * HealthCheckConfig configures the probes flagging down the servers that do not answer a ping, which are avoided
+ * by the following requests while other servers are up. Servers are only probed when the client has more than one.
+ */
+@Getter
+@Setter
+public class HealthCheckConfig {
+    /**
+     * Interval delay between two probes of a server that is up. (unit: ms)
+     */
+    private int interval = 10000;
+
+    /**
+     * DownInterval delay between two probes of a server that is down, so that it is used again soon after it
+     * recovers. (unit: ms)
+     */
+    private int downInterval = 1000;
+
+    /**
+     * Jitter maximum deviation of every delay as a fraction of it, spreading the probes of many clients.
+     */
+    private double jitter = 0.2;
+
+    /**
+     * Timeout delay after which a probe without answer flags the server down. (unit: ms)
+     */
+    private int timeout = 2000;
+}
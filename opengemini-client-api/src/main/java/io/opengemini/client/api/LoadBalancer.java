@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import java.util.List;
+
+/**
+ * Picks the server each request is sent to.
+ * <p>
+ * It is called for every request, from any thread, and must not block. {@link LoadBalancers} holds the built-in
+ * strategies.
+ */
+@FunctionalInterface
+public interface LoadBalancer {
+    /**
+     * Select the server of the next request.
+     *
+     * @param endpoints the configured servers, never empty, those not {@link Endpoint#isAvailable() available}
+     *                  should be avoided while others are.
+     * @return one of the given endpoints.
+     */
+    Endpoint select(List<Endpoint> endpoints);
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Load balancing strategies weighing the servers by the load the client puts on them.
+ * <p>
+ * They only read the per server counters of {@link Endpoint} and draw random numbers from the calling thread, so
+ * selecting a server shares no state written by other selections. Servers that are not
+ * {@link Endpoint#isAvailable() available} are only selected when no server is.
+ */
+public final class LoadBalancers {
+    private static final LoadBalancer POWER_OF_TWO_CHOICES = LoadBalancers::selectOfTwoChoices;
+
+    private static final LoadBalancer LEAST_OUTSTANDING = endpoints -> selectCheapest(endpoints,
+            Endpoint::getInFlight);
+
+    private static final LoadBalancer EWMA_LATENCY = endpoints -> selectCheapest(endpoints,
+            endpoint -> (endpoint.getLatencyNanos() + 1.0) * (endpoint.getInFlight() + 1));
+
+    private LoadBalancers() {
+    }
+
+    /**
+     * Pick two servers at random and send to the one with fewer requests in flight.
+     */
+    public static LoadBalancer powerOfTwoChoices() {
+        return POWER_OF_TWO_CHOICES;
+    }
+
+    /**
+     * Send to the server with the fewest requests in flight.
+     */
+    public static LoadBalancer leastOutstanding() {
+        return LEAST_OUTSTANDING;
+    }
+
+    /**
+     * Send to the server with the lowest moving average of latency, weighted by the requests in flight so that the
+     * fastest server is not sent every request until its latency rises.
+     */
+    public static LoadBalancer ewmaLatency() {
+        return EWMA_LATENCY;
+    }
+
+    private static Endpoint selectOfTwoChoices(List<Endpoint> endpoints) {
+        int size = endpoints.size();
+        if (size == 1) {
+            return endpoints.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = endpoints.get(first);
+        Endpoint b = endpoints.get(second);
+        boolean aDown = !a.isAvailable();
+        boolean bDown = !b.isAvailable();
+        if (aDown && bDown) {
+            return selectCheapest(endpoints, Endpoint::getInFlight);
+        }
+        if (aDown != bDown) {
+            return aDown ? b : a;
+        }
+        return b.getInFlight() < a.getInFlight() ? b : a;
+    }
+
+    /**
+     * Select the server of lowest cost, starting the scan at a random server so that ties are spread.
+     */
+    private static Endpoint selectCheapest(List<Endpoint> endpoints, ToDoubleFunction<Endpoint> cost) {
+        int size = endpoints.size();
+        int start = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size);
+        Endpoint best = null;
+        boolean bestDown = true;
+        double bestCost = 0;
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = endpoints.get((start + i) % size);
+            boolean down = !endpoint.isAvailable();
+            if (best != null && down && !bestDown) {
+                continue;
+            }
+            double endpointCost = cost.applyAsDouble(endpoint);
+            if (best == null || bestDown != down || endpointCost < bestCost) {
+                best = endpoint;
+                bestDown = down;
+                bestCost = endpointCost;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import java.math.BigInteger;
+
+/**
+ * NumberWriter writes the decimal form of longs and doubles into a {@link ByteSink} without allocating.
+ * <p>
+ * Longs are written two digits at a time from a table of digit pairs. Doubles are written with the shortest
+ * decimal that rounds back to the same double, found with the Schubfach algorithm from "The Schubfach way to
+ * render doubles" by Raffaello Giulietti, and laid out like {@link Double#toString(double)}: plain notation for
+ * magnitudes in [10^-3, 10^7) and computerized scientific notation otherwise.
+ * <p>
+ * A writer keeps a scratch buffer, so an instance must only be used by one thread at a time.
+ */
+public final class NumberWriter {
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    private static final byte[] LONG_MIN_VALUE = {'-', '9', '2', '2', '3', '3', '7', '2', '0', '3', '6', '8', '5',
+        '4', '7', '7', '5', '8', '0', '8'};
+
+    private static final int P = 53;
+
+    private static final int BQ_MASK = (1 << 11) - 1;
+
+    private static final long T_MASK = (1L << P - 1) - 1;
+
+    private static final long C_MIN = 1L << P - 1;
+
+    private static final int Q_MIN = -1074;
+
+    private static final long C_TINY = 3;
+
+    private static final int K_MIN = -324;
+
+    private static final int K_MAX = 292;
+
+    /**
+     * Number of decimal digits needed to round trip any double.
+     */
+    private static final int H = 17;
+
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * 126 bit approximations of 10^-k for k in [K_MIN, K_MAX], two longs of 63 bits per power.
+     */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    private static final long[] POW10 = new long[H + 1];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+        }
+        POW10[0] = 1;
+        for (int i = 1; i <= H; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+        // g = floor(10^-k 2^-r) + 1 with r chosen such that 2^125 <= 10^-k 2^-r < 2^126
+        BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            BigInteger g;
+            if (k <= 0) {
+                BigInteger pow = BigInteger.TEN.pow(-k);
+                int r = pow.bitLength() - 126;
+                g = (r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r)).add(BigInteger.ONE);
+            } else {
+                BigInteger pow = BigInteger.TEN.pow(k);
+                g = BigInteger.ONE.shiftLeft(pow.bitLength() + 125).divide(pow).add(BigInteger.ONE);
+            }
+            int index = 2 * (k - K_MIN);
+            G[index] = g.shiftRight(63).longValue();
+            G[index + 1] = g.and(mask63).longValue();
+        }
+    }
+
+    private final byte[] buf = new byte[32];
+
+    private int pos;
+
+    /**
+     * Write a long in decimal.
+     */
+    public void writeLong(ByteSink sink, long value) {
+        if (value == Long.MIN_VALUE) {
+            sink.write(LONG_MIN_VALUE, 0, LONG_MIN_VALUE.length);
+            return;
+        }
+        boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        int end = buf.length;
+        int p = end;
+        while (remaining > Integer.MAX_VALUE) {
+            long q = remaining / 100;
+            int r = (int) (remaining - q * 100);
+            remaining = q;
+            buf[--p] = DIGIT_PAIRS[2 * r + 1];
+            buf[--p] = DIGIT_PAIRS[2 * r];
+        }
+        int small = (int) remaining;
+        while (small >= 100) {
+            int q = small / 100;
+            int r = small - q * 100;
+            small = q;
+            buf[--p] = DIGIT_PAIRS[2 * r + 1];
+            buf[--p] = DIGIT_PAIRS[2 * r];
+        }
+        if (small >= 10) {
+            buf[--p] = DIGIT_PAIRS[2 * small + 1];
+            buf[--p] = DIGIT_PAIRS[2 * small];
+        } else {
+            buf[--p] = (byte) ('0' + small);
+        }
+        if (negative) {
+            buf[--p] = '-';
+        }
+        sink.write(buf, p, end - p);
+    }
+
+    /**
+     * Write a double like {@link Double#toString(double)}, using the shortest decimal that rounds back to it.
+     */
+    public void writeDouble(ByteSink sink, double value) {
+        pos = 0;
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> P - 1) & BQ_MASK;
+        if (bq == BQ_MASK) {
+            writeAscii(sink, t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+            return;
+        }
+        if (bits < 0) {
+            append('-');
+        }
+        if (bq != 0) {
+            // normal value, mq = -q
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // integers below 2^53 are their own shortest decimal
+                long f = c >> mq;
+                if (f << mq == c) {
+                    toChars(f, 0);
+                    sink.write(buf, 0, pos);
+                    return;
+                }
+            }
+            toDecimal(-mq, c, 0);
+        } else if (t != 0) {
+            // subnormal value
+            if (t < C_TINY) {
+                toDecimal(Q_MIN, 10 * t, -1);
+            } else {
+                toDecimal(Q_MIN, t, 0);
+            }
+        } else {
+            append('0');
+            append('.');
+            append('0');
+        }
+        sink.write(buf, 0, pos);
+    }
+
+    private static void writeAscii(ByteSink sink, String s) {
+        sink.writeAscii(s, 0, s.length());
+    }
+
+    /**
+     * Find the shortest decimal of c 2^q, the skeleton of figure 7 of the paper with the computations of figure 9.
+     */
+    private void toDecimal(int q, long c, int dk) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            // regular spacing
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // irregular spacing
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        int index = 2 * (k - K_MIN);
+        long g1 = G[index];
+        long g0 = G[index + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // s' = floor(s / 10), try the decimals one digit shorter first
+            long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                toChars(upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            toChars(uin ? s : t, k + dk);
+            return;
+        }
+        // both candidates round back to the double, pick the closest one, the even one on ties
+        long cmp = vb - (s + t << 1);
+        toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+    }
+
+    /**
+     * Compute rop(cp g 2^-127) where g = g1 2^63 + g0, rounding to odd.
+     */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Lay out f 10^e.
+     */
+    private void toChars(long f, int e) {
+        // 10^(len - 1) <= f < 10^len
+        int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+        if (f >= POW10[len]) {
+            len += 1;
+        }
+        // scale f to 17 digits, so that the value is 0.f 10^e
+        f *= POW10[H - len];
+        e += len;
+
+        // split f into its most significant digit h and two groups of 8 digits m and l
+        long hm = multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+        int l = (int) (f - 100_000_000L * hm);
+        int h = (int) (hm * 1_441_151_881L >>> 57);
+        int m = (int) (hm - 100_000_000L * h);
+        if (0 < e && e <= 7) {
+            plainWithoutLeadingZeros(h, m, l, e);
+        } else if (-3 < e && e <= 0) {
+            plainWithLeadingZeros(h, m, l, e);
+        } else {
+            scientific(h, m, l, e);
+        }
+    }
+
+    private void plainWithoutLeadingZeros(int h, int m, int l, int e) {
+        appendDigit(h);
+        int y = y(m);
+        int t;
+        int i = 1;
+        for (; i < e; ++i) {
+            t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+        append('.');
+        for (; i <= 8; ++i) {
+            t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+        lowDigits(l);
+    }
+
+    private void plainWithLeadingZeros(int h, int m, int l, int e) {
+        appendDigit(0);
+        append('.');
+        for (; e < 0; ++e) {
+            appendDigit(0);
+        }
+        appendDigit(h);
+        append8Digits(m);
+        lowDigits(l);
+    }
+
+    private void scientific(int h, int m, int l, int e) {
+        appendDigit(h);
+        append('.');
+        append8Digits(m);
+        lowDigits(l);
+        exponent(e - 1);
+    }
+
+    private void lowDigits(int l) {
+        if (l != 0) {
+            append8Digits(l);
+        }
+        removeTrailingZeros();
+    }
+
+    /**
+     * Append 8 digits left to right, with the algorithm 1 of "Faster Integer Formatting" by Ulf Adams.
+     */
+    private void append8Digits(int m) {
+        int y = y(m);
+        for (int i = 0; i < 8; ++i) {
+            int t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+    }
+
+    private void removeTrailingZeros() {
+        while (buf[pos - 1] == '0') {
+            --pos;
+        }
+        // keep the zero right after the decimal point
+        if (buf[pos - 1] == '.') {
+            ++pos;
+        }
+    }
+
+    /**
+     * Compute floor((a + 1) 2^28 / 10^8) - 1.
+     */
+    private static int y(int a) {
+        return (int) (multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    private void exponent(int e) {
+        append('E');
+        if (e < 0) {
+            append('-');
+            e = -e;
+        }
+        if (e < 10) {
+            appendDigit(e);
+            return;
+        }
+        int d;
+        if (e >= 100) {
+            // floor(e / 100) = floor(1311 e / 2^17)
+            d = e * 1_311 >>> 17;
+            appendDigit(d);
+            e -= 100 * d;
+        }
+        // floor(e / 10) = floor(103 e / 2^10)
+        d = e * 103 >>> 10;
+        appendDigit(d);
+        appendDigit(e - 10 * d);
+    }
+
+    private void append(int c) {
+        buf[pos++] = (byte) c;
+    }
+
+    private void appendDigit(int d) {
+        buf[pos++] = (byte) ('0' + d);
+    }
+
+    /**
+     * floor(log10(2^e)).
+     */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * floor(log10(3/4 2^e)).
+     */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * floor(log2(10^e)).
+     */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * The high 64 bits of the 128 bit product of x and y, Math.multiplyHigh is not available on Java 8.
+     */
+    private static long multiplyHigh(long x, long y) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.opengemini.client.api;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -74,6 +75,27 @@ public interface OpenGeminiAsyncClient extends AutoCloseable {
      */
     CompletableFuture<QueryResult> query(Query query);
 
+    /**
+     * Execute a query against a database, passing the rows of the result to a consumer as the response is decoded
+     * instead of binding the whole result, so that large results are read without holding every row.
+     *
+     * @param query    the query to execute.
+     * @param consumer the consumer of the rows.
+     * @return completes once every row is consumed, or fails with an OpenGeminiException when the query or a
+     * statement of it fails.
+     */
+    CompletableFuture<Void> query(Query query, QueryRowConsumer consumer);
+
+    /**
+     * Execute a query against a database, decoding the result into typed column vectors rather than rows of
+     * boxed values, so that large analytic results take a fraction of the heap of a {@link QueryResult}.
+     *
+     * @param query the query to execute.
+     * @return the series of all the statements of the query, or fails with an OpenGeminiException when the query
+     * or a statement of it fails.
+     */
+    CompletableFuture<List<ColumnarSeries>> queryColumnar(Query query);
+
     /**
      * Write a single point to the database.
      *
@@ -108,6 +130,16 @@ public interface OpenGeminiAsyncClient extends AutoCloseable {
      */
     CompletableFuture<Void> write(String database, String retentionPolicy, List<Point> points);
 
+    /**
+     * Write points from an unbounded source to the database. The iterator is consumed incrementally and the
+     * points are sent in requests of bounded size, so the memory used does not depend on the number of points.
+     *
+     * @param database        the name of the database.
+     * @param retentionPolicy the name of the retention policy.
+     * @param points          the points to write.
+     */
+    CompletableFuture<Void> write(String database, String retentionPolicy, Iterator<Point> points);
+
     /**
      * Ping the OpenGemini server
      */
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * ParallelEncodingConfig configures the parallel line protocol encoding of large writes. Points of a write are
+ * split into segments encoded concurrently, then joined into the request body.
+ */
+@Getter
+@Setter
+public class ParallelEncodingConfig {
+    /**
+     * Pool running the segment encodings, the common pool when not set.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Threshold minimum number of points of a write for it to be encoded in parallel, smaller writes are encoded
+     * on the calling thread.
+     */
+    private int threshold = 50_000;
+
+    /**
+     * SegmentSize number of points encoded by one task.
+     */
+    private int segmentSize = 10_000;
+}
@@ -20,25 +20,94 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.SortedMap;
 
 @Getter
 @Setter
 public class Point {
 
-    private static final char[] MEASUREMENT_ESCAPE_CHARACTERS = new char[]{',', ' '};
-    private static final char[] TAG_KEY_ESCAPE_CHARACTERS = new char[]{',', '=', ' '};
-    private static final char[] TAG_VALUE_ESCAPE_CHARACTERS = new char[]{',', '=', ' '};
-    private static final char[] FIELD_KEY_ESCAPE_CHARACTERS = new char[]{',', '=', ' '};
-    private static final char[] FIELD_VALUE_ESCAPE_CHARACTERS = new char[]{'"', '\\'};
+    private static final int ESCAPE_MEASUREMENT = 1;
+    private static final int ESCAPE_KEY_OR_TAG_VALUE = 2;
+    private static final int ESCAPE_FIELD_VALUE = 4;
 
-    private static final ThreadLocal<StringBuilder> SB_CACHE = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+    /**
+     * Escape classes of every ASCII character, characters outside of ASCII are never escaped.
+     */
+    private static final byte[] ESCAPE_TABLE = new byte[128];
+
+    static {
+        ESCAPE_TABLE[','] = ESCAPE_MEASUREMENT | ESCAPE_KEY_OR_TAG_VALUE;
+        ESCAPE_TABLE[' '] = ESCAPE_MEASUREMENT | ESCAPE_KEY_OR_TAG_VALUE;
+        ESCAPE_TABLE['='] = ESCAPE_KEY_OR_TAG_VALUE;
+        ESCAPE_TABLE['"'] = ESCAPE_FIELD_VALUE;
+        ESCAPE_TABLE['\\'] = ESCAPE_FIELD_VALUE;
+    }
+
+    private static final ThreadLocal<ByteArraySink> SINK_CACHE =
+            ThreadLocal.withInitial(() -> new ByteArraySink(1024));
+
+    private static final EscapedTokenCache MEASUREMENT_CACHE = new EscapedTokenCache(1024);
+
+    private static final EscapedTokenCache KEY_CACHE = new EscapedTokenCache(16 * 1024);
+
+    private static final ThreadLocal<ByteArraySink> TOKEN_SINK_CACHE =
+            ThreadLocal.withInitial(() -> new ByteArraySink(EscapedTokenCache.MAX_TOKEN_LENGTH * 4));
+
+    private static final ThreadLocal<NumberWriter> NUMBER_WRITER = ThreadLocal.withInitial(NumberWriter::new);
+
+    private static final ThreadLocal<String[]> TAG_KEYS = ThreadLocal.withInitial(() -> new String[16]);
 
     private String measurement;
     private Precision precision = Precision.PRECISIONNANOSECOND;
     private long time;
     private Map<String, String> tags;
     private Map<String, Object> fields;
+    private PrimitiveFields primitiveFields;
+
+    /**
+     * Add a double field without boxing it, non-finite values are skipped like in the fields map.
+     *
+     * @param key   the field key, it should not be present in the fields map as well.
+     * @param value the field value.
+     * @return this point.
+     */
+    public Point addField(String key, double value) {
+        primitiveFields().add(key, value);
+        return this;
+    }
+
+    /**
+     * Add an integer field without boxing it.
+     *
+     * @param key   the field key, it should not be present in the fields map as well.
+     * @param value the field value.
+     * @return this point.
+     */
+    public Point addField(String key, long value) {
+        primitiveFields().add(key, value);
+        return this;
+    }
+
+    /**
+     * Add a boolean field without boxing it.
+     *
+     * @param key   the field key, it should not be present in the fields map as well.
+     * @param value the field value.
+     * @return this point.
+     */
+    public Point addField(String key, boolean value) {
+        primitiveFields().add(key, value);
+        return this;
+    }
+
+    private PrimitiveFields primitiveFields() {
+        if (primitiveFields == null) {
+            primitiveFields = new PrimitiveFields();
+        }
+        return primitiveFields;
+    }
 
     /**
      * Calculate the line protocol string for this point
@@ -48,40 +117,165 @@ public class Point {
      * * OpenGemini write data line protocol doc</a>
      */
     public String lineProtocol() {
-        StringBuilder sb = SB_CACHE.get();
-        sb.setLength(0);
-        appendMeasurement(sb);
-        appendTags(sb);
-        int validFields = appendFields(sb);
-        if (validFields <= 0) {
+        ByteArraySink sink = SINK_CACHE.get();
+        sink.reset();
+        if (!writeTo(sink)) {
             return "";
         }
-        appendTimestamp(sb);
-        return sb.toString();
+        return sink.toString();
+    }
+
+    /**
+     * Write the line protocol of this point as UTF-8 bytes, without new line.
+     *
+     * @param sink the sink receiving the bytes.
+     * @return false if the point has no fields to write, in which case nothing is written.
+     */
+    public boolean writeTo(ByteSink sink) {
+        return writeTo(sink, Precision.PRECISIONNANOSECOND);
+    }
+
+    /**
+     * Write the line protocol of this point as UTF-8 bytes, without new line, with the timestamp in the
+     * precision of the write request. A timestamp in a precision coarser than the one of the write request is
+     * converted exactly, one in a finer precision is truncated.
+     *
+     * @param sink           the sink receiving the bytes.
+     * @param writePrecision the precision of the write request the point is part of.
+     * @return false if the point has no fields to write, in which case nothing is written.
+     */
+    public boolean writeTo(ByteSink sink, Precision writePrecision) {
+        return writeTo(sink, writePrecision, false);
     }
 
-    private void appendMeasurement(StringBuilder sb) {
-        appendWithEscape(sb, measurement, MEASUREMENT_ESCAPE_CHARACTERS);
+    /**
+     * Write the line protocol of this point as UTF-8 bytes, without new line, with the timestamp in the
+     * precision of the write request.
+     *
+     * @param sink           the sink receiving the bytes.
+     * @param writePrecision the precision of the write request the point is part of.
+     * @param sortTags       write the tags in ascending key order instead of the iteration order of the tag map.
+     * @return false if the point has no fields to write, in which case nothing is written.
+     */
+    public boolean writeTo(ByteSink sink, Precision writePrecision, boolean sortTags) {
+        if (!hasValidField()) {
+            return false;
+        }
+        writeToken(sink, measurement, ESCAPE_MEASUREMENT, MEASUREMENT_CACHE);
+        writeTags(sink, sortTags);
+        NumberWriter numbers = NUMBER_WRITER.get();
+        writeFields(sink, numbers);
+        writeTimestamp(sink, numbers, writePrecision);
+        return true;
     }
 
-    private void appendTags(StringBuilder sb) {
+    private boolean hasValidField() {
+        if (fields != null) {
+            for (Object value : fields.values()) {
+                if (value != null && !isNotFinite(value)) {
+                    return true;
+                }
+            }
+        }
+        if (primitiveFields != null) {
+            for (int i = 0; i < primitiveFields.size(); i++) {
+                if (primitiveFields.isWritable(i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void writeTags(ByteSink sink, boolean sortTags) {
         if (tags != null && !tags.isEmpty()) {
-            for (Map.Entry<String, String> tag : tags.entrySet()) {
-                sb.append(',');
-                appendWithEscape(sb, tag.getKey(), TAG_KEY_ESCAPE_CHARACTERS);
-                sb.append('=');
-                appendWithEscape(sb, tag.getValue(), TAG_VALUE_ESCAPE_CHARACTERS);
+            if (sortTags && tags.size() > 1 && !isNaturallyOrdered(tags)) {
+                writeSortedTags(sink);
+            } else {
+                for (Map.Entry<String, String> tag : tags.entrySet()) {
+                    writeTag(sink, tag.getKey(), tag.getValue());
+                }
+            }
+        }
+        sink.write(' ');
+    }
+
+    private void writeSortedTags(ByteSink sink) {
+        int size = tags.size();
+        String[] keys = TAG_KEYS.get();
+        if (keys.length < size) {
+            keys = new String[Math.max(size, keys.length * 2)];
+            TAG_KEYS.set(keys);
+        }
+        int i = 0;
+        for (String key : tags.keySet()) {
+            keys[i++] = key;
+        }
+        try {
+            Arrays.sort(keys, 0, size);
+            for (i = 0; i < size; i++) {
+                writeTag(sink, keys[i], tags.get(keys[i]));
             }
+        } finally {
+            Arrays.fill(keys, 0, size, null);
+        }
+    }
+
+    private static boolean isNaturallyOrdered(Map<String, String> tags) {
+        return tags instanceof SortedMap && ((SortedMap<String, String>) tags).comparator() == null;
+    }
+
+    private static void writeTag(ByteSink sink, String key, String value) {
+        sink.write(',');
+        writeToken(sink, key, ESCAPE_KEY_OR_TAG_VALUE, KEY_CACHE);
+        sink.write('=');
+        writeToken(sink, value, ESCAPE_KEY_OR_TAG_VALUE, KEY_CACHE);
+    }
+
+    private void writeFields(ByteSink sink, NumberWriter numbers) {
+        boolean firstField = true;
+        if (fields != null) {
+            firstField = writeMapFields(sink, numbers);
+        }
+        if (primitiveFields != null) {
+            writePrimitiveFields(sink, numbers, firstField);
         }
-        sb.append(' ');
     }
 
-    private int appendFields(StringBuilder sb) {
-        int validFields = 0;
-        if (fields == null || fields.isEmpty()) {
-            return validFields;
+    private void writePrimitiveFields(ByteSink sink, NumberWriter numbers, boolean firstField) {
+        for (int i = 0; i < primitiveFields.size(); i++) {
+            if (!primitiveFields.isWritable(i)) {
+                continue;
+            }
+            if (firstField) {
+                firstField = false;
+            } else {
+                sink.write(',');
+            }
+            writeToken(sink, primitiveFields.key(i), ESCAPE_KEY_OR_TAG_VALUE, KEY_CACHE);
+            sink.write('=');
+            switch (primitiveFields.type(i)) {
+                case DOUBLE:
+                    numbers.writeDouble(sink, primitiveFields.doubleValue(i));
+                    break;
+                case LONG:
+                    numbers.writeLong(sink, primitiveFields.longValue(i));
+                    sink.write('i');
+                    break;
+                default:
+                    String bool = primitiveFields.booleanValue(i) ? "true" : "false";
+                    sink.writeAscii(bool, 0, bool.length());
+                    break;
+            }
         }
+    }
 
+    /**
+     * Write the fields of the fields map.
+     *
+     * @return whether no field was written.
+     */
+    private boolean writeMapFields(ByteSink sink, NumberWriter numbers) {
         boolean firstField = true;
         for (Map.Entry<String, Object> entry : fields.entrySet()) {
             Object fieldValue = entry.getValue();
@@ -92,36 +286,44 @@ public class Point {
             if (firstField) {
                 firstField = false;
             } else {
-                sb.append(',');
+                sink.write(',');
             }
 
-            String fieldKey = entry.getKey();
-            appendWithEscape(sb, fieldKey, FIELD_KEY_ESCAPE_CHARACTERS);
-            sb.append('=');
+            writeToken(sink, entry.getKey(), ESCAPE_KEY_OR_TAG_VALUE, KEY_CACHE);
+            sink.write('=');
             if (fieldValue instanceof Number) {
-                if (fieldValue instanceof Double || fieldValue instanceof Float || fieldValue instanceof BigDecimal) {
-                    sb.append(fieldValue);
+                if (fieldValue instanceof Double) {
+                    numbers.writeDouble(sink, (Double) fieldValue);
+                } else if (fieldValue instanceof Float || fieldValue instanceof BigDecimal) {
+                    String number = fieldValue.toString();
+                    sink.writeAscii(number, 0, number.length());
+                } else if (fieldValue instanceof Long || fieldValue instanceof Integer
+                        || fieldValue instanceof Short || fieldValue instanceof Byte) {
+                    numbers.writeLong(sink, ((Number) fieldValue).longValue());
+                    sink.write('i');
                 } else {
-                    sb.append(fieldValue).append('i');
+                    String number = fieldValue.toString();
+                    sink.writeUtf8(number, 0, number.length());
+                    sink.write('i');
                 }
             } else if (fieldValue instanceof String) {
-                String stringValue = (String) fieldValue;
-                sb.append('"');
-                appendWithEscape(sb, stringValue, FIELD_VALUE_ESCAPE_CHARACTERS);
-                sb.append('"');
+                sink.write('"');
+                writeWithEscape(sink, (String) fieldValue, ESCAPE_FIELD_VALUE);
+                sink.write('"');
             } else {
-                sb.append(fieldValue);
+                String stringValue = fieldValue.toString();
+                sink.writeUtf8(stringValue, 0, stringValue.length());
             }
-            validFields++;
         }
-
-        return validFields;
+        return firstField;
     }
 
-    private void appendTimestamp(StringBuilder sb) {
-        sb.append(' ');
+    private void writeTimestamp(ByteSink sink, NumberWriter numbers, Precision writePrecision) {
+        sink.write(' ');
         if (time != 0 && precision != null) {
-            sb.append(precision.getTimeUnit().toNanos(time));
+            long timestamp = precision == writePrecision ? time
+                    : writePrecision.getTimeUnit().convert(time, precision.getTimeUnit());
+            numbers.writeLong(sink, timestamp);
         }
     }
 
@@ -130,22 +332,71 @@ public class Point {
         return lineProtocol();
     }
 
-    private static void appendWithEscape(StringBuilder sb, String origin, char[] escapeChars) {
-        for (char c : origin.toCharArray()) {
-            if (shouldEscape(c, escapeChars)) {
-                sb.append('\\');
+    /**
+     * The cache of escaped measurement names shared by all points.
+     */
+    public static EscapedTokenCache measurementCache() {
+        return MEASUREMENT_CACHE;
+    }
+
+    /**
+     * The cache of escaped tag keys, tag values and field keys shared by all points.
+     */
+    public static EscapedTokenCache keyCache() {
+        return KEY_CACHE;
+    }
+
+    /**
+     * Write a repeating token through the cache of escaped tokens, escaping and caching it on a miss.
+     */
+    private static void writeToken(ByteSink sink, String token, int escapeClass, EscapedTokenCache cache) {
+        if (token.length() > EscapedTokenCache.MAX_TOKEN_LENGTH) {
+            writeWithEscape(sink, token, escapeClass);
+            return;
+        }
+        byte[] encoded = cache.get(token);
+        if (encoded == null) {
+            if (!cache.admits()) {
+                writeWithEscape(sink, token, escapeClass);
+                return;
             }
-            sb.append(c);
+            ByteArraySink tokenSink = TOKEN_SINK_CACHE.get();
+            tokenSink.reset();
+            writeWithEscape(tokenSink, token, escapeClass);
+            encoded = tokenSink.toByteArray();
+            cache.put(token, encoded);
         }
+        sink.write(encoded, 0, encoded.length);
     }
 
-    private static boolean shouldEscape(char c, char[] escapeChars) {
-        for (char escapeChar : escapeChars) {
-            if (escapeChar == c) {
-                return true;
+    /**
+     * Write a token with the characters of the given escape class prefixed by a backslash. Tokens are scanned
+     * first: the common case of an ASCII token without anything to escape is copied in bulk.
+     */
+    private static void writeWithEscape(ByteSink sink, String origin, int escapeClass) {
+        int len = origin.length();
+        int i = 0;
+        while (i < len) {
+            char c = origin.charAt(i);
+            if (c >= 0x80 || (ESCAPE_TABLE[c] & escapeClass) != 0) {
+                break;
             }
+            i++;
         }
-        return false;
+        sink.writeAscii(origin, 0, i);
+        if (i == len) {
+            return;
+        }
+        int runStart = i;
+        for (; i < len; i++) {
+            char c = origin.charAt(i);
+            if (c < 0x80 && (ESCAPE_TABLE[c] & escapeClass) != 0) {
+                sink.writeUtf8(origin, runStart, i);
+                sink.write('\\');
+                runStart = i;
+            }
+        }
+        sink.writeUtf8(origin, runStart, len);
     }
 
     private static boolean isNotFinite(final Object value) {
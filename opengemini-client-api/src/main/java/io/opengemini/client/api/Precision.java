@@ -45,4 +45,11 @@ public enum Precision {
         this.timeUnit = timeUnit;
         this.epoch = epoch;
     }
+
+    /**
+     * Check whether timestamps in this precision have a finer resolution than in the other one.
+     */
+    public boolean isFinerThan(Precision other) {
+        return timeUnit.compareTo(other.timeUnit) < 0;
+    }
 }
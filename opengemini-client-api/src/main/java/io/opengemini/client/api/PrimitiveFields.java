@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import java.util.Arrays;
+
+/**
+ * PrimitiveFields the fields of a point stored without boxing.
+ * <p>
+ * Keys, types and values are kept in parallel arrays, doubles are stored as their raw long bits and booleans as
+ * 0 or 1. Adding a key that is already present replaces its value.
+ */
+public final class PrimitiveFields {
+
+    public enum Type {
+        DOUBLE,
+        LONG,
+        BOOLEAN
+    }
+
+    private String[] keys;
+
+    private Type[] types;
+
+    private long[] values;
+
+    private int size;
+
+    public PrimitiveFields() {
+        this(4);
+    }
+
+    /**
+     * Create primitive fields.
+     *
+     * @param capacity the expected number of fields.
+     */
+    public PrimitiveFields(int capacity) {
+        int initial = Math.max(capacity, 1);
+        this.keys = new String[initial];
+        this.types = new Type[initial];
+        this.values = new long[initial];
+    }
+
+    public void add(String key, double value) {
+        put(key, Type.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    public void add(String key, long value) {
+        put(key, Type.LONG, value);
+    }
+
+    public void add(String key, boolean value) {
+        put(key, Type.BOOLEAN, value ? 1 : 0);
+    }
+
+    private void put(String key, Type type, long value) {
+        int index = indexOf(key);
+        if (index < 0) {
+            if (size == keys.length) {
+                int capacity = size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                types = Arrays.copyOf(types, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            index = size++;
+            keys[index] = key;
+        }
+        types[index] = type;
+        values[index] = value;
+    }
+
+    /**
+     * Get the index of a field.
+     *
+     * @param key the field key.
+     * @return the index of the field, or -1 when there is no field with this key.
+     */
+    public int indexOf(String key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String key(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    public Type type(int index) {
+        checkIndex(index);
+        return types[index];
+    }
+
+    public double doubleValue(int index) {
+        checkIndex(index);
+        return Double.longBitsToDouble(values[index]);
+    }
+
+    public long longValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    public boolean booleanValue(int index) {
+        checkIndex(index);
+        return values[index] != 0;
+    }
+
+    /**
+     * Check whether the field at the given index is a finite double, a long or a boolean.
+     */
+    public boolean isWritable(int index) {
+        return type(index) != Type.DOUBLE || Double.isFinite(doubleValue(index));
+    }
+
+    /**
+     * Remove every field, keeping the arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of size " + size);
+        }
+    }
+}
@@ -49,6 +49,11 @@ public class Query {
 
     private Map<String, Object> attributes = new HashMap<>();
 
+    /*
+     * the format of the query response, the format of the client configuration when not set
+     */
+    private ResponseFormat responseFormat;
+
     public Query(String command) {
         this.command = command;
     }
@@ -66,6 +71,11 @@ public class Query {
         this.precision = precision;
     }
 
+    public Query(String command, String database, String retentionPolicy, Precision precision,
+                 Map<String, Object> attributes) {
+        this(command, database, retentionPolicy, precision, attributes, null);
+    }
+
     public void setAttribute(String key, Object value) {
         attributes.put(key, value);
     }
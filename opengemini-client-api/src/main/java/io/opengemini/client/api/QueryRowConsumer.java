@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import java.util.List;
+
+/**
+ * Consumer of the rows of a query result, called for each row as the response is decoded.
+ */
+@FunctionalInterface
+public interface QueryRowConsumer {
+    /**
+     * Consume a row.
+     *
+     * @param series the series of the row: its name, tags and columns, its values are not set.
+     * @param row    the values of the row in the order of the columns. The list is reused for the next rows and
+     *               must be copied to be kept.
+     */
+    void accept(Series series, List<Object> row);
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import lombok.Getter;
+
+/**
+ * ResponseFormat format the server encodes query responses in.
+ */
+@Getter
+public enum ResponseFormat {
+    JSON("application/json"),
+
+    /**
+     * MessagePack, cheaper to decode than json, times being encoded as timestamps rather than RFC3339 text.
+     */
+    MSGPACK("application/x-msgpack");
+
+    private final String contentType;
+
+    ResponseFormat(String contentType) {
+        this.contentType = contentType;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RetryConfig configures the retries of writes and read queries failing without an answer from the server or
+ * with a 5xx status. Every retry goes to the next server and waits for an exponential backoff with full jitter.
+ * Retries draw from a token bucket shared by all requests of a client, so that they cannot multiply the load of
+ * an overloaded server.
+ */
+@Getter
+@Setter
+public class RetryConfig {
+    /**
+     * MaxAttempts maximum number of attempts of a request, the first one included.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * InitialBackoff upper bound of the delay before the first retry. (unit: ms)
+     */
+    private int initialBackoff = 100;
+
+    /**
+     * MaxBackoff upper bound of the delay before any retry. (unit: ms)
+     */
+    private int maxBackoff = 2000;
+
+    /**
+     * Multiplier growth of the backoff bound between two retries.
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * BudgetCapacity maximum number of retries that can be made in a burst.
+     */
+    private int budgetCapacity = 100;
+
+    /**
+     * BudgetRefillRate number of retries added to the budget every second.
+     */
+    private double budgetRefillRate = 10;
+}
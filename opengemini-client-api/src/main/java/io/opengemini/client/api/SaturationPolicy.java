@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+/**
+ * SaturationPolicy behavior of a request arriving when the maximum number of in-flight requests is reached.
+ */
+public enum SaturationPolicy {
+    /**
+     * Block the calling thread until a request completes, or until the block timeout elapses. The requests sent
+     * by the threads of the client, such as batch flushes, retries and the continuations of a write, never
+     * block: they are queued as with {@link #QUEUE}.
+     */
+    BLOCK,
+
+    /**
+     * Fail the request at once.
+     */
+    FAIL_FAST,
+
+    /**
+     * Queue the request, it is sent once a request completes. The request fails at once when the queue is full.
+     */
+    QUEUE
+}
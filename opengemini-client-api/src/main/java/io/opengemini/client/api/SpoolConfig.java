@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * SpoolConfig configures the on-disk spool of line protocol writes. Writes that cannot reach any server are
+ * appended to memory-mapped segment files in the directory, and replayed in order once a server is up again.
+ */
+@Getter
+@Setter
+public class SpoolConfig {
+    /**
+     * Directory holding the segment files, created when missing. It must not be shared by two clients.
+     */
+    private String directory;
+
+    /**
+     * SegmentSize size in bytes of every segment file, a write larger than a segment cannot be spooled.
+     */
+    private int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * MaxSize maximum size in bytes of all segment files, the oldest segment is dropped to make room for a new
+     * one beyond it.
+     */
+    private long maxSize = 1024L * 1024 * 1024;
+
+    /**
+     * ReplayInterval delay between two attempts to replay the spooled writes. (unit: ms)
+     */
+    private int replayInterval = 1000;
+
+    /**
+     * MaxReplayAttempts maximum number of replays of a spooled write the server answers with an error, after
+     * which the write is given up so that the writes spooled after it are replayed. 0, the default, to replay it
+     * until the server accepts it, however long an outage answered with 5xx statuses lasts.
+     */
+    private int maxReplayAttempts;
+
+    /**
+     * DeadLetterHandler receives the lines of the spooled writes which are given up: the writes dropped with the
+     * oldest segment to make room, the writes the server rejects when they are replayed, and the writes still
+     * failing after the max replay attempts. May be null.
+     */
+    private DeadLetterHandler deadLetterHandler;
+}
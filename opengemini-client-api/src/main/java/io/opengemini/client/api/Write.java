@@ -19,6 +19,7 @@ package io.opengemini.client.api;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,6 +29,7 @@ public class Write {
     private String database;
     private String retentionPolicy;
     private String lineProtocol;
+    private byte[] body;
     private String precision;
 
     private Map<String, Object> attributes = new HashMap<>();
@@ -39,6 +41,43 @@ public class Write {
         this.precision = precision;
     }
 
+    /**
+     * Create a write carrying the line protocol as UTF-8 bytes, its string form is only built on demand.
+     */
+    public Write(String database, String retentionPolicy, byte[] body, String precision) {
+        this.database = database;
+        this.retentionPolicy = retentionPolicy;
+        this.body = body;
+        this.precision = precision;
+    }
+
+    public String getLineProtocol() {
+        if (lineProtocol == null && body != null) {
+            lineProtocol = new String(body, StandardCharsets.UTF_8);
+        }
+        return lineProtocol;
+    }
+
+    public void setLineProtocol(String lineProtocol) {
+        this.lineProtocol = lineProtocol;
+        this.body = null;
+    }
+
+    /**
+     * Get the line protocol as UTF-8 bytes.
+     */
+    public byte[] getBody() {
+        if (body == null && lineProtocol != null) {
+            body = lineProtocol.getBytes(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+        this.lineProtocol = null;
+    }
+
     public void setAttribute(String key, Object value) {
         attributes.put(key, value);
     }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class ByteArraySinkTest {
+
+    @Test
+    void grows_beyond_initial_capacity() {
+        ByteArraySink sink = new ByteArraySink(2);
+        byte[] chunk = "abc".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < 100; i++) {
+            sink.write(chunk, 0, chunk.length);
+            sink.write('\n');
+        }
+        Assertions.assertEquals(400, sink.size());
+        Assertions.assertEquals("abc\n", new String(sink.array(), 396, 4, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void utf8_matches_string_encoding() {
+        String s = "ascii é 中文 😀 \uD800 end \uDC00";
+        ByteArraySink sink = new ByteArraySink(1);
+        sink.writeUtf8(s, 0, s.length());
+        Assertions.assertArrayEquals(s.getBytes(StandardCharsets.UTF_8), sink.toByteArray());
+
+        ByteSink generic = new ByteSink() {
+            @Override
+            public void write(int b) {
+                sink.write(b);
+            }
+
+            @Override
+            public void write(byte[] src, int off, int len) {
+                sink.write(src, off, len);
+            }
+        };
+        sink.reset();
+        generic.writeUtf8(s, 0, s.length());
+        Assertions.assertArrayEquals(s.getBytes(StandardCharsets.UTF_8), sink.toByteArray());
+    }
+
+    @Test
+    void truncate_drops_tail() {
+        ByteArraySink sink = new ByteArraySink();
+        sink.writeUtf8("abcdef", 0, 6);
+        sink.truncate(2);
+        Assertions.assertEquals("ab", sink.toString());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sink.truncate(3));
+    }
+
+    @Test
+    void released_sink_reused_empty() {
+        ByteArraySink sink = ByteArraySink.acquire();
+        sink.writeUtf8("abc", 0, 3);
+        sink.release();
+
+        ByteArraySink reused = ByteArraySink.acquire();
+        Assertions.assertEquals(0, reused.size());
+        reused.release();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class CircuitBreakerTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(10);
+
+    private final List<CircuitBreakerEvent> events = new ArrayList<>();
+
+    private CircuitBreaker breaker(int openDuration) {
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setWindowSize(10);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setSlowCallDuration(1000);
+        config.setSlowCallRateThreshold(80);
+        config.setOpenDuration(openDuration);
+        config.setHalfOpenCalls(2);
+        config.setListener(events::add);
+        return new CircuitBreaker("http://127.0.0.1:8086", config);
+    }
+
+    @Test
+    void stays_closed_below_minimum_calls() {
+        CircuitBreaker breaker = breaker(60_000);
+        for (int i = 0; i < 3; i++) {
+            breaker.record(FAST, true);
+        }
+        Assertions.assertEquals(CircuitState.CLOSED, breaker.getState());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void opens_on_failure_rate() {
+        CircuitBreaker breaker = breaker(60_000);
+        breaker.record(FAST, false);
+        breaker.record(FAST, false);
+        breaker.record(FAST, true);
+        Assertions.assertEquals(CircuitState.CLOSED, breaker.getState());
+        breaker.record(FAST, true);
+
+        Assertions.assertEquals(CircuitState.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.isCallPermitted());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+        Assertions.assertEquals(1, events.size());
+        CircuitBreakerEvent event = events.get(0);
+        Assertions.assertEquals("http://127.0.0.1:8086", event.getEndpoint());
+        Assertions.assertEquals(CircuitState.CLOSED, event.getFrom());
+        Assertions.assertEquals(CircuitState.OPEN, event.getTo());
+        Assertions.assertEquals(50f, event.getFailureRate());
+    }
+
+    @Test
+    void opens_on_slow_call_rate() {
+        CircuitBreaker breaker = breaker(60_000);
+        for (int i = 0; i < 4; i++) {
+            breaker.record(SLOW, false);
+        }
+        Assertions.assertEquals(CircuitState.OPEN, breaker.getState());
+        Assertions.assertEquals(100f, events.get(0).getSlowCallRate());
+    }
+
+    @Test
+    void old_outcomes_leave_the_window() {
+        CircuitBreaker breaker = breaker(60_000);
+        record(breaker, 6, false);
+        record(breaker, 4, true);
+        Assertions.assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        // the four failures leave the window, four new ones are again 40% of it
+        record(breaker, 10, false);
+        record(breaker, 4, true);
+        Assertions.assertEquals(CircuitState.CLOSED, breaker.getState());
+
+        record(breaker, 1, true);
+        Assertions.assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    void half_open_trials_close_circuit() throws InterruptedException {
+        CircuitBreaker breaker = breaker(20);
+        for (int i = 0; i < 4; i++) {
+            breaker.record(FAST, true);
+        }
+        Thread.sleep(40);
+        Assertions.assertTrue(breaker.isCallPermitted());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+        Assertions.assertFalse(breaker.isCallPermitted());
+
+        breaker.record(FAST, false);
+        breaker.record(FAST, false);
+        Assertions.assertEquals(CircuitState.CLOSED, breaker.getState());
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals(CircuitState.HALF_OPEN, events.get(1).getTo());
+        Assertions.assertEquals(CircuitState.CLOSED, events.get(2).getTo());
+    }
+
+    @Test
+    void failed_trials_open_circuit_again() throws InterruptedException {
+        CircuitBreaker breaker = breaker(20);
+        for (int i = 0; i < 4; i++) {
+            breaker.record(FAST, true);
+        }
+        Thread.sleep(40);
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        breaker.record(FAST, true);
+        breaker.record(FAST, false);
+
+        Assertions.assertEquals(CircuitState.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void failing_listener_ignored() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setMinimumCalls(1);
+        config.setListener(event -> {
+            throw new IllegalStateException("listener failure");
+        });
+        CircuitBreaker breaker = new CircuitBreaker("http://127.0.0.1:8086", config);
+        breaker.record(FAST, true);
+        Assertions.assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    private static void record(CircuitBreaker breaker, int calls, boolean failed) {
+        for (int i = 0; i < calls; i++) {
+            breaker.record(FAST, failed);
+        }
+    }
+}
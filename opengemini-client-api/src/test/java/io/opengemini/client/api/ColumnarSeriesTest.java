@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class ColumnarSeriesTest {
+
+    @Test
+    void columns_grow_past_initial_capacity() {
+        ColumnarSeries.Builder builder = ColumnarSeries.builder().columns(Arrays.asList("time", "v", "up", "host"));
+        for (int i = 0; i < 1000; i++) {
+            builder.appendLong(0, i).appendDouble(1, i / 2.0).appendBoolean(2, i % 2 == 0)
+                    .appendString(3, "host" + i % 3).endRow();
+        }
+        ColumnarSeries series = builder.build();
+
+        Assertions.assertEquals(1000, series.getRowCount());
+        Assertions.assertEquals(1000, series.getLongColumn(0).length);
+        Assertions.assertEquals(999, series.getTime(999));
+        Assertions.assertEquals(499.5, series.getDouble(999, 1));
+        Assertions.assertFalse(series.getBoolean(999, 2));
+        Assertions.assertEquals("host0", series.getString(999, 3));
+        Assertions.assertEquals(Arrays.asList("host0", "host1", "host2"), series.getStringDictionary(3));
+        Assertions.assertEquals(2, series.getStringCodes(3)[998]);
+    }
+
+    @Test
+    void long_column_widened_by_double() {
+        ColumnarSeries series = ColumnarSeries.builder()
+                .appendLong(0, 1).endRow()
+                .appendNull(0).endRow()
+                .appendDouble(0, 2.5).endRow()
+                .appendLong(0, 3).endRow()
+                .build();
+
+        Assertions.assertEquals(ColumnType.DOUBLE, series.getColumnType(0));
+        Assertions.assertArrayEquals(new double[]{1, 0, 2.5, 3}, series.getDoubleColumn(0));
+        Assertions.assertTrue(series.isNull(1, 0));
+        Assertions.assertFalse(series.isNull(2, 0));
+    }
+
+    @Test
+    void mixed_column_turned_into_strings() {
+        ColumnarSeries series = ColumnarSeries.builder()
+                .appendLong(0, 1).endRow()
+                .appendBoolean(0, true).endRow()
+                .appendNull(0).endRow()
+                .appendString(0, "x").endRow()
+                .build();
+
+        Assertions.assertEquals(ColumnType.STRING, series.getColumnType(0));
+        Assertions.assertEquals("1", series.getString(0, 0));
+        Assertions.assertEquals("true", series.getString(1, 0));
+        Assertions.assertNull(series.getString(2, 0));
+        Assertions.assertEquals("x", series.getString(3, 0));
+    }
+
+    @Test
+    void missing_cells_are_null() {
+        ColumnarSeries series = ColumnarSeries.builder().columns(Arrays.asList("time", "a", "b"))
+                .appendLong(0, 1).appendLong(1, 10).endRow()
+                .appendLong(0, 2).endRow()
+                .build();
+
+        Assertions.assertEquals(3, series.getColumnCount());
+        Assertions.assertTrue(series.isNull(1, 1));
+        Assertions.assertTrue(series.isNull(0, 2));
+        Assertions.assertEquals(ColumnType.STRING, series.getColumnType(2));
+        Assertions.assertNull(series.getValue(1, 2));
+        Assertions.assertEquals(10L, series.getValue(0, 1));
+    }
+
+    @Test
+    void typed_read_of_other_type_rejected() {
+        ColumnarSeries series = ColumnarSeries.builder().appendString(0, "x").endRow().build();
+        Assertions.assertThrows(IllegalStateException.class, () -> series.getLong(0, 0));
+        Assertions.assertThrows(IllegalStateException.class, () -> series.getTime(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> series.getString(1, 0));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+class EscapedTokenCacheTest {
+
+    @Test
+    void counts_hits_and_misses() {
+        EscapedTokenCache cache = new EscapedTokenCache(16);
+        Assertions.assertNull(cache.get("cpu"));
+        cache.put("cpu", bytes("cpu"));
+        Assertions.assertArrayEquals(bytes("cpu"), cache.get("cpu"));
+        Assertions.assertArrayEquals(bytes("cpu"), cache.get("cpu"));
+
+        Assertions.assertEquals(2, cache.hitCount());
+        Assertions.assertEquals(1, cache.missCount());
+        Assertions.assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    void bounded_by_capacity() {
+        EscapedTokenCache cache = new EscapedTokenCache(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("host" + i, bytes("host" + i));
+            Assertions.assertTrue(cache.size() <= 100);
+        }
+        Assertions.assertNull(cache.get("host0"));
+        Assertions.assertArrayEquals(bytes("host999"), cache.get("host999"));
+        Assertions.assertTrue(cache.evictionCount() >= 850);
+    }
+
+    @Test
+    void tokens_in_use_survive_eviction() {
+        EscapedTokenCache cache = new EscapedTokenCache(10);
+        cache.put("hot", bytes("hot"));
+        for (int i = 0; i < 100; i++) {
+            cache.put("cold" + i, bytes("cold" + i));
+            Assertions.assertNotNull(cache.get("hot"));
+        }
+        Assertions.assertNull(cache.get("cold0"));
+    }
+
+    @Test
+    void unique_tokens_sampled_for_caching() {
+        EscapedTokenCache cache = new EscapedTokenCache(100);
+        int cached = 0;
+        for (int i = 0; i < 10_000; i++) {
+            cached += lookup(cache, "id" + i);
+        }
+        Assertions.assertTrue(cached < 2_000, "cached " + cached);
+        Assertions.assertEquals(10_000 - cached, cache.rejectionCount());
+    }
+
+    @Test
+    void repeating_tokens_admitted_again() {
+        EscapedTokenCache cache = new EscapedTokenCache(100);
+        for (int i = 0; i < 1_000; i++) {
+            lookup(cache, "id" + i);
+        }
+        Assertions.assertTrue(cache.rejectionCount() > 0);
+        for (int round = 0; round < 500; round++) {
+            for (int i = 0; i < 60; i++) {
+                lookup(cache, "host" + i);
+            }
+        }
+        long rejections = cache.rejectionCount();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(cache.admits());
+        }
+        Assertions.assertEquals(rejections, cache.rejectionCount());
+    }
+
+    @Test
+    void sampling_stops_without_rotation() {
+        EscapedTokenCache cache = new EscapedTokenCache(1_000);
+        for (int i = 0; i < 5_000; i++) {
+            lookup(cache, "id" + i);
+        }
+        Assertions.assertTrue(cache.rejectionCount() > 0);
+        for (int i = 0; i < 10; i++) {
+            cache.put("host" + i, bytes("host" + i));
+        }
+        // lookups which all hit add no token, the cache does not rotate
+        for (int round = 0; round < 1_000; round++) {
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertNotNull(cache.get("host" + i));
+            }
+        }
+        long rejections = cache.rejectionCount();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(cache.admits());
+        }
+        Assertions.assertEquals(rejections, cache.rejectionCount());
+    }
+
+    @Test
+    void point_encoding_through_cache() {
+        Point point = new Point();
+        point.setMeasurement("cache test,measurement");
+        point.setTags(Collections.singletonMap("cache key", "cache=value"));
+        point.setFields(Collections.singletonMap("cache field", 1L));
+        point.setTime(1);
+        String expected = "cache\\ test\\,measurement,cache\\ key=cache\\=value cache\\ field=1i 1";
+        Assertions.assertEquals(expected, point.lineProtocol());
+
+        long hits = Point.keyCache().hitCount();
+        Assertions.assertEquals(expected, point.lineProtocol());
+        Assertions.assertTrue(Point.keyCache().hitCount() >= hits + 3);
+        Assertions.assertArrayEquals(bytes("cache\\ test\\,measurement"),
+                Point.measurementCache().get("cache test,measurement"));
+    }
+
+    private static int lookup(EscapedTokenCache cache, String token) {
+        if (cache.get(token) == null && cache.admits()) {
+            cache.put(token, bytes(token));
+            return 1;
+        }
+        return 0;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
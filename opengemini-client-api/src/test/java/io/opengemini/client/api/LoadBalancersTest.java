@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class LoadBalancersTest {
+
+    @Test
+    void least_outstanding_selects_fewest_in_flight() {
+        List<Endpoint> endpoints = endpoints(3);
+        start(endpoints.get(0), 2);
+        start(endpoints.get(1), 1);
+        start(endpoints.get(2), 3);
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertSame(endpoints.get(1), LoadBalancers.leastOutstanding().select(endpoints));
+        }
+    }
+
+    @Test
+    void least_outstanding_spreads_ties() {
+        List<Endpoint> endpoints = endpoints(3);
+        boolean[] selected = new boolean[3];
+        for (int i = 0; i < 200; i++) {
+            selected[endpoints.indexOf(LoadBalancers.leastOutstanding().select(endpoints))] = true;
+        }
+        Assertions.assertArrayEquals(new boolean[]{true, true, true}, selected);
+    }
+
+    @Test
+    void power_of_two_choices_never_selects_busiest() {
+        List<Endpoint> endpoints = endpoints(3);
+        start(endpoints.get(0), 5);
+        start(endpoints.get(2), 1);
+        int[] counts = new int[3];
+        for (int i = 0; i < 300; i++) {
+            counts[endpoints.indexOf(LoadBalancers.powerOfTwoChoices().select(endpoints))]++;
+        }
+        Assertions.assertEquals(0, counts[0]);
+        Assertions.assertTrue(counts[1] > counts[2]);
+    }
+
+    @Test
+    void ewma_latency_prefers_fast_server() {
+        List<Endpoint> endpoints = endpoints(2);
+        long now = System.nanoTime();
+        endpoints.get(0).requestStarted();
+        endpoints.get(0).requestCompleted(now - TimeUnit.MILLISECONDS.toNanos(200), false);
+        endpoints.get(1).requestStarted();
+        endpoints.get(1).requestCompleted(now - TimeUnit.MILLISECONDS.toNanos(2), false);
+
+        Assertions.assertTrue(endpoints.get(0).getLatencyNanos() > endpoints.get(1).getLatencyNanos());
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertSame(endpoints.get(1), LoadBalancers.ewmaLatency().select(endpoints));
+        }
+    }
+
+    @Test
+    void failed_request_penalized() {
+        Endpoint endpoint = endpoints(1).get(0);
+        long start = endpoint.requestStarted();
+        Assertions.assertEquals(1, endpoint.getInFlight());
+        endpoint.requestCompleted(start, true);
+
+        Assertions.assertEquals(0, endpoint.getInFlight());
+        Assertions.assertTrue(endpoint.getLatencyNanos() > TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void down_servers_avoided() {
+        List<Endpoint> endpoints = endpoints(3);
+        endpoints.get(0).getIsDown().set(true);
+        endpoints.get(2).getIsDown().set(true);
+        start(endpoints.get(1), 10);
+        List<LoadBalancer> balancers = Arrays.asList(LoadBalancers.powerOfTwoChoices(),
+                LoadBalancers.leastOutstanding(), LoadBalancers.ewmaLatency());
+        for (LoadBalancer balancer : balancers) {
+            for (int i = 0; i < 50; i++) {
+                Assertions.assertSame(endpoints.get(1), balancer.select(endpoints));
+            }
+        }
+
+        endpoints.get(1).getIsDown().set(true);
+        Assertions.assertNotNull(LoadBalancers.powerOfTwoChoices().select(endpoints));
+        Assertions.assertNotSame(endpoints.get(1), LoadBalancers.leastOutstanding().select(endpoints));
+    }
+
+    private static List<Endpoint> endpoints(int count) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            endpoints.add(new Endpoint("http://127.0.0.1:" + (8086 + i), new AtomicBoolean(false)));
+        }
+        return endpoints;
+    }
+
+    private static void start(Endpoint endpoint, int requests) {
+        for (int i = 0; i < requests; i++) {
+            endpoint.requestStarted();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class NumberWriterTest {
+
+    private final NumberWriter writer = new NumberWriter();
+
+    private final ByteArraySink sink = new ByteArraySink(32);
+
+    @Test
+    void long_matches_jdk() {
+        long[] values = {0, 1, -1, 9, 10, 99, 100, -100, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Integer.MAX_VALUE + 1L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1, 1_700_000_000_000_000_000L};
+        for (long value : values) {
+            Assertions.assertEquals(Long.toString(value), writeLong(value));
+        }
+        Random random = new Random(3);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            Assertions.assertEquals(Long.toString(value), writeLong(value));
+        }
+    }
+
+    @Test
+    void double_layout_like_jdk() {
+        Assertions.assertEquals("0.0", writeDouble(0.0));
+        Assertions.assertEquals("-0.0", writeDouble(-0.0));
+        Assertions.assertEquals("1.0", writeDouble(1.0));
+        Assertions.assertEquals("-2.5", writeDouble(-2.5));
+        Assertions.assertEquals("0.1", writeDouble(0.1));
+        Assertions.assertEquals("0.30000000000000004", writeDouble(0.1 + 0.2));
+        Assertions.assertEquals("0.001", writeDouble(0.001));
+        Assertions.assertEquals("1.0E-4", writeDouble(0.0001));
+        Assertions.assertEquals("9999999.0", writeDouble(9999999.0));
+        Assertions.assertEquals("1.0E7", writeDouble(1.0E7));
+        Assertions.assertEquals("123456.789", writeDouble(123456.789));
+        Assertions.assertEquals("1.7976931348623157E308", writeDouble(Double.MAX_VALUE));
+        Assertions.assertEquals("2.2250738585072014E-308", writeDouble(Double.MIN_NORMAL));
+        Assertions.assertEquals("4.9E-324", writeDouble(Double.MIN_VALUE));
+        Assertions.assertEquals("NaN", writeDouble(Double.NaN));
+        Assertions.assertEquals("-Infinity", writeDouble(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void double_shortest_where_jdk_is_not() {
+        // Double.toString before Java 19 writes 1.9999999999999998E23 and 9.999999999999999E22 for these
+        Assertions.assertEquals("2.0E23", writeDouble(2.0E23));
+        Assertions.assertEquals("1.0E23", writeDouble(1.0E23));
+    }
+
+    @Test
+    void double_round_trips() {
+        Random random = new Random(5);
+        for (int i = 0; i < 200_000; i++) {
+            double value = i % 2 == 0 ? Double.longBitsToDouble(random.nextLong())
+                    : random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+            String written = writeDouble(value);
+            Assertions.assertEquals(Double.doubleToLongBits(value),
+                    Double.doubleToLongBits(Double.parseDouble(written)), written);
+            Assertions.assertTrue(written.length() <= Double.toString(value).length(), written);
+        }
+    }
+
+    private String writeLong(long value) {
+        sink.reset();
+        writer.writeLong(sink, value);
+        return sink.toString();
+    }
+
+    private String writeDouble(double value) {
+        sink.reset();
+        writer.writeDouble(sink, value);
+        return sink.toString();
+    }
+}
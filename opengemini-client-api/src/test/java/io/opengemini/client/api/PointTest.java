@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -59,6 +60,14 @@ class PointTest {
         Assertions.assertEquals("test,T0=0 a\\ =1i 1", testPoint("test", "T0", "0", "a ", 1).lineProtocol());
     }
 
+    @Test
+    void lineProtocol_escapes_only_characters_of_token_kind() {
+        Assertions.assertEquals("m=\",t=\" f=\"a\\\\ ,=b\" 1",
+                testPoint("m=\"", "t", "\"", "f", "a\\ ,=b").lineProtocol());
+        Assertions.assertEquals("é\\ \\,é,t=é\\=é f=\"é\\\"é\" 1",
+                testPoint("é ,é", "t", "é=é", "f", "é\"é").lineProtocol());
+    }
+
     @Test
     void lineProtocol_field_value_with_escaped_chars() {
         Assertions.assertEquals("test,T0=0 a=\"1\\\"\" 1", testPoint("test", "T0", "0", "a", "1\"").lineProtocol());
@@ -122,6 +131,98 @@ class PointTest {
         Assertions.assertEquals("test,T0=0,T1=1 a=1i,b=2i 1", point.lineProtocol());
     }
 
+    @Test
+    void lineProtocol_integer_extremes() {
+        Assertions.assertEquals("test,T0=0 a=-9223372036854775808i 1",
+                testPoint("test", "T0", "0", "a", Long.MIN_VALUE).lineProtocol());
+        Assertions.assertEquals("test,T0=0 a=9223372036854775807i 1",
+                testPoint("test", "T0", "0", "a", Long.MAX_VALUE).lineProtocol());
+        Assertions.assertEquals("test,T0=0 a=-10i 1", testPoint("test", "T0", "0", "a", -10).lineProtocol());
+        Assertions.assertEquals("test,T0=0 a=0i 1", testPoint("test", "T0", "0", "a", 0).lineProtocol());
+    }
+
+    @Test
+    void writeTo_encodes_utf8() {
+        Point point = testPoint("温度 ,", "città", "東京 😀", "wert", "grün\"");
+        ByteArraySink sink = new ByteArraySink(4);
+
+        Assertions.assertTrue(point.writeTo(sink));
+        Assertions.assertArrayEquals(point.lineProtocol().getBytes(StandardCharsets.UTF_8), sink.toByteArray());
+        Assertions.assertEquals("温度\\ \\,,città=東京\\ 😀 wert=\"grün\\\"\" 1", sink.toString());
+    }
+
+    @Test
+    void writeTo_without_valid_fields_writes_nothing() {
+        ByteArraySink sink = new ByteArraySink();
+        Assertions.assertFalse(testPoint("test", "T0", "0", "a", Double.NaN).writeTo(sink));
+        Assertions.assertFalse(testPoint("test", "T0", "0", "a", null).writeTo(sink));
+        Point point = new Point();
+        point.setMeasurement("test");
+        Assertions.assertFalse(point.writeTo(sink));
+        Assertions.assertEquals(0, sink.size());
+        Assertions.assertEquals("", point.lineProtocol());
+    }
+
+    @Test
+    void lineProtocol_with_primitive_fields() {
+        Point point = testPoint("test", "T0", "0", "a", 1)
+                .addField("d", 0.5)
+                .addField("l", Long.MIN_VALUE)
+                .addField("b", true)
+                .addField("nan", Double.NaN)
+                .addField("f a", 2.0);
+        Assertions.assertEquals("test,T0=0 a=1i,d=0.5,l=-9223372036854775808i,b=true,f\\ a=2.0 1",
+                point.lineProtocol());
+
+        Point primitiveOnly = new Point();
+        primitiveOnly.setMeasurement("test");
+        primitiveOnly.setTime(1);
+        primitiveOnly.addField("v", 1L).addField("v", 2L);
+        Assertions.assertEquals("test v=2i 1", primitiveOnly.lineProtocol());
+
+        Point nanOnly = new Point();
+        nanOnly.setMeasurement("test");
+        nanOnly.addField("v", Double.POSITIVE_INFINITY);
+        Assertions.assertEquals("", nanOnly.lineProtocol());
+    }
+
+    @Test
+    void writeTo_in_write_precision() {
+        Point point = testPoint("test", Precision.PRECISIONSECOND, "T0", "0", "a", 1);
+        point.setTime(1_700_000_000L);
+        ByteArraySink sink = new ByteArraySink();
+        Assertions.assertTrue(point.writeTo(sink, Precision.PRECISIONSECOND));
+        Assertions.assertEquals("test,T0=0 a=1i 1700000000", sink.toString());
+
+        sink.reset();
+        point.writeTo(sink, Precision.PRECISIONMILLISECOND);
+        Assertions.assertEquals("test,T0=0 a=1i 1700000000000", sink.toString());
+        Assertions.assertEquals("test,T0=0 a=1i 1700000000000000000", point.lineProtocol());
+
+        sink.reset();
+        point.writeTo(sink, Precision.PRECISIONMINUTE);
+        Assertions.assertEquals("test,T0=0 a=1i 28333333", sink.toString());
+    }
+
+    @Test
+    void writeTo_with_sorted_tags() {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 19; i >= 0; i--) {
+            tags.put("t" + (char) ('a' + i), "v " + i);
+        }
+        Point point = testPoint("test", "T0", "0", "a", 1);
+        point.setTags(tags);
+        StringBuilder expected = new StringBuilder("test");
+        for (int i = 0; i < 20; i++) {
+            expected.append(",t").append((char) ('a' + i)).append("=v\\ ").append(i);
+        }
+        expected.append(" a=1i 1");
+        ByteArraySink sink = new ByteArraySink();
+        Assertions.assertTrue(point.writeTo(sink, Precision.PRECISIONNANOSECOND, true));
+        Assertions.assertEquals(expected.toString(), sink.toString());
+        Assertions.assertTrue(point.lineProtocol().startsWith("test,tt=v\\ 19,"));
+    }
+
     private static Point testPoint(String measurement, String tagKey, String tagValue, String fieldKey,
                                    Object fieldValue) {
         return testPoint(measurement, Precision.PRECISIONNANOSECOND, tagKey, tagValue, fieldKey, fieldValue);
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveFieldsTest {
+
+    @Test
+    void stores_values_by_type() {
+        PrimitiveFields fields = new PrimitiveFields(1);
+        fields.add("d", -0.0);
+        fields.add("l", Long.MAX_VALUE);
+        fields.add("b", false);
+
+        Assertions.assertEquals(3, fields.size());
+        Assertions.assertEquals(PrimitiveFields.Type.DOUBLE, fields.type(0));
+        Assertions.assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(fields.doubleValue(0)));
+        Assertions.assertEquals(Long.MAX_VALUE, fields.longValue(fields.indexOf("l")));
+        Assertions.assertFalse(fields.booleanValue(2));
+        Assertions.assertEquals(-1, fields.indexOf("missing"));
+    }
+
+    @Test
+    void replaces_existing_key() {
+        PrimitiveFields fields = new PrimitiveFields();
+        fields.add("v", 1.5);
+        fields.add("v", 3L);
+
+        Assertions.assertEquals(1, fields.size());
+        Assertions.assertEquals(PrimitiveFields.Type.LONG, fields.type(0));
+        Assertions.assertEquals(3L, fields.longValue(0));
+    }
+
+    @Test
+    void non_finite_doubles_not_writable() {
+        PrimitiveFields fields = new PrimitiveFields();
+        fields.add("nan", Double.NaN);
+        fields.add("inf", Double.NEGATIVE_INFINITY);
+        fields.add("max", Double.MAX_VALUE);
+
+        Assertions.assertFalse(fields.isWritable(0));
+        Assertions.assertFalse(fields.isWritable(1));
+        Assertions.assertTrue(fields.isWritable(2));
+    }
+
+    @Test
+    void clear_keeps_nothing() {
+        PrimitiveFields fields = new PrimitiveFields();
+        fields.add("v", true);
+        fields.clear();
+
+        Assertions.assertEquals(0, fields.size());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fields.key(0));
+    }
+}
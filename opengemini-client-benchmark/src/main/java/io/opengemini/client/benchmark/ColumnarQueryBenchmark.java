@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.common.ColumnarQueryDecoder;
+import io.opengemini.client.common.JacksonService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a large query response into a {@link QueryResult} with decoding it into
+ * {@link ColumnarSeries}.
+ * <p>
+ * The heap retained by each representation is printed when a trial starts, run with {@code -prof gc} to compare
+ * the allocation rates as well. Run with
+ * {@code java -jar opengemini-client-benchmark/target/benchmarks.jar ColumnarQueryBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnarQueryBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private byte[] response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, OpenGeminiException {
+        response = response(rows).getBytes(StandardCharsets.UTF_8);
+        long bound = retained(() -> JacksonService.toObject(response, QueryResult.class));
+        long columnar = retained(() -> ColumnarQueryDecoder.decode(new ByteArrayInputStream(response)));
+        System.out.printf("%nresponse %d bytes, retained QueryResult %d bytes, ColumnarSeries %d bytes%n",
+                response.length, bound, columnar);
+    }
+
+    @Benchmark
+    public QueryResult queryResult() throws IOException {
+        return JacksonService.toObject(response, QueryResult.class);
+    }
+
+    @Benchmark
+    public List<ColumnarSeries> columnarSeries() throws IOException, OpenGeminiException {
+        return ColumnarQueryDecoder.decode(new ByteArrayInputStream(response));
+    }
+
+    private static String response(int rows) {
+        StringBuilder sb = new StringBuilder("{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+                + "\"columns\":[\"time\",\"host\",\"usage_idle\",\"usage_user\",\"up\"],\"values\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('[').append(1700000000000000000L + i * 1000000000L)
+                    .append(",\"server").append(i % 10).append("\",")
+                    .append(i % 100).append('.').append(i % 7).append(i % 3 + 1).append(',')
+                    .append(i % 1000).append(',')
+                    .append(i % 5 != 0).append(']');
+        }
+        return sb.append("]}]}]}").toString();
+    }
+
+    private static long retained(Decoding decoding) throws IOException, OpenGeminiException {
+        long before = usedHeap();
+        Object result = decoding.decode();
+        long after = usedHeap();
+        if (result == null) {
+            throw new IllegalStateException("nothing decoded");
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface Decoding {
+        Object decode() throws IOException, OpenGeminiException;
+    }
+}
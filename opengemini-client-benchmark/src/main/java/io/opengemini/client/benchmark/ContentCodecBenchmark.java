@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.CompressionConfig;
+import io.opengemini.client.common.ContentCodec;
+import io.opengemini.client.common.ContentCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the content codecs of the write path on a realistic line protocol batch.
+ * <p>
+ * The compression ratio (raw size / compressed size) of each codec is printed when a trial starts. Run with
+ * {@code java -jar opengemini-client-benchmark/target/benchmarks.jar ContentCodecBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentCodecBenchmark {
+
+    @Param({"gzip", "zstd", "snappy"})
+    private String contentEncoding;
+
+    @Param({"1", "3"})
+    private int zstdLevel;
+
+    @Param({"10000"})
+    private int lines;
+
+    private ContentCodec codec;
+
+    private byte[] body;
+
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        CompressionConfig config = new CompressionConfig(contentEncoding);
+        config.setZstdLevel(zstdLevel);
+        codec = ContentCodecs.create(config);
+        body = LineProtocolData.lineProtocol(lines).getBytes(StandardCharsets.UTF_8);
+        encoded = codec.encode(body, 0, body.length);
+        System.out.printf("%n%s level %d: ratio %.2f%n", contentEncoding, zstdLevel,
+                (double) body.length / encoded.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        codec.close();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(body, 0, body.length);
+    }
+
+    @Benchmark
+    public byte[] decode() throws IOException {
+        return codec.decode(encoded);
+    }
+}
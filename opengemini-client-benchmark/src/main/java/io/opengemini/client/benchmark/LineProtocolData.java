@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.Point;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates reproducible points resembling host metrics, shared by the benchmarks.
+ */
+final class LineProtocolData {
+    private static final String[] REGIONS = {"us-west", "us-east", "eu-central", "ap-south"};
+
+    private LineProtocolData() {
+    }
+
+    static List<Point> points(int count) {
+        Random random = new Random(42);
+        List<Point> points = new ArrayList<>(count);
+        long time = 1_700_000_000_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            Point point = new Point();
+            point.setMeasurement("cpu");
+            point.setTime(time + i * 10_000_000_000L);
+            Map<String, String> tags = new LinkedHashMap<>();
+            tags.put("host", "server-" + (i % 200));
+            tags.put("region", REGIONS[i % REGIONS.length]);
+            point.setTags(tags);
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("usage_idle", random.nextDouble() * 100);
+            fields.put("usage_user", random.nextDouble() * 100);
+            fields.put("processes", (long) random.nextInt(500));
+            fields.put("state", i % 10 == 0 ? "degraded" : "ok");
+            point.setFields(fields);
+            points.add(point);
+        }
+        return points;
+    }
+
+    static String lineProtocol(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (Point point : points(count)) {
+            sb.append(point.lineProtocol()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.Endpoint;
+import io.opengemini.client.api.LoadBalancer;
+import io.opengemini.client.api.LoadBalancers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the load balancing strategies on servers of skewed latencies: every request sleeps for the latency of
+ * the server selected for it, and one of the servers is ten times slower than the others.
+ * <p>
+ * {@code request} reports the mean request latency seen by the concurrent callers, {@code select} the cost of the
+ * selection itself. Run with {@code java -jar opengemini-client-benchmark/target/benchmarks.jar
+ * LoadBalancerBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LoadBalancerBenchmark {
+    private static final long[] LATENCY_MICROS = {200, 200, 200, 2000};
+
+    @Param({"roundRobin", "powerOfTwoChoices", "leastOutstanding", "ewmaLatency"})
+    private String strategy;
+
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    private final long[] latencyNanos = new long[LATENCY_MICROS.length];
+
+    private LoadBalancer balancer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < LATENCY_MICROS.length; i++) {
+            endpoints.add(new Endpoint("http://127.0.0.1:" + (8086 + i), new AtomicBoolean(false)));
+            latencyNanos[i] = TimeUnit.MICROSECONDS.toNanos(LATENCY_MICROS[i]);
+        }
+        switch (strategy) {
+            case "powerOfTwoChoices":
+                balancer = LoadBalancers.powerOfTwoChoices();
+                break;
+            case "leastOutstanding":
+                balancer = LoadBalancers.leastOutstanding();
+                break;
+            case "ewmaLatency":
+                balancer = LoadBalancers.ewmaLatency();
+                break;
+            default:
+                // the default selection of the client when no load balancer is configured
+                AtomicInteger index = new AtomicInteger(-1);
+                balancer = list -> list.get(Math.abs(index.incrementAndGet() % list.size()));
+                break;
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Endpoint request() {
+        Endpoint endpoint = balancer.select(endpoints);
+        long start = endpoint.requestStarted();
+        LockSupport.parkNanos(latencyNanos[endpoints.indexOf(endpoint)]);
+        endpoint.requestCompleted(start, false);
+        return endpoint;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Endpoint select() {
+        return balancer.select(endpoints);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.common.ColumnarQueryDecoder;
+import io.opengemini.client.common.JacksonService;
+import io.opengemini.client.common.MessagePackQueryDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding the same query response, with RFC3339 times, from json and from MessagePack.
+ * <p>
+ * The size of both bodies is printed when a trial starts. Run with
+ * {@code java -jar opengemini-client-benchmark/target/benchmarks.jar MessagePackQueryBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessagePackQueryBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private byte[] json;
+
+    private byte[] msgpack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = QueryResponseData.json(rows);
+        msgpack = QueryResponseData.msgpack(rows);
+        System.out.printf("%njson %d bytes, msgpack %d bytes%n", json.length, msgpack.length);
+    }
+
+    @Benchmark
+    public QueryResult jsonQueryResult() throws IOException {
+        return JacksonService.toObject(json, QueryResult.class);
+    }
+
+    @Benchmark
+    public QueryResult msgpackQueryResult() throws IOException {
+        return MessagePackQueryDecoder.decode(msgpack);
+    }
+
+    @Benchmark
+    public List<ColumnarSeries> jsonColumnar() throws IOException, OpenGeminiException {
+        return ColumnarQueryDecoder.decode(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public List<ColumnarSeries> msgpackColumnar() throws IOException, OpenGeminiException {
+        return MessagePackQueryDecoder.decodeColumnar(msgpack);
+    }
+}
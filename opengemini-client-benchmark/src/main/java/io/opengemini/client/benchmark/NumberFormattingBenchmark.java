@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.ByteArraySink;
+import io.opengemini.client.api.NumberWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing field values and timestamps through {@link NumberWriter} with the JDK string conversions.
+ * <p>
+ * Run with {@code java -jar opengemini-client-benchmark/target/benchmarks.jar NumberFormattingBenchmark -prof gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberFormattingBenchmark {
+    private static final int VALUES = 1024;
+
+    private final double[] doubles = new double[VALUES];
+
+    private final long[] longs = new long[VALUES];
+
+    private final Random random = new Random(11);
+
+    private final NumberWriter writer = new NumberWriter();
+
+    private final ByteArraySink sink = new ByteArraySink();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long time = 1_700_000_000_000_000_000L;
+        for (int i = 0; i < VALUES; i++) {
+            // mix of metric like values with few digits and arbitrary ones, of timestamps and small counters
+            double value = random.nextDouble();
+            doubles[i] = i % 2 == 0 ? Math.round(value * 10000) / 100.0 : value * 1e6;
+            time += 10_000_000_000L + random.nextInt(1000);
+            longs[i] = i % 2 == 0 ? time : time % 100_000;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int jdkDouble() {
+        sink.reset();
+        for (double value : doubles) {
+            String s = Double.toString(value);
+            sink.writeAscii(s, 0, s.length());
+        }
+        return sink.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int writerDouble() {
+        sink.reset();
+        for (double value : doubles) {
+            writer.writeDouble(sink, value);
+        }
+        return sink.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int jdkLong() {
+        sink.reset();
+        for (long value : longs) {
+            String s = Long.toString(value);
+            sink.writeAscii(s, 0, s.length());
+        }
+        return sink.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int writerLong() {
+        sink.reset();
+        for (long value : longs) {
+            writer.writeLong(sink, value);
+        }
+        return sink.size();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.ParallelEncodingConfig;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Precision;
+import io.opengemini.client.impl.LineProtocolEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the line protocol encoding of one large write scales with the parallelism of the encoding pool,
+ * parallelism 0 encodes on the calling thread.
+ * <p>
+ * Run with {@code java -jar opengemini-client-benchmark/target/benchmarks.jar ParallelEncodingBenchmark} on a
+ * machine with at least as many cores as the largest parallelism.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelEncodingBenchmark {
+
+    @Param({"0", "1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"500000"})
+    private int points;
+
+    private List<Point> batch;
+
+    private ForkJoinPool pool;
+
+    private LineProtocolEncoder encoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = LineProtocolData.points(points);
+        ParallelEncodingConfig config = null;
+        if (parallelism > 0) {
+            pool = new ForkJoinPool(parallelism);
+            config = new ParallelEncodingConfig();
+            config.setPool(pool);
+        }
+        encoder = new LineProtocolEncoder(config);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(batch, Precision.PRECISIONNANOSECOND);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.benchmark;
+
+import io.opengemini.client.api.ByteArraySink;
+import io.opengemini.client.api.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of encoding a point into line protocol bytes.
+ * <p>
+ * Run with {@code java -jar opengemini-client-benchmark/target/benchmarks.jar PointEncodingBenchmark -prof gc}
+ * and look at {@code gc.alloc.rate.norm} for the bytes allocated per point.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PointEncodingBenchmark {
+    private static final int POINTS = 1000;
+
+    /**
+     * plain: tokens without characters to escape, escaped: tokens with spaces and commas.
+     */
+    @Param({"plain", "escaped"})
+    private String tokens;
+
+    private List<Point> points;
+
+    private ByteArraySink sink;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String separator = "escaped".equals(tokens) ? " " : "_";
+        points = new ArrayList<>(POINTS);
+        for (int i = 0; i < POINTS; i++) {
+            Point point = new Point();
+            point.setMeasurement("cpu" + separator + "usage");
+            point.setTime(1_700_000_000_000_000_000L + i);
+            Map<String, String> tags = new LinkedHashMap<>();
+            tags.put("host", "server" + separator + (i % 100));
+            tags.put("data" + separator + "center", "eu" + separator + "west");
+            point.setTags(tags);
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("user" + separator + "time", (long) i * 7);
+            fields.put("processes", i % 500);
+            fields.put("state", i % 10 == 0 ? "degraded" + separator + "mode" : "ok");
+            point.setFields(fields);
+            points.add(point);
+        }
+        sink = new ByteArraySink();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int writeTo() {
+        sink.reset();
+        for (Point point : points) {
+            point.writeTo(sink);
+        }
+        return sink.size();
+    }
+
+    /**
+     * Build points with boxed fields in a map and encode them.
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int buildAndWriteMapFields() {
+        sink.reset();
+        for (int i = 0; i < POINTS; i++) {
+            Point point = new Point();
+            point.setMeasurement("cpu");
+            point.setTime(1_700_000_000_000_000_000L + i);
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("usage_user", i * 0.25);
+            fields.put("usage_system", i * 0.5);
+            fields.put("processes", (long) i * 1000);
+            point.setFields(fields);
+            point.writeTo(sink);
+        }
+        return sink.size();
+    }
+
+    /**
+     * Build points with primitive fields and encode them.
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int buildAndWritePrimitiveFields() {
+        sink.reset();
+        for (int i = 0; i < POINTS; i++) {
+            Point point = new Point();
+            point.setMeasurement("cpu");
+            point.setTime(1_700_000_000_000_000_000L + i);
+            point.addField("usage_user", i * 0.25)
+                    .addField("usage_system", i * 0.5)
+                    .addField("processes", (long) i * 1000);
+            point.writeTo(sink);
+        }
+        return sink.size();
+    }
+}
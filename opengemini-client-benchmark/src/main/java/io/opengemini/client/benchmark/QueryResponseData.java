@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * Generates reproducible query responses resembling a host metrics select, in the json and the MessagePack
+ * formats of the server, with RFC3339 times.
+ */
+final class QueryResponseData {
+    private static final long START_NANOS = 1_700_000_000_000_000_000L;
+
+    private static final long INTERVAL_NANOS = 10_000_000_000L;
+
+    private static final String[] COLUMNS = {"time", "host", "usage_idle", "processes", "up"};
+
+    private QueryResponseData() {
+    }
+
+    static byte[] json(int rows) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder("{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+                + "\"columns\":[\"time\",\"host\",\"usage_idle\",\"processes\",\"up\"],\"values\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            long time = START_NANOS + i * INTERVAL_NANOS + random.nextInt(1_000_000);
+            sb.append("[\"").append(Instant.ofEpochSecond(0, time)).append("\",\"server-").append(i % 200)
+                    .append("\",").append(random.nextDouble() * 100).append(',').append(random.nextInt(500))
+                    .append(',').append(i % 10 != 0).append(']');
+        }
+        return sb.append("]}]}]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] msgpack(int rows) {
+        Random random = new Random(42);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows * 48);
+        out.write(0x81);
+        writeString(out, "results");
+        out.write(0x91);
+        out.write(0x82);
+        writeString(out, "statement_id");
+        out.write(0);
+        writeString(out, "series");
+        out.write(0x91);
+        out.write(0x83);
+        writeString(out, "name");
+        writeString(out, "cpu");
+        writeString(out, "columns");
+        out.write(0x90 | COLUMNS.length);
+        for (String column : COLUMNS) {
+            writeString(out, column);
+        }
+        writeString(out, "values");
+        out.write(0xdd);
+        writeBits(out, rows, 4);
+        for (int i = 0; i < rows; i++) {
+            long time = START_NANOS + i * INTERVAL_NANOS + random.nextInt(1_000_000);
+            out.write(0x90 | COLUMNS.length);
+            // timestamp extension of the Go msgp library the server encodes times with
+            out.write(0xc7);
+            out.write(12);
+            out.write(5);
+            writeBits(out, time / 1_000_000_000L, 8);
+            writeBits(out, time % 1_000_000_000L, 4);
+            writeString(out, "server-" + i % 200);
+            out.write(0xcb);
+            writeBits(out, Double.doubleToLongBits(random.nextDouble() * 100), 8);
+            out.write(0xd3);
+            writeBits(out, random.nextInt(500), 8);
+            out.write(i % 10 != 0 ? 0xc3 : 0xc2);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.write(0xa0 | bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeBits(ByteArrayOutputStream out, long value, int bytes) {
+        for (int i = bytes - 1; i >= 0; i--) {
+            out.write((int) (value >>> (i * 8)));
+        }
+    }
+}
@@ -17,44 +17,88 @@
 package io.opengemini.client.common;
 
 import io.opengemini.client.api.Address;
+import io.opengemini.client.api.CircuitBreaker;
 import io.opengemini.client.api.Configuration;
 import io.opengemini.client.api.Endpoint;
+import io.opengemini.client.api.HealthCheckConfig;
+import io.opengemini.client.api.LoadBalancer;
+import io.opengemini.client.api.Precision;
 import io.opengemini.client.api.Query;
+import io.opengemini.client.api.ResponseFormat;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class BaseClient implements Closeable {
     protected final Map<String, List<String>> headers;
 
+    /**
+     * headers of write requests, which carry the Content-Encoding of a compressed body
+     */
+    protected final Map<String, List<String>> writeHeaders;
+
+    /**
+     * headers of query requests, which announce the encodings accepted for the response body
+     */
+    protected final Map<String, List<String>> queryHeaders;
+
+    /**
+     * headers of read queries asking for a MessagePack response
+     */
+    private final Map<String, List<String>> msgpackQueryHeaders;
+
+    /**
+     * format of the responses of read queries which do not select one
+     */
+    private final ResponseFormat responseFormat;
+
+    /**
+     * codec compressing write bodies, null when compression is disabled
+     */
+    protected final ContentCodec contentCodec;
+
     private final List<Endpoint> serverUrls = new ArrayList<>();
 
+    private final List<Endpoint> endpoints = Collections.unmodifiableList(serverUrls);
+
     private final AtomicInteger prevIndex = new AtomicInteger(-1);
 
-    private final Optional<ScheduledExecutorService> scheduler;
+    /**
+     * balancer picking the server of each request, null for round robin
+     */
+    private final LoadBalancer loadBalancer;
+
+    /**
+     * prober of the servers, null when the client has a single server
+     */
+    private final HealthChecker healthChecker;
 
     public BaseClient(Configuration conf) {
         this.headers = new HashMap<>();
-        if (conf.isGzipEnabled()) {
-            ArrayList<String> contentEncodingHeader = new ArrayList<>();
-            contentEncodingHeader.add("gzip");
-            headers.put("Content-Encoding", contentEncodingHeader);
+        this.writeHeaders = new HashMap<>();
+        this.queryHeaders = new HashMap<>();
+        this.contentCodec = ContentCodecs.create(conf);
+        this.loadBalancer = conf.getLoadBalancer();
+        if (contentCodec != null) {
+            writeHeaders.put(HeaderConst.CONTENT_ENCODING, Collections.singletonList(contentCodec.name()));
+            String acceptEncoding = GzipCompressor.ENCODING.equals(contentCodec.name())
+                    ? GzipCompressor.ENCODING : contentCodec.name() + ", " + GzipCompressor.ENCODING;
+            queryHeaders.put(HeaderConst.ACCEPT_ENCODING, Collections.singletonList(acceptEncoding));
         }
+        this.msgpackQueryHeaders = new HashMap<>(queryHeaders);
+        msgpackQueryHeaders.put(HeaderConst.ACCEPT,
+                Collections.singletonList(ResponseFormat.MSGPACK.getContentType()));
+        this.responseFormat = conf.getResponseFormat() != null ? conf.getResponseFormat() : ResponseFormat.JSON;
         String httpPrefix;
         if (conf.getHttpConfig().tlsConfig() != null) {
             httpPrefix = "https://";
@@ -63,58 +107,74 @@ public abstract class BaseClient implements Closeable {
         }
         for (Address address : conf.getAddresses()) {
             String url = httpPrefix + address.getHost() + ":" + address.getPort();
-            this.serverUrls.add(new Endpoint(url, new AtomicBoolean(false)));
+            Endpoint endpoint = new Endpoint(url, new AtomicBoolean(false));
+            if (conf.getCircuitBreakerConfig() != null) {
+                endpoint.setCircuitBreaker(new CircuitBreaker(url, conf.getCircuitBreakerConfig()));
+            }
+            this.serverUrls.add(endpoint);
         }
         if (this.serverUrls.size() > 1) {
-            this.scheduler = Optional.of(Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r);
-                t.setName("opengemini-client-health-checker");
-                return t;
-            }));
+            HealthCheckConfig healthCheckConfig = conf.getHealthCheckConfig() != null
+                    ? conf.getHealthCheckConfig() : new HealthCheckConfig();
+            this.healthChecker = new HealthChecker(endpoints, healthCheckConfig, this::probe);
         } else {
-            this.scheduler = Optional.empty();
+            this.healthChecker = null;
         }
-        scheduler.ifPresent(this::startHealthCheck);
     }
 
     /**
-     * Health Check
-     * Start schedule task(period 10s) to ping all server url
+     * Start probing the servers, subclasses call it once they can send requests.
      */
-    private void startHealthCheck(ScheduledExecutorService healthCheckSchedule) {
-        healthCheckSchedule.scheduleWithFixedDelay(() -> {
-            for (Endpoint url : serverUrls) {
-                try {
-                    URL urls = new URL(url.getUrl() + getPingUrl());
-                    HttpURLConnection connection = (HttpURLConnection) urls.openConnection();
-                    try {
-                        connection.setRequestMethod("GET");
-                        connection.setConnectTimeout(2000);
-                        connection.connect();
-                        int responseCode = connection.getResponseCode();
-                        url.getIsDown().set(responseCode < 200 || responseCode >= 300);
-                    } finally {
-                        connection.disconnect();
-                    }
-                } catch (IOException e) {
-                    url.getIsDown().set(true);
-                }
-            }
-        }, 0, 10, TimeUnit.SECONDS);
+    protected void startHealthCheck() {
+        if (healthChecker != null) {
+            healthChecker.start();
+        }
     }
 
+    /**
+     * Send a ping to a server through the http engine of the client, without blocking.
+     *
+     * @param urlPrefix the url prefix of the server.
+     * @return completes with whether the server answered with a 2xx status.
+     */
+    protected abstract CompletableFuture<Boolean> probe(String urlPrefix);
+
     protected String nextUrlPrefix() {
+        return nextEndpoint().getUrl();
+    }
+
+    /**
+     * Select the server of the next request, through the configured load balancer or round robin.
+     * <p>
+     * Callers recording the request on the endpoint feed the load balancer with the load and latency of the server.
+     */
+    protected Endpoint nextEndpoint() {
+        if (loadBalancer != null) {
+            return loadBalancer.select(endpoints);
+        }
         int idx = Math.abs(prevIndex.incrementAndGet() % serverUrls.size());
         if (serverUrls.size() > 1) {
             for (int i = 0; i < serverUrls.size(); i++) {
-                if (!serverUrls.get(idx).getIsDown().get()) {
-                    return serverUrls.get(idx).getUrl();
+                if (serverUrls.get(idx).isAvailable()) {
+                    return serverUrls.get(idx);
                 } else {
                     idx = Math.abs(prevIndex.incrementAndGet() % serverUrls.size());
                 }
             }
         }
-        return serverUrls.get(idx).getUrl();
+        return serverUrls.get(idx);
+    }
+
+    /**
+     * Whether at least one server is not marked down by the health check nor has its circuit breaker open.
+     */
+    protected boolean hasAvailableEndpoint() {
+        for (Endpoint url : serverUrls) {
+            if (url.isAvailable()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected String buildUriWithPrefix(String url) {
@@ -130,10 +190,20 @@ public abstract class BaseClient implements Closeable {
     }
 
     protected String getWriteUrl(String database, String retentionPolicy) {
+        return getWriteUrl(database, retentionPolicy, null);
+    }
+
+    /**
+     * Get the write url, the precision is only sent when it is not the server default of nanoseconds.
+     */
+    protected String getWriteUrl(String database, String retentionPolicy, String precision) {
         String writeUrl = UrlConst.WRITE + "?db=" + database;
         if (retentionPolicy != null) {
             writeUrl += "&rp=" + retentionPolicy;
         }
+        if (precision != null && !Precision.PRECISIONNANOSECOND.getEpoch().equals(precision)) {
+            writeUrl += "&precision=" + precision;
+        }
         return writeUrl;
     }
 
@@ -158,8 +228,29 @@ public abstract class BaseClient implements Closeable {
         return queryUrl;
     }
 
+    /**
+     * Get the headers of a read query, asking for a MessagePack response when the query, or the configuration if
+     * the query selects no format, selects it.
+     */
+    protected Map<String, List<String>> getQueryHeaders(Query query) {
+        ResponseFormat format = query.getResponseFormat() != null ? query.getResponseFormat() : responseFormat;
+        return format == ResponseFormat.MSGPACK ? msgpackQueryHeaders : queryHeaders;
+    }
+
+    /**
+     * Get the url of a query whose result the server returns in chunks of at most chunkSize rows.
+     */
+    protected String getChunkedQueryUrl(Query query, int chunkSize) {
+        return getQueryUrl(query) + "&chunked=true&chunk_size=" + chunkSize;
+    }
+
     @Override
     public void close() throws IOException {
-        scheduler.ifPresent(ExecutorService::shutdown);
+        if (healthChecker != null) {
+            healthChecker.close();
+        }
+        if (contentCodec != null) {
+            contentCodec.close();
+        }
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.Series;
+import io.opengemini.client.api.SeriesResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Incremental decoder of chunked query responses.
+ * <p>
+ * A chunked response is a sequence of json documents, each holding the series of up to chunk size rows. The bytes
+ * of the response are fed as they arrive to a non-blocking parser, the tokens of the current document are
+ * buffered and the document is bound once complete, so that decoding holds one chunk at most whatever the size
+ * of the result.
+ */
+public final class ChunkedQueryDecoder {
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    /**
+     * tokens of the document being received, null between documents
+     */
+    private TokenBuffer document;
+
+    private int depth;
+
+    public ChunkedQueryDecoder() throws IOException {
+        this.parser = JacksonService.createNonBlockingParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Feed the next bytes of the response.
+     *
+     * @param bytes the bytes, which must not be modified before the method returns.
+     * @param off   the start offset in bytes.
+     * @param len   the number of bytes.
+     * @return the series of the chunks completed by these bytes, in order.
+     * @throws IOException         if the response is not a sequence of query results.
+     * @throws OpenGeminiException if a completed chunk reports an error of the query or of a statement.
+     */
+    public List<Series> feed(byte[] bytes, int off, int len) throws IOException, OpenGeminiException {
+        feeder.feedInput(bytes, off, off + len);
+        return decodeAvailable();
+    }
+
+    /**
+     * Signal the end of the response.
+     *
+     * @return the series of a last chunk completed by the end of the input.
+     * @throws IOException         if the response ends within a chunk.
+     * @throws OpenGeminiException if the last chunk reports an error.
+     */
+    public List<Series> end() throws IOException, OpenGeminiException {
+        feeder.endOfInput();
+        List<Series> series = decodeAvailable();
+        if (document != null) {
+            throw new IOException("chunked query response ended within a chunk");
+        }
+        parser.close();
+        return series;
+    }
+
+    private List<Series> decodeAvailable() throws IOException, OpenGeminiException {
+        List<Series> series = Collections.emptyList();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (document == null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("malformed chunked query response, expected START_OBJECT but got "
+                            + token + " at " + parser.currentLocation());
+                }
+                document = new TokenBuffer(parser);
+            }
+            document.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                QueryResult result;
+                try (JsonParser chunk = document.asParser()) {
+                    result = JacksonService.toObject(chunk, QueryResult.class);
+                }
+                document = null;
+                if (series.isEmpty()) {
+                    series = new ArrayList<>();
+                }
+                collect(result, series);
+            }
+        }
+        return series;
+    }
+
+    private static void collect(QueryResult result, List<Series> series) throws OpenGeminiException {
+        if (result.getError() != null) {
+            throw new OpenGeminiException(result.getError());
+        }
+        if (result.getResults() == null) {
+            return;
+        }
+        for (SeriesResult statement : result.getResults()) {
+            if (statement.getError() != null) {
+                throw new OpenGeminiException(statement.getError());
+            }
+            if (statement.getSeries() != null) {
+                series.addAll(statement.getSeries());
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread output buffers shared by the content codecs, so that compressing a body only allocates the
+ * resulting array.
+ * <p>
+ * Only buffers up to {@value #MAX_CACHED_BUFFER_SIZE} bytes are kept, so that many writer threads do not pin
+ * large buffers; larger bodies get a buffer of their own.
+ */
+final class CodecBuffers {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_CACHED_BUFFER_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<byte[]> BUFFER_CACHE =
+            ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    private CodecBuffers() {
+    }
+
+    /**
+     * Get the buffer of the current thread, with at least the given capacity.
+     */
+    static byte[] get(int minCapacity) {
+        byte[] buf = BUFFER_CACHE.get();
+        if (buf.length < minCapacity) {
+            buf = new byte[Math.max(minCapacity, buf.length * 2)];
+            cache(buf);
+        }
+        return buf;
+    }
+
+    /**
+     * Double the capacity of a buffer obtained from {@link #get(int)}, keeping its content.
+     */
+    static byte[] grow(byte[] buf) {
+        byte[] grown = Arrays.copyOf(buf, buf.length * 2);
+        cache(grown);
+        return grown;
+    }
+
+    private static void cache(byte[] buf) {
+        if (buf.length <= MAX_CACHED_BUFFER_SIZE) {
+            BUFFER_CACHE.set(buf);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Series;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoder of query responses into {@link ColumnarSeries}.
+ * <p>
+ * It walks the response with the {@link QueryResponseWalker} of {@link QueryResultDecoder} and appends every
+ * value straight from the parser into the typed column of its series, without a row list or boxed value in
+ * between. RFC3339 timestamps of the time column are stored as nanoseconds since the epoch.
+ */
+public class ColumnarQueryDecoder {
+    private ColumnarQueryDecoder() {
+    }
+
+    /**
+     * Decode a query response.
+     *
+     * @param json the response body.
+     * @return the series of all the statements, in response order.
+     * @throws IOException          if the body is not a valid query response.
+     * @throws OpenGeminiException if the response reports an error of the query or of one of its statements.
+     */
+    public static List<ColumnarSeries> decode(InputStream json) throws IOException, OpenGeminiException {
+        ColumnSink sink = new ColumnSink();
+        QueryResponseWalker walker = new QueryResponseWalker(sink);
+        try (JsonParser parser = JacksonService.createParser(json)) {
+            walker.walk(parser);
+        }
+        walker.finish();
+        return sink.series;
+    }
+
+    /**
+     * Sink appending the values of every series into the columns of its builder.
+     */
+    private static final class ColumnSink implements QueryResponseWalker.ValueSink {
+        private final List<ColumnarSeries> series = new ArrayList<>();
+
+        private ColumnarSeries.Builder builder;
+
+        private int timeColumn = -1;
+
+        @Override
+        public void startValues(Series current) {
+            builder = ColumnarSeries.builder();
+            List<String> columns = current.getColumns();
+            timeColumn = columns == null ? -1 : columns.indexOf(ColumnarSeries.TIME_COLUMN);
+        }
+
+        @Override
+        public void value(JsonParser parser, JsonToken token, int column) throws IOException {
+            appendValue(parser, token, builder, column, column == timeColumn);
+        }
+
+        @Override
+        public void endRow(Series current) {
+            builder.endRow();
+        }
+
+        @Override
+        public void endSeries(Series current) {
+            ColumnarSeries.Builder finished = builder == null ? ColumnarSeries.builder() : builder;
+            builder = null;
+            timeColumn = -1;
+            series.add(finished.name(current.getName()).tags(current.getTags()).columns(current.getColumns())
+                    .build());
+        }
+    }
+
+    private static void appendValue(JsonParser parser, JsonToken token, ColumnarSeries.Builder builder, int column,
+                                    boolean time) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                if (time) {
+                    appendTime(parser.getText(), builder, column);
+                } else {
+                    builder.appendString(column, parser.getText());
+                }
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    builder.appendDouble(column, parser.getDoubleValue());
+                } else {
+                    builder.appendLong(column, parser.getLongValue());
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                builder.appendDouble(column, parser.getDoubleValue());
+                break;
+            case VALUE_TRUE:
+                builder.appendBoolean(column, true);
+                break;
+            case VALUE_FALSE:
+                builder.appendBoolean(column, false);
+                break;
+            case VALUE_NULL:
+                builder.appendNull(column);
+                break;
+            default:
+                // nested values are not produced by the server, keep their json text
+                builder.appendString(column, JacksonService.toJson(JacksonService.toObject(parser, Object.class)));
+                break;
+        }
+    }
+
+    static void appendTime(String text, ColumnarSeries.Builder builder, int column) {
+        try {
+            // Instant.parse only takes a Z offset before Java 12, while tz() queries return local offsets
+            Instant instant = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text, Instant::from);
+            builder.appendLong(column, TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano());
+        } catch (DateTimeParseException e) {
+            builder.appendString(column, text);
+        }
+    }
+}
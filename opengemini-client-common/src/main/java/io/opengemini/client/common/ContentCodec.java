@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * ContentCodec compresses request bodies and decompresses response bodies for one HTTP Content-Encoding.
+ * <p>
+ * Implementations must be thread safe, a single codec instance is shared by all requests of a client.
+ */
+public interface ContentCodec extends Closeable {
+
+    /**
+     * The Content-Encoding token of this codec.
+     */
+    String name();
+
+    /**
+     * Compress the given bytes.
+     *
+     * @param src the bytes to compress.
+     * @param off the start offset in src.
+     * @param len the number of bytes to compress.
+     * @return the compressed bytes.
+     * @throws IOException if the bytes cannot be compressed.
+     */
+    byte[] encode(byte[] src, int off, int len) throws IOException;
+
+    /**
+     * Decompress the given bytes.
+     *
+     * @param src the compressed bytes.
+     * @return the decompressed bytes.
+     * @throws IOException if src is not valid compressed data.
+     */
+    byte[] decode(byte[] src) throws IOException;
+
+    /**
+     * Release the resources held by this codec.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.CompressionConfig;
+
+/**
+ * ContentCodecProvider is the service provider interface to plug additional content codecs into the client.
+ * <p>
+ * Providers are discovered with {@link java.util.ServiceLoader} and selected through
+ * {@link CompressionConfig#getContentEncoding()}.
+ */
+public interface ContentCodecProvider {
+
+    /**
+     * The Content-Encoding token of the codecs created by this provider.
+     */
+    String name();
+
+    /**
+     * Create a codec for the given configuration.
+     *
+     * @param config the compression configuration of the client.
+     */
+    ContentCodec create(CompressionConfig config);
+}
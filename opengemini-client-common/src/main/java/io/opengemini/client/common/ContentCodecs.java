@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.CompressionConfig;
+import io.opengemini.client.api.Configuration;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of the content codecs known to the client: the built-in gzip, zstd and snappy codecs plus any
+ * {@link ContentCodecProvider} found on the classpath.
+ */
+public class ContentCodecs {
+    private static final Map<String, Function<CompressionConfig, ContentCodec>> FACTORIES =
+            new ConcurrentHashMap<>();
+
+    static {
+        FACTORIES.put(CompressionConfig.GZIP, config -> new GzipContentCodec());
+        FACTORIES.put(CompressionConfig.ZSTD, ZstdContentCodec::new);
+        FACTORIES.put(CompressionConfig.SNAPPY, config -> new SnappyContentCodec());
+        for (ContentCodecProvider provider : ServiceLoader.load(ContentCodecProvider.class)) {
+            FACTORIES.put(normalize(provider.name()), provider::create);
+        }
+    }
+
+    /**
+     * Check whether a codec is known for the given Content-Encoding.
+     *
+     * @param contentEncoding the Content-Encoding token.
+     */
+    public static boolean isSupported(String contentEncoding) {
+        return contentEncoding != null && FACTORIES.containsKey(normalize(contentEncoding));
+    }
+
+    /**
+     * Create the codec compressing write bodies for the given configuration.
+     *
+     * @param conf the client configuration.
+     * @return the codec, or null when write bodies are not compressed.
+     * @throws IllegalArgumentException if the configured Content-Encoding is not supported.
+     */
+    public static @Nullable ContentCodec create(Configuration conf) {
+        CompressionConfig compressionConfig = conf.getCompressionConfig();
+        if (compressionConfig != null && compressionConfig.getContentEncoding() != null) {
+            return create(compressionConfig);
+        }
+        if (conf.isGzipEnabled()) {
+            return new GzipContentCodec();
+        }
+        return null;
+    }
+
+    /**
+     * Create the codec selected by the given compression configuration.
+     *
+     * @param config the compression configuration.
+     * @throws IllegalArgumentException if the configured Content-Encoding is not supported.
+     */
+    public static ContentCodec create(CompressionConfig config) {
+        Function<CompressionConfig, ContentCodec> factory = FACTORIES.get(normalize(config.getContentEncoding()));
+        if (factory == null) {
+            throw new IllegalArgumentException("unsupported content encoding: " + config.getContentEncoding());
+        }
+        return factory.apply(config);
+    }
+
+    private static String normalize(String contentEncoding) {
+        return contentEncoding.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Gzip compression for request bodies and decompression for response bodies.
+ * <p>
+ * Compression reuses pooled {@link Deflater} instances and a per-thread output buffer, so compressing a
+ * body only allocates the resulting array.
+ */
+public class GzipCompressor {
+    public static final String ENCODING = "gzip";
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final int HEADER_SIZE = 10;
+
+    private static final int TRAILER_SIZE = 8;
+
+    private static final int MAX_INITIAL_DECOMPRESS_SIZE = 16 * 1024 * 1024;
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final Queue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * Compress the given bytes into the gzip format.
+     *
+     * @param src the bytes to compress.
+     * @param off the start offset in src.
+     * @param len the number of bytes to compress.
+     * @return the gzip member holding the compressed bytes.
+     */
+    public static byte[] compress(byte[] src, int off, int len) {
+        Deflater deflater = DEFLATER_POOL.poll();
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        }
+        try {
+            byte[] buf = CodecBuffers.get(HEADER_SIZE + TRAILER_SIZE + len / 4);
+            writeHeader(buf);
+            int pos = HEADER_SIZE;
+            deflater.setInput(src, off, len);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (pos == buf.length - TRAILER_SIZE) {
+                    buf = CodecBuffers.grow(buf);
+                }
+                pos += deflater.deflate(buf, pos, buf.length - TRAILER_SIZE - pos);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(src, off, len);
+            writeIntLe(buf, pos, (int) crc.getValue());
+            writeIntLe(buf, pos + 4, len);
+            return Arrays.copyOf(buf, pos + TRAILER_SIZE);
+        } finally {
+            deflater.reset();
+            if (!DEFLATER_POOL.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Decompress a gzip body.
+     *
+     * @param src the gzip compressed bytes.
+     * @return the decompressed bytes.
+     * @throws IOException if src is not valid gzip data.
+     */
+    public static byte[] decompress(byte[] src) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(src))) {
+            // guess a 4x ratio, the stream grows past the clamp for larger bodies
+            ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    (int) Math.min(src.length * 4L, MAX_INITIAL_DECOMPRESS_SIZE));
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Check whether the given bytes start with the gzip magic number.
+     *
+     * @param data the bytes to check.
+     */
+    public static boolean isCompressed(byte[] data) {
+        return data != null && data.length >= 2
+                && ((data[0] & 0xff) | ((data[1] & 0xff) << 8)) == GZIP_MAGIC;
+    }
+
+    private static void writeHeader(byte[] buf) {
+        buf[0] = (byte) GZIP_MAGIC;
+        buf[1] = (byte) (GZIP_MAGIC >> 8);
+        buf[2] = Deflater.DEFLATED;
+        // flags, modification time, extra flags
+        Arrays.fill(buf, 3, 9, (byte) 0);
+        // operating system: unknown
+        buf[9] = (byte) 0xff;
+    }
+
+    private static void writeIntLe(byte[] buf, int pos, int value) {
+        buf[pos] = (byte) value;
+        buf[pos + 1] = (byte) (value >> 8);
+        buf[pos + 2] = (byte) (value >> 16);
+        buf[pos + 3] = (byte) (value >> 24);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import java.io.IOException;
+
+/**
+ * Content codec for the gzip Content-Encoding, backed by {@link GzipCompressor}.
+ */
+public class GzipContentCodec implements ContentCodec {
+
+    @Override
+    public String name() {
+        return GzipCompressor.ENCODING;
+    }
+
+    @Override
+    public byte[] encode(byte[] src, int off, int len) {
+        return GzipCompressor.compress(src, off, len);
+    }
+
+    @Override
+    public byte[] decode(byte[] src) throws IOException {
+        return GzipCompressor.decompress(src);
+    }
+}
@@ -23,4 +23,12 @@ public class HeaderConst {
      */
     public static final String VERSION = "X-Geminidb-Version";
 
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    public static final String ACCEPT = "Accept";
+
+    public static final String CONTENT_TYPE = "Content-Type";
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.Endpoint;
+import io.opengemini.client.api.HealthCheckConfig;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Probes the servers of a client and flags down those that do not answer.
+ * <p>
+ * Every server is probed on its own schedule and the probes go through the http engine of the client without
+ * blocking, so a server that does not answer delays neither the probes of the others nor the next ones. The
+ * schedules of all clients run on one daemon thread. A server whose probe timed out is not probed again before
+ * the request of that probe ends, so that requests hung on it do not pile up.
+ */
+final class HealthChecker implements Closeable {
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private final List<Endpoint> endpoints;
+
+    private final HealthCheckConfig config;
+
+    /**
+     * sends a ping to the given url prefix, completing with whether the server answered it successfully
+     */
+    private final Function<String, CompletableFuture<Boolean>> probe;
+
+    private final Map<Endpoint, ScheduledFuture<?>> scheduled = new HashMap<>();
+
+    /**
+     * request of the last probe of every server, only accessed from the scheduler thread
+     */
+    private final Map<Endpoint, CompletableFuture<Boolean>> requests = new HashMap<>();
+
+    private boolean closed;
+
+    HealthChecker(List<Endpoint> endpoints, HealthCheckConfig config,
+                  Function<String, CompletableFuture<Boolean>> probe) {
+        this.endpoints = endpoints;
+        this.config = config;
+        this.probe = probe;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r);
+            t.setName("opengemini-client-health-checker");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Probe every server now, then on its own schedule until closed.
+     */
+    void start() {
+        for (Endpoint endpoint : endpoints) {
+            schedule(endpoint, 0);
+        }
+    }
+
+    private synchronized void schedule(Endpoint endpoint, long delay) {
+        if (closed) {
+            return;
+        }
+        scheduled.put(endpoint, SCHEDULER.schedule(() -> probe(endpoint), delay, TimeUnit.MILLISECONDS));
+    }
+
+    private void probe(Endpoint endpoint) {
+        CompletableFuture<Boolean> last = requests.get(endpoint);
+        if (last != null && !last.isDone()) {
+            // the request of a timed out probe is still pending, keep to one request per server until it ends
+            schedule(endpoint, nextDelay(config.getDownInterval()));
+            return;
+        }
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeout = SCHEDULER.schedule(() -> result.complete(false), config.getTimeout(),
+                TimeUnit.MILLISECONDS);
+        try {
+            CompletableFuture<Boolean> request = probe.apply(endpoint.getUrl());
+            requests.put(endpoint, request);
+            request.whenComplete((up, error) -> result.complete(error == null && Boolean.TRUE.equals(up)));
+        } catch (RuntimeException e) {
+            requests.remove(endpoint);
+            result.complete(false);
+        }
+        result.thenAccept(up -> {
+            timeout.cancel(false);
+            endpoint.getIsDown().set(!up);
+            schedule(endpoint, nextDelay(up ? config.getInterval() : config.getDownInterval()));
+        });
+    }
+
+    /**
+     * Get the given interval deviated by a random part of the jitter.
+     */
+    long nextDelay(int interval) {
+        double jitter = config.getJitter();
+        if (jitter <= 0) {
+            return interval;
+        }
+        return Math.round(interval * (1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter)));
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (ScheduledFuture<?> future : scheduled.values()) {
+            future.cancel(false);
+        }
+        scheduled.clear();
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.opengemini.client.common;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -26,6 +27,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -69,6 +71,24 @@ public class JacksonService {
         return MAPPER.readValue(json, typeRef);
     }
 
+    /**
+     * Create a streaming parser of the given json, sharing the configuration of the mapper.
+     */
+    public static JsonParser createParser(InputStream json) throws IOException {
+        return MAPPER.createParser(json);
+    }
+
+    /**
+     * Create a non-blocking parser fed with bytes as they arrive, sharing the configuration of the mapper.
+     */
+    public static JsonParser createNonBlockingParser() throws IOException {
+        return MAPPER.getFactory().createNonBlockingByteArrayParser();
+    }
+
+    public static <T> T toObject(JsonParser parser, Class<T> type) throws IOException {
+        return MAPPER.readValue(parser, type);
+    }
+
     public static JsonNode toJsonNode(String json) throws JsonProcessingException {
         return MAPPER.readTree(json);
     }
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.QueryRowConsumer;
+import io.opengemini.client.api.ResponseFormat;
+import io.opengemini.client.api.Series;
+import io.opengemini.client.api.SeriesResult;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoder of query responses in the MessagePack format, the response of the server to a query sent with
+ * {@code Accept: application/x-msgpack}.
+ * <p>
+ * The response has the structure of the json response, with the times of RFC3339 queries encoded as timestamp
+ * extensions rather than text. Decoding a {@link QueryResult} or rows renders those times in RFC3339 like the
+ * json response does, decoding {@link ColumnarSeries} stores them as nanoseconds without rendering them.
+ */
+public class MessagePackQueryDecoder {
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    private MessagePackQueryDecoder() {
+    }
+
+    /**
+     * Check whether a response has a MessagePack body.
+     *
+     * @param contentType the Content-Type of the response, may be null.
+     */
+    public static boolean isMessagePack(String contentType) {
+        return contentType != null && contentType.regionMatches(true, 0, ResponseFormat.MSGPACK.getContentType(), 0,
+                ResponseFormat.MSGPACK.getContentType().length());
+    }
+
+    /**
+     * Decode a query response into a QueryResult, the errors of the query and of its statements being set on the
+     * result like the json binding does.
+     *
+     * @param body the response body.
+     * @throws IOException if the body is not a valid query response.
+     */
+    public static QueryResult decode(byte[] body) throws IOException {
+        return walk(body, (reader, series) -> {
+            int rows = reader.readArrayHeader();
+            List<List<Object>> values = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                values.add(readRow(reader, new ArrayList<>()));
+            }
+            series.setValues(values);
+        });
+    }
+
+    /**
+     * Decode a query response, passing every row to a consumer as it is read.
+     *
+     * @param body     the response body.
+     * @param consumer the consumer of the rows.
+     * @throws IOException          if the body is not a valid query response.
+     * @throws OpenGeminiException if the response reports an error of the query or of one of its statements,
+     *                              the rows before the error are consumed.
+     */
+    public static void decode(byte[] body, QueryRowConsumer consumer) throws IOException, OpenGeminiException {
+        List<Object> row = new ArrayList<>();
+        QueryResult result = walk(body, (reader, series) -> {
+            for (int i = reader.readArrayHeader(); i > 0; i--) {
+                row.clear();
+                consumer.accept(series, readRow(reader, row));
+            }
+        });
+        checkError(result);
+    }
+
+    /**
+     * Decode a query response into {@link ColumnarSeries}.
+     *
+     * @param body the response body.
+     * @return the series of all the statements, in response order.
+     * @throws IOException          if the body is not a valid query response.
+     * @throws OpenGeminiException if the response reports an error of the query or of one of its statements.
+     */
+    public static List<ColumnarSeries> decodeColumnar(byte[] body) throws IOException, OpenGeminiException {
+        Map<Series, ColumnarSeries> columnar = new IdentityHashMap<>();
+        QueryResult result = walk(body, (reader, series) -> columnar.put(series, readColumnar(reader, series)));
+        checkError(result);
+        List<ColumnarSeries> series = new ArrayList<>();
+        for (SeriesResult statement : result.getResults()) {
+            for (Series s : statement.getSeries()) {
+                ColumnarSeries decoded = columnar.get(s);
+                series.add(decoded != null ? decoded : ColumnarSeries.builder().name(s.getName())
+                        .tags(s.getTags()).columns(s.getColumns()).build());
+            }
+        }
+        return series;
+    }
+
+    private static QueryResult walk(byte[] body, ValuesDecoder valuesDecoder) throws IOException {
+        QueryResult result = new QueryResult();
+        result.setResults(new ArrayList<>());
+        if (body == null || body.length == 0) {
+            return result;
+        }
+        MessagePackReader reader = new MessagePackReader(body, 0, body.length);
+        for (int i = reader.readMapHeader(); i > 0; i--) {
+            String field = reader.readString();
+            if ("results".equals(field) && !reader.tryReadNil()) {
+                for (int j = reader.readArrayHeader(); j > 0; j--) {
+                    result.getResults().add(decodeResult(reader, valuesDecoder));
+                }
+            } else if ("error".equals(field) && !reader.tryReadNil()) {
+                result.setError(reader.readString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static SeriesResult decodeResult(MessagePackReader reader, ValuesDecoder valuesDecoder)
+            throws IOException {
+        SeriesResult result = new SeriesResult();
+        result.setSeries(new ArrayList<>());
+        for (int i = reader.readMapHeader(); i > 0; i--) {
+            String field = reader.readString();
+            if ("series".equals(field) && !reader.tryReadNil()) {
+                for (int j = reader.readArrayHeader(); j > 0; j--) {
+                    result.getSeries().add(decodeSeries(reader, valuesDecoder));
+                }
+            } else if ("error".equals(field) && !reader.tryReadNil()) {
+                result.setError(reader.readString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        return result;
+    }
+
+    private static Series decodeSeries(MessagePackReader reader, ValuesDecoder valuesDecoder) throws IOException {
+        Series series = new Series();
+        for (int i = reader.readMapHeader(); i > 0; i--) {
+            String field = reader.readString();
+            if (reader.tryReadNil()) {
+                continue;
+            }
+            switch (field) {
+                case "name":
+                    series.setName(reader.readString());
+                    break;
+                case "tags":
+                    Map<String, String> tags = new HashMap<>();
+                    for (int j = reader.readMapHeader(); j > 0; j--) {
+                        String key = reader.readString();
+                        tags.put(key, reader.tryReadNil() ? null : reader.readString());
+                    }
+                    series.setTags(tags);
+                    break;
+                case "columns":
+                    int size = reader.readArrayHeader();
+                    List<String> columns = new ArrayList<>(size);
+                    for (int j = 0; j < size; j++) {
+                        columns.add(reader.readString());
+                    }
+                    series.setColumns(columns);
+                    break;
+                case "values":
+                    valuesDecoder.decode(reader, series);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        return series;
+    }
+
+    private static List<Object> readRow(MessagePackReader reader, List<Object> row) throws IOException {
+        for (int i = reader.readArrayHeader(); i > 0; i--) {
+            row.add(readValue(reader));
+        }
+        return row;
+    }
+
+    /**
+     * Read a value as the object the json binding of a {@link QueryResult} would give.
+     */
+    private static Object readValue(MessagePackReader reader) throws IOException {
+        switch (reader.peekType()) {
+            case NIL:
+                reader.tryReadNil();
+                return null;
+            case BOOLEAN:
+                return reader.readBoolean();
+            case INTEGER:
+                if (reader.peekUnsignedOverflow()) {
+                    return new BigInteger(Long.toUnsignedString(reader.readUnsignedLong()));
+                }
+                long value = reader.readLong();
+                if (value == (int) value) {
+                    return (int) value;
+                }
+                return value;
+            case FLOAT:
+                return reader.readDouble();
+            case STRING:
+                return reader.readString();
+            case EXTENSION:
+                long nanos = reader.readTimestamp();
+                return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                        Math.floorMod(nanos, NANOS_PER_SECOND)).toString();
+            case ARRAY:
+                int size = reader.readArrayHeader();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(reader));
+                }
+                return list;
+            default:
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = reader.readMapHeader(); i > 0; i--) {
+                    Object key = readValue(reader);
+                    map.put(String.valueOf(key), readValue(reader));
+                }
+                return map;
+        }
+    }
+
+    private static ColumnarSeries readColumnar(MessagePackReader reader, Series series) throws IOException {
+        ColumnarSeries.Builder builder = ColumnarSeries.builder().name(series.getName()).tags(series.getTags())
+                .columns(series.getColumns());
+        int timeColumn = series.getColumns() == null ? -1 : series.getColumns().indexOf(ColumnarSeries.TIME_COLUMN);
+        for (int i = reader.readArrayHeader(); i > 0; i--) {
+            int size = reader.readArrayHeader();
+            for (int column = 0; column < size; column++) {
+                appendValue(reader, builder, column, column == timeColumn);
+            }
+            builder.endRow();
+        }
+        return builder.build();
+    }
+
+    private static void appendValue(MessagePackReader reader, ColumnarSeries.Builder builder, int column,
+                                    boolean time) throws IOException {
+        switch (reader.peekType()) {
+            case NIL:
+                reader.tryReadNil();
+                builder.appendNull(column);
+                break;
+            case BOOLEAN:
+                builder.appendBoolean(column, reader.readBoolean());
+                break;
+            case INTEGER:
+                if (reader.peekUnsignedOverflow()) {
+                    builder.appendDouble(column,
+                            new BigInteger(Long.toUnsignedString(reader.readUnsignedLong())).doubleValue());
+                } else {
+                    builder.appendLong(column, reader.readLong());
+                }
+                break;
+            case FLOAT:
+                builder.appendDouble(column, reader.readDouble());
+                break;
+            case STRING:
+                if (time) {
+                    ColumnarQueryDecoder.appendTime(reader.readString(), builder, column);
+                } else {
+                    builder.appendString(column, reader.readString());
+                }
+                break;
+            case EXTENSION:
+                builder.appendLong(column, reader.readTimestamp());
+                break;
+            default:
+                // nested values are not produced by the server, keep their json text
+                builder.appendString(column, JacksonService.toJson(readValue(reader)));
+                break;
+        }
+    }
+
+    private static void checkError(QueryResult result) throws OpenGeminiException {
+        if (result.getError() != null) {
+            throw new OpenGeminiException(result.getError());
+        }
+        for (SeriesResult statement : result.getResults()) {
+            if (statement.getError() != null) {
+                throw new OpenGeminiException(statement.getError());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValuesDecoder {
+        /**
+         * Decode the values of a series, the reader being on their array.
+         */
+        void decode(MessagePackReader reader, Series series) throws IOException;
+    }
+}
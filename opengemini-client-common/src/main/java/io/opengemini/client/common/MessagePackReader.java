@@ -0,0 +1,373 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of MessagePack values from a byte array.
+ * <p>
+ * It covers the formats the server encodes query responses with: nil, booleans, integers, floats, strings,
+ * binaries, arrays, maps and the timestamp extensions.
+ */
+final class MessagePackReader {
+    /**
+     * Timestamp extension of the MessagePack specification.
+     */
+    static final byte TIMESTAMP_EXTENSION = -1;
+
+    /**
+     * Timestamp extension of the Go msgp library: 8 bytes of seconds and 4 bytes of nanoseconds.
+     */
+    static final byte MSGP_TIME_EXTENSION = 5;
+
+    enum ValueType {
+        NIL, BOOLEAN, INTEGER, FLOAT, STRING, ARRAY, MAP, EXTENSION
+    }
+
+    private final byte[] buf;
+
+    private final int limit;
+
+    private int pos;
+
+    MessagePackReader(byte[] buf, int off, int len) {
+        this.buf = buf;
+        this.pos = off;
+        this.limit = off + len;
+    }
+
+    boolean hasNext() {
+        return pos < limit;
+    }
+
+    ValueType peekType() throws IOException {
+        int b = peek();
+        if (b <= 0x7f || b >= 0xe0) {
+            return ValueType.INTEGER;
+        }
+        if (b <= 0x8f) {
+            return ValueType.MAP;
+        }
+        if (b <= 0x9f) {
+            return ValueType.ARRAY;
+        }
+        if (b <= 0xbf) {
+            return ValueType.STRING;
+        }
+        switch (b) {
+            case 0xc0:
+                return ValueType.NIL;
+            case 0xc2:
+            case 0xc3:
+                return ValueType.BOOLEAN;
+            case 0xc4:
+            case 0xc5:
+            case 0xc6:
+            case 0xd9:
+            case 0xda:
+            case 0xdb:
+                return ValueType.STRING;
+            case 0xc7:
+            case 0xc8:
+            case 0xc9:
+            case 0xd4:
+            case 0xd5:
+            case 0xd6:
+            case 0xd7:
+            case 0xd8:
+                return ValueType.EXTENSION;
+            case 0xca:
+            case 0xcb:
+                return ValueType.FLOAT;
+            case 0xcc:
+            case 0xcd:
+            case 0xce:
+            case 0xcf:
+            case 0xd0:
+            case 0xd1:
+            case 0xd2:
+            case 0xd3:
+                return ValueType.INTEGER;
+            case 0xdc:
+            case 0xdd:
+                return ValueType.ARRAY;
+            case 0xde:
+            case 0xdf:
+                return ValueType.MAP;
+            default:
+                throw malformed("unknown format 0x" + Integer.toHexString(b));
+        }
+    }
+
+    /**
+     * Whether the next value is an unsigned 64-bit integer beyond the range of long.
+     */
+    boolean peekUnsignedOverflow() throws IOException {
+        if (peek() != 0xcf) {
+            return false;
+        }
+        ensure(2);
+        return buf[pos + 1] < 0;
+    }
+
+    boolean tryReadNil() throws IOException {
+        if (peek() == 0xc0) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    boolean readBoolean() throws IOException {
+        int b = read();
+        if (b == 0xc2 || b == 0xc3) {
+            return b == 0xc3;
+        }
+        throw malformed("expected a boolean");
+    }
+
+    long readLong() throws IOException {
+        int b = read();
+        if (b <= 0x7f) {
+            return b;
+        }
+        if (b >= 0xe0) {
+            return (byte) b;
+        }
+        switch (b) {
+            case 0xcc:
+                return read();
+            case 0xcd:
+                return readBits(2);
+            case 0xce:
+                return readBits(4);
+            case 0xcf:
+                long value = readBits(8);
+                if (value < 0) {
+                    throw malformed("unsigned integer beyond the range of long");
+                }
+                return value;
+            case 0xd0:
+                return (byte) read();
+            case 0xd1:
+                return (short) readBits(2);
+            case 0xd2:
+                return (int) readBits(4);
+            case 0xd3:
+                return readBits(8);
+            default:
+                throw malformed("expected an integer");
+        }
+    }
+
+    /**
+     * Read an unsigned 64-bit integer, for values beyond the range of long.
+     *
+     * @return the bits of the unsigned value.
+     */
+    long readUnsignedLong() throws IOException {
+        if (read() != 0xcf) {
+            throw malformed("expected an unsigned integer");
+        }
+        return readBits(8);
+    }
+
+    double readDouble() throws IOException {
+        int b = read();
+        if (b == 0xca) {
+            return Float.intBitsToFloat((int) readBits(4));
+        }
+        if (b == 0xcb) {
+            return Double.longBitsToDouble(readBits(8));
+        }
+        pos--;
+        return readLong();
+    }
+
+    String readString() throws IOException {
+        int b = read();
+        int len;
+        if (b >= 0xa0 && b <= 0xbf) {
+            len = b & 0x1f;
+        } else if (b == 0xd9 || b == 0xc4) {
+            len = read();
+        } else if (b == 0xda || b == 0xc5) {
+            len = (int) readBits(2);
+        } else if (b == 0xdb || b == 0xc6) {
+            len = length(readBits(4));
+        } else {
+            throw malformed("expected a string");
+        }
+        ensure(len);
+        String value = new String(buf, pos, len, StandardCharsets.UTF_8);
+        pos += len;
+        return value;
+    }
+
+    int readArrayHeader() throws IOException {
+        int b = read();
+        if (b >= 0x90 && b <= 0x9f) {
+            return b & 0x0f;
+        }
+        if (b == 0xdc) {
+            return (int) readBits(2);
+        }
+        if (b == 0xdd) {
+            return length(readBits(4));
+        }
+        throw malformed("expected an array");
+    }
+
+    int readMapHeader() throws IOException {
+        int b = read();
+        if (b >= 0x80 && b <= 0x8f) {
+            return b & 0x0f;
+        }
+        if (b == 0xde) {
+            return (int) readBits(2);
+        }
+        if (b == 0xdf) {
+            return length(readBits(4));
+        }
+        throw malformed("expected a map");
+    }
+
+    /**
+     * Read an extension value holding a timestamp.
+     *
+     * @return the timestamp in nanoseconds since the epoch.
+     * @throws IOException if the value is not a timestamp extension.
+     */
+    long readTimestamp() throws IOException {
+        int b = read();
+        int len;
+        switch (b) {
+            case 0xd6:
+                len = 4;
+                break;
+            case 0xd7:
+                len = 8;
+                break;
+            case 0xc7:
+                len = read();
+                break;
+            default:
+                throw malformed("expected a timestamp");
+        }
+        byte type = (byte) read();
+        ensure(len);
+        long seconds;
+        long nanos;
+        if (type == MSGP_TIME_EXTENSION && len == 12) {
+            seconds = readBits(8);
+            nanos = readBits(4);
+        } else if (type == TIMESTAMP_EXTENSION && len == 4) {
+            seconds = readBits(4);
+            nanos = 0;
+        } else if (type == TIMESTAMP_EXTENSION && len == 8) {
+            long bits = readBits(8);
+            seconds = bits & 0x3ffffffffL;
+            nanos = bits >>> 34;
+        } else if (type == TIMESTAMP_EXTENSION && len == 12) {
+            nanos = readBits(4);
+            seconds = readBits(8);
+        } else {
+            throw malformed("unsupported extension " + type + " of " + len + " bytes");
+        }
+        return seconds * 1_000_000_000L + nanos;
+    }
+
+    void skipValue() throws IOException {
+        int b = peek();
+        switch (peekType()) {
+            case ARRAY:
+                for (int i = readArrayHeader(); i > 0; i--) {
+                    skipValue();
+                }
+                break;
+            case MAP:
+                for (int i = readMapHeader() * 2; i > 0; i--) {
+                    skipValue();
+                }
+                break;
+            case STRING:
+                readString();
+                break;
+            case EXTENSION:
+                pos++;
+                int len;
+                if (b >= 0xd4 && b <= 0xd8) {
+                    len = 1 << (b - 0xd4);
+                } else {
+                    len = length(readBits(b == 0xc7 ? 1 : b == 0xc8 ? 2 : 4));
+                }
+                ensure(len + 1);
+                pos += len + 1;
+                break;
+            case FLOAT:
+                readDouble();
+                break;
+            case INTEGER:
+                if (peekUnsignedOverflow()) {
+                    pos += 9;
+                } else {
+                    readLong();
+                }
+                break;
+            default:
+                pos++;
+                break;
+        }
+    }
+
+    private int peek() throws IOException {
+        ensure(1);
+        return buf[pos] & 0xff;
+    }
+
+    private int read() throws IOException {
+        ensure(1);
+        return buf[pos++] & 0xff;
+    }
+
+    private long readBits(int bytes) throws IOException {
+        ensure(bytes);
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = value << 8 | (buf[pos++] & 0xff);
+        }
+        return value;
+    }
+
+    private int length(long len) throws IOException {
+        if (len > Integer.MAX_VALUE) {
+            throw malformed("length " + len + " too large");
+        }
+        return (int) len;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (bytes < 0 || limit - pos < bytes) {
+            throw malformed("unexpected end of input");
+        }
+    }
+
+    private IOException malformed(String message) {
+        return new IOException("malformed msgpack query response, " + message + " at offset " + pos);
+    }
+}
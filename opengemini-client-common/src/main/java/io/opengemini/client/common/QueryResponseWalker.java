@@ -0,0 +1,337 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Series;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walker of json query responses, shared by {@link QueryResultDecoder} and {@link ColumnarQueryDecoder}.
+ * <p>
+ * It walks {@code results[].series[].values[]} one token at a time, so that it reads a response from a blocking
+ * parser as well as from a non-blocking parser fed as the response arrives. The name, tags and columns of every
+ * series are read into a {@link Series}, the values of its rows are passed to a {@link ValueSink} as they are
+ * read. The error of the query, or else the first error of its statements, is kept for the decoder to report
+ * once the rows before it have been passed on.
+ */
+final class QueryResponseWalker {
+    private enum State {
+        START, QUERY, RESULTS, RESULT, SERIES_LIST, SERIES, TAGS, COLUMNS, ROWS, ROW, END
+    }
+
+    /**
+     * Receiver of the values of the rows.
+     */
+    interface ValueSink {
+        /**
+         * Called when the values of a series start, after its name, tags and columns.
+         */
+        default void startValues(Series series) throws IOException {
+        }
+
+        /**
+         * Receive the value of a cell.
+         *
+         * @param parser the parser, on the token of a scalar value, or on the start of a nested value which can be
+         *               read with {@link JacksonService#toObject(JsonParser, Class)}.
+         * @param token  the current token of the parser.
+         * @param column the index of the column of the value.
+         */
+        void value(JsonParser parser, JsonToken token, int column) throws IOException;
+
+        /**
+         * Called once all the values of a row have been received.
+         */
+        void endRow(Series series) throws IOException;
+
+        /**
+         * Called at the end of a series.
+         */
+        default void endSeries(Series series) throws IOException {
+        }
+    }
+
+    private final ValueSink sink;
+
+    private State state = State.START;
+
+    /**
+     * name of the field whose value is the next token, null when a field name or the end of the object is next
+     */
+    private String field;
+
+    /**
+     * depth of the value being skipped, 0 when none is
+     */
+    private int skipDepth;
+
+    /**
+     * tokens of the nested value of a cell being received, null when none is
+     */
+    private TokenBuffer nested;
+
+    private int nestedDepth;
+
+    private Series series;
+
+    private Map<String, String> tags;
+
+    private List<String> columns;
+
+    private int column;
+
+    private String error;
+
+    QueryResponseWalker(ValueSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Walk the tokens the parser has available: up to the end of the response, of the input, or of the bytes
+     * fed so far to a non-blocking parser.
+     *
+     * @throws IOException if the response is not a valid query response.
+     */
+    void walk(JsonParser parser) throws IOException {
+        JsonToken token;
+        while (state != State.END && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            accept(parser, token);
+        }
+    }
+
+    /**
+     * Check the response once its input has ended and been walked, an empty response being complete.
+     *
+     * @throws IOException          if the response ended before it was complete.
+     * @throws OpenGeminiException if the response reports an error of the query or of one of its statements.
+     */
+    void finish() throws IOException, OpenGeminiException {
+        if (state != State.END && state != State.START) {
+            throw new IOException("malformed query response, unexpected end of input in " + state);
+        }
+        if (error != null) {
+            throw new OpenGeminiException(error);
+        }
+    }
+
+    private void accept(JsonParser parser, JsonToken token) throws IOException {
+        if (skipDepth > 0) {
+            skipDepth += depthChange(token);
+            return;
+        }
+        if (nested != null) {
+            nested.copyCurrentEvent(parser);
+            nestedDepth += depthChange(token);
+            if (nestedDepth == 0) {
+                try (JsonParser value = nested.asParser()) {
+                    nested = null;
+                    sink.value(value, value.nextToken(), column++);
+                }
+            }
+            return;
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            field = parser.currentName();
+            return;
+        }
+        switch (state) {
+            case START:
+                expect(parser, JsonToken.START_OBJECT);
+                state = State.QUERY;
+                break;
+            case QUERY:
+                if (token == JsonToken.END_OBJECT) {
+                    state = State.END;
+                } else {
+                    queryField(parser, token, takeField());
+                }
+                break;
+            case RESULTS:
+                if (token == JsonToken.END_ARRAY) {
+                    state = State.QUERY;
+                } else {
+                    expect(parser, JsonToken.START_OBJECT);
+                    state = State.RESULT;
+                }
+                break;
+            case RESULT:
+                if (token == JsonToken.END_OBJECT) {
+                    state = State.RESULTS;
+                } else {
+                    resultField(parser, token, takeField());
+                }
+                break;
+            case SERIES_LIST:
+                if (token == JsonToken.END_ARRAY) {
+                    state = State.RESULT;
+                } else {
+                    expect(parser, JsonToken.START_OBJECT);
+                    series = new Series();
+                    state = State.SERIES;
+                }
+                break;
+            case SERIES:
+                if (token == JsonToken.END_OBJECT) {
+                    sink.endSeries(series);
+                    series = null;
+                    state = State.SERIES_LIST;
+                } else {
+                    seriesField(parser, token, takeField());
+                }
+                break;
+            case TAGS:
+                if (token == JsonToken.END_OBJECT) {
+                    series.setTags(tags);
+                    tags = null;
+                    state = State.SERIES;
+                } else {
+                    tags.put(takeField(), token == JsonToken.VALUE_NULL ? null : scalarText(parser, token));
+                }
+                break;
+            case COLUMNS:
+                if (token == JsonToken.END_ARRAY) {
+                    series.setColumns(columns);
+                    columns = null;
+                    state = State.SERIES;
+                } else {
+                    columns.add(scalarText(parser, token));
+                }
+                break;
+            case ROWS:
+                if (token == JsonToken.END_ARRAY) {
+                    state = State.SERIES;
+                } else {
+                    expect(parser, JsonToken.START_ARRAY);
+                    column = 0;
+                    state = State.ROW;
+                }
+                break;
+            case ROW:
+                if (token == JsonToken.END_ARRAY) {
+                    sink.endRow(series);
+                    state = State.ROWS;
+                } else if (token.isStructStart()) {
+                    nested = new TokenBuffer(parser);
+                    nested.copyCurrentEvent(parser);
+                    nestedDepth = 1;
+                } else {
+                    sink.value(parser, token, column++);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void queryField(JsonParser parser, JsonToken token, String name) throws IOException {
+        if ("results".equals(name) && token == JsonToken.START_ARRAY) {
+            state = State.RESULTS;
+        } else if ("error".equals(name) && token == JsonToken.VALUE_STRING) {
+            error = parser.getText();
+        } else {
+            skip(token);
+        }
+    }
+
+    private void resultField(JsonParser parser, JsonToken token, String name) throws IOException {
+        if ("series".equals(name) && token == JsonToken.START_ARRAY) {
+            state = State.SERIES_LIST;
+        } else if ("error".equals(name) && token == JsonToken.VALUE_STRING) {
+            if (error == null) {
+                error = parser.getText();
+            }
+        } else {
+            skip(token);
+        }
+    }
+
+    private void seriesField(JsonParser parser, JsonToken token, String name) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        switch (name) {
+            case "name":
+                series.setName(scalarText(parser, token));
+                break;
+            case "tags":
+                expect(parser, JsonToken.START_OBJECT);
+                tags = new HashMap<>();
+                state = State.TAGS;
+                break;
+            case "columns":
+                expect(parser, JsonToken.START_ARRAY);
+                columns = new ArrayList<>();
+                state = State.COLUMNS;
+                break;
+            case "values":
+                expect(parser, JsonToken.START_ARRAY);
+                sink.startValues(series);
+                state = State.ROWS;
+                break;
+            default:
+                skip(token);
+                break;
+        }
+    }
+
+    /**
+     * Take the name of the field whose value is the current token.
+     */
+    private String takeField() {
+        String name = field;
+        field = null;
+        return name;
+    }
+
+    private void skip(JsonToken token) {
+        skipDepth = depthChange(token);
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            throw malformed(parser, "a scalar value");
+        }
+        return parser.getText();
+    }
+
+    private static int depthChange(JsonToken token) {
+        if (token.isStructStart()) {
+            return 1;
+        }
+        return token.isStructEnd() ? -1 : 0;
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw malformed(parser, expected.toString());
+        }
+    }
+
+    private static IOException malformed(JsonParser parser, String expected) {
+        return new IOException("malformed query response, expected " + expected + " but got "
+                + parser.currentToken() + " at " + parser.currentLocation());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryRowConsumer;
+import io.opengemini.client.api.Series;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming decoder of query responses.
+ * <p>
+ * It walks {@code results[].series[].values[]} with a {@link QueryResponseWalker} and passes every row to a
+ * {@link QueryRowConsumer} as soon as it is read, reusing one list for all rows, so that decoding holds one row
+ * and the parser buffer rather than the whole result tree. Values are decoded to the types the mapper binds a
+ * {@link io.opengemini.client.api.QueryResult} to: strings, integers or longs, doubles, booleans and null.
+ * <p>
+ * A response is decoded from a stream with {@link #decode(InputStream, QueryRowConsumer)}, or fed to an instance
+ * as its bytes arrive, which feeds them to a non-blocking parser and holds no more than one row either.
+ */
+public final class QueryResultDecoder {
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private final QueryResponseWalker walker;
+
+    public QueryResultDecoder(QueryRowConsumer consumer) throws IOException {
+        this.parser = JacksonService.createNonBlockingParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.walker = new QueryResponseWalker(new RowSink(consumer));
+    }
+
+    /**
+     * Feed the next bytes of the response, passing the rows they complete to the consumer.
+     *
+     * @param bytes the bytes, which must not be modified before the method returns.
+     * @param off   the start offset in bytes.
+     * @param len   the number of bytes.
+     * @throws IOException if the response is not a valid query response.
+     */
+    public void feed(byte[] bytes, int off, int len) throws IOException {
+        feeder.feedInput(bytes, off, off + len);
+        walker.walk(parser);
+    }
+
+    /**
+     * Signal the end of the response.
+     *
+     * @throws IOException          if the response ends before it is complete.
+     * @throws OpenGeminiException if the response reports an error of the query or of one of its statements,
+     *                              the rows before the error are consumed.
+     */
+    public void end() throws IOException, OpenGeminiException {
+        feeder.endOfInput();
+        try {
+            walker.walk(parser);
+        } finally {
+            parser.close();
+        }
+        walker.finish();
+    }
+
+    /**
+     * Decode a query response.
+     *
+     * @param json     the response body.
+     * @param consumer the consumer of the rows.
+     * @throws IOException          if the body is not a valid query response.
+     * @throws OpenGeminiException if the response reports an error of the query or of one of its statements,
+     *                              the rows before the error are consumed.
+     */
+    public static void decode(InputStream json, QueryRowConsumer consumer) throws IOException, OpenGeminiException {
+        QueryResponseWalker walker = new QueryResponseWalker(new RowSink(consumer));
+        try (JsonParser parser = JacksonService.createParser(json)) {
+            walker.walk(parser);
+        }
+        walker.finish();
+    }
+
+    /**
+     * Sink collecting the values of a row into one reused list.
+     */
+    private static final class RowSink implements QueryResponseWalker.ValueSink {
+        private final QueryRowConsumer consumer;
+
+        private final List<Object> row = new ArrayList<>();
+
+        private RowSink(QueryRowConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void value(JsonParser parser, JsonToken token, int column) throws IOException {
+            row.add(decodeValue(parser, token));
+        }
+
+        @Override
+        public void endRow(Series series) {
+            consumer.accept(series, row);
+            row.clear();
+        }
+    }
+
+    private static Object decodeValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                // nested values are not produced by the server, bind them like the mapper would
+                return JacksonService.toObject(parser, Object.class);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.CompressionConfig;
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Content codec for the snappy Content-Encoding, using the raw snappy block format.
+ */
+public class SnappyContentCodec implements ContentCodec {
+
+    @Override
+    public String name() {
+        return CompressionConfig.SNAPPY;
+    }
+
+    @Override
+    public byte[] encode(byte[] src, int off, int len) throws IOException {
+        byte[] buf = CodecBuffers.get(Snappy.maxCompressedLength(len));
+        int size = Snappy.compress(src, off, len, buf, 0);
+        return Arrays.copyOf(buf, size);
+    }
+
+    @Override
+    public byte[] decode(byte[] src) throws IOException {
+        return Snappy.uncompress(src);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStream;
+import io.opengemini.client.api.CompressionConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Content codec for the zstd Content-Encoding, with a configurable level and an optional trained dictionary.
+ * <p>
+ * Native compression and decompression contexts are pooled and reused across requests.
+ */
+public class ZstdContentCodec implements ContentCodec {
+    private static final int MAX_INITIAL_DECOMPRESS_SIZE = 16 * 1024 * 1024;
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final int level;
+
+    private final byte[] dictionary;
+
+    private final ZstdDictCompress dictCompress;
+
+    private final ZstdDictDecompress dictDecompress;
+
+    private final BlockingQueue<ZstdCompressCtx> compressPool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final BlockingQueue<ZstdDecompressCtx> decompressPool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    public ZstdContentCodec(int level, byte[] dictionary) {
+        this.level = level;
+        this.dictionary = dictionary;
+        if (dictionary != null && dictionary.length > 0) {
+            this.dictCompress = new ZstdDictCompress(dictionary, level);
+            this.dictDecompress = new ZstdDictDecompress(dictionary);
+        } else {
+            this.dictCompress = null;
+            this.dictDecompress = null;
+        }
+    }
+
+    public ZstdContentCodec(CompressionConfig config) {
+        this(config.getZstdLevel(), config.getZstdDictionary());
+    }
+
+    @Override
+    public String name() {
+        return CompressionConfig.ZSTD;
+    }
+
+    @Override
+    public byte[] encode(byte[] src, int off, int len) throws IOException {
+        ZstdCompressCtx ctx = compressPool.poll();
+        if (ctx == null) {
+            ctx = newCompressCtx();
+        }
+        try {
+            byte[] buf = CodecBuffers.get((int) Zstd.compressBound(len));
+            int size = ctx.compressByteArray(buf, 0, buf.length, src, off, len);
+            return Arrays.copyOf(buf, size);
+        } catch (ZstdException e) {
+            throw new IOException("zstd compression failed", e);
+        } finally {
+            release(compressPool, ctx);
+        }
+    }
+
+    @Override
+    public byte[] decode(byte[] src) throws IOException {
+        long size = Zstd.decompressedSize(src);
+        if (size <= 0 || size > Integer.MAX_VALUE) {
+            // the frame does not carry its content size, fall back to streaming decompression
+            return decodeStream(src);
+        }
+        ZstdDecompressCtx ctx = decompressPool.poll();
+        if (ctx == null) {
+            ctx = newDecompressCtx();
+        }
+        try {
+            return ctx.decompress(src, (int) size);
+        } catch (ZstdException e) {
+            if (e.getErrorCode() != Zstd.errDstSizeTooSmall()) {
+                throw new IOException("zstd decompression failed", e);
+            }
+        } finally {
+            release(decompressPool, ctx);
+        }
+        // the size is the one of the first frame, the body holds more frames than that
+        return decodeStream(src);
+    }
+
+    private byte[] decodeStream(byte[] src) throws IOException {
+        try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(src))) {
+            if (dictionary != null && dictionary.length > 0) {
+                in.setDict(dictionary);
+            }
+            // guess a 4x ratio, the stream grows past the clamp for larger bodies
+            ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    (int) Math.min(src.length * 4L, MAX_INITIAL_DECOMPRESS_SIZE));
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private ZstdCompressCtx newCompressCtx() {
+        ZstdCompressCtx ctx = new ZstdCompressCtx();
+        ctx.setLevel(level);
+        if (dictCompress != null) {
+            ctx.loadDict(dictCompress);
+        }
+        return ctx;
+    }
+
+    private ZstdDecompressCtx newDecompressCtx() {
+        ZstdDecompressCtx ctx = new ZstdDecompressCtx();
+        if (dictDecompress != null) {
+            ctx.loadDict(dictDecompress);
+        }
+        return ctx;
+    }
+
+    private static <T extends AutoCloseable> void release(BlockingQueue<T> pool, T ctx) {
+        if (!pool.offer(ctx)) {
+            closeQuietly(ctx);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable ctx) {
+        try {
+            ctx.close();
+        } catch (Exception e) {
+            // native resources are released anyway
+        }
+    }
+
+    @Override
+    public void close() {
+        compressPool.forEach(ZstdContentCodec::closeQuietly);
+        compressPool.clear();
+        decompressPool.forEach(ZstdContentCodec::closeQuietly);
+        decompressPool.clear();
+        if (dictCompress != null) {
+            dictCompress.close();
+            dictDecompress.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Series;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class ChunkedQueryDecoderTest {
+    private static final String RESPONSE = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+            + "\"tags\":{\"host\":\"a\"},\"columns\":[\"time\",\"v\"],\"values\":[[1,0.5],[2,1.5]],"
+            + "\"partial\":true}],\"partial\":true}]}\n"
+            + "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\",\"tags\":{\"host\":\"a\"},"
+            + "\"columns\":[\"time\",\"v\"],\"values\":[[3,2.5]]}],\"partial\":true}]}\n"
+            + "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\",\"tags\":{\"host\":\"b\"},"
+            + "\"columns\":[\"time\",\"v\"],\"values\":[[1,\"x\"]]}]}]}\n";
+
+    @Test
+    void series_decoded_whatever_the_split() throws Exception {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        for (int split = 0; split <= bytes.length; split++) {
+            ChunkedQueryDecoder decoder = new ChunkedQueryDecoder();
+            List<Series> series = new ArrayList<>(decoder.feed(bytes, 0, split));
+            series.addAll(decoder.feed(bytes, split, bytes.length - split));
+            series.addAll(decoder.end());
+
+            Assertions.assertEquals(3, series.size());
+            Assertions.assertEquals("a", series.get(1).getTags().get("host"));
+            Assertions.assertEquals(2, series.get(0).getValues().size());
+            Assertions.assertEquals(3, series.get(1).getValues().get(0).get(0));
+            Assertions.assertEquals("x", series.get(2).getValues().get(0).get(1));
+        }
+    }
+
+    @Test
+    void chunk_emitted_once_complete() throws Exception {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        int firstChunkEnd = RESPONSE.indexOf('\n');
+        ChunkedQueryDecoder decoder = new ChunkedQueryDecoder();
+        Assertions.assertTrue(decoder.feed(bytes, 0, firstChunkEnd - 1).isEmpty());
+        Assertions.assertEquals(1, decoder.feed(bytes, firstChunkEnd - 1, 1).size());
+    }
+
+    @Test
+    void byte_by_byte_feed() throws Exception {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        ChunkedQueryDecoder decoder = new ChunkedQueryDecoder();
+        int series = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            series += decoder.feed(bytes, i, 1).size();
+        }
+        Assertions.assertEquals(3, series + decoder.end().size());
+    }
+
+    @Test
+    void error_chunk_reported() throws Exception {
+        byte[] bytes = ("{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\",\"values\":[[1]]}]}]}\n"
+                + "{\"results\":[{\"statement_id\":0,\"error\":\"query killed\"}]}").getBytes(StandardCharsets.UTF_8);
+        ChunkedQueryDecoder decoder = new ChunkedQueryDecoder();
+        OpenGeminiException e = Assertions.assertThrows(OpenGeminiException.class,
+                () -> decoder.feed(bytes, 0, bytes.length));
+        Assertions.assertEquals("query killed", e.getMessage());
+    }
+
+    @Test
+    void truncated_response_reported() throws Exception {
+        byte[] bytes = RESPONSE.substring(0, RESPONSE.length() - 10).getBytes(StandardCharsets.UTF_8);
+        ChunkedQueryDecoder decoder = new ChunkedQueryDecoder();
+        Assertions.assertEquals(2, decoder.feed(bytes, 0, bytes.length).size());
+        Assertions.assertThrows(IOException.class, decoder::end);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CodecBuffersTest {
+
+    @Test
+    void small_buffer_reused_by_thread() {
+        byte[] buf = CodecBuffers.get(100 * 1024);
+        Assertions.assertSame(buf, CodecBuffers.get(1024));
+        Assertions.assertSame(buf, CodecBuffers.get(buf.length));
+    }
+
+    @Test
+    void large_buffer_not_cached() {
+        byte[] large = CodecBuffers.get(1024 * 1024);
+        Assertions.assertTrue(large.length >= 1024 * 1024);
+        Assertions.assertNotSame(large, CodecBuffers.get(1024 * 1024));
+        Assertions.assertTrue(CodecBuffers.get(1).length <= 256 * 1024);
+
+        byte[] grown = CodecBuffers.grow(CodecBuffers.get(200 * 1024));
+        Assertions.assertTrue(grown.length > 256 * 1024);
+        Assertions.assertTrue(CodecBuffers.get(1).length <= 256 * 1024);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.ColumnType;
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.Series;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class ColumnarQueryDecoderTest {
+    private static final String RESPONSE = "{\"results\":[{\"statement_id\":0,\"series\":["
+            + "{\"name\":\"cpu\",\"tags\":{\"host\":\"a\"},\"columns\":[\"time\",\"usage\",\"count\","
+            + "\"up\",\"note\"],\"values\":[[\"2024-01-01T00:00:00Z\",1.5,3,true,null],"
+            + "[\"2024-01-01T00:00:10.000000001Z\",2,12345678901,false,\"x\"]]},"
+            + "{\"name\":\"cpu\",\"tags\":{\"host\":\"b\"},\"columns\":[\"time\",\"usage\"],"
+            + "\"partial\":true,\"values\":[[\"2024-01-01T00:00:00Z\",0.25]]}]},"
+            + "{\"statement_id\":1,\"series\":[{\"name\":\"mem\",\"columns\":[\"time\",\"free\"],"
+            + "\"values\":[[1704067200000000000,{\"nested\":[1]}]]}]}]}";
+
+    @Test
+    void columns_typed_from_values() throws Exception {
+        List<ColumnarSeries> series = decode(RESPONSE);
+
+        Assertions.assertEquals(3, series.size());
+        ColumnarSeries cpu = series.get(0);
+        Assertions.assertEquals("cpu", cpu.getName());
+        Assertions.assertEquals(Collections.singletonMap("host", "a"), cpu.getTags());
+        Assertions.assertEquals(2, cpu.getRowCount());
+        Assertions.assertEquals(ColumnType.LONG, cpu.getColumnType(0));
+        Assertions.assertEquals(ColumnType.DOUBLE, cpu.getColumnType(1));
+        Assertions.assertEquals(ColumnType.LONG, cpu.getColumnType(2));
+        Assertions.assertEquals(ColumnType.BOOLEAN, cpu.getColumnType(3));
+        Assertions.assertEquals(ColumnType.STRING, cpu.getColumnType(4));
+
+        long start = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond() * 1_000_000_000L;
+        Assertions.assertEquals(start, cpu.getTime(0));
+        Assertions.assertEquals(start + 10_000_000_001L, cpu.getTime(1));
+        Assertions.assertEquals(2.0, cpu.getDouble(1, 1));
+        Assertions.assertEquals(12345678901L, cpu.getLong(1, 2));
+        Assertions.assertTrue(cpu.getBoolean(0, 3));
+        Assertions.assertTrue(cpu.isNull(0, 4));
+        Assertions.assertEquals("x", cpu.getString(1, 4));
+
+        ColumnarSeries mem = series.get(2);
+        Assertions.assertEquals(1704067200000000000L, mem.getTime(0));
+        Assertions.assertEquals("{\"nested\":[1]}", mem.getString(0, 1));
+    }
+
+    @Test
+    void time_with_offset_stored_as_nanoseconds() throws Exception {
+        String response = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+                + "\"columns\":[\"time\"],\"values\":[[\"2024-01-01T08:00:00.5+08:00\"],"
+                + "[\"2023-12-31T19:00:01-05:00\"]]}]}]}";
+        ColumnarSeries cpu = decode(response).get(0);
+
+        Assertions.assertEquals(ColumnType.LONG, cpu.getColumnType(0));
+        Assertions.assertEquals(1704067200500000000L, cpu.getTime(0));
+        Assertions.assertEquals(1704067201000000000L, cpu.getTime(1));
+    }
+
+    @Test
+    void values_match_bound_result() throws Exception {
+        String response = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"m\",\"columns\":"
+                + "[\"time\",\"f\",\"i\",\"s\"],\"values\":[[1,1.5,1,\"a\"],[2,null,2,\"b\"],[3,3.25,3,\"a\"]]}]}]}";
+        List<ColumnarSeries> columnar = decode(response);
+        Series bound = JacksonService.toObject(response, QueryResult.class).getResults().get(0).getSeries().get(0);
+
+        ColumnarSeries series = columnar.get(0);
+        Assertions.assertEquals(bound.getColumns(), series.getColumns());
+        for (int row = 0; row < series.getRowCount(); row++) {
+            List<Object> values = new ArrayList<>();
+            for (int column = 0; column < series.getColumnCount(); column++) {
+                values.add(series.getValue(row, column));
+            }
+            List<Object> expected = bound.getValues().get(row);
+            Assertions.assertEquals(expected.size(), values.size());
+            for (int column = 0; column < values.size(); column++) {
+                Object value = expected.get(column);
+                Object actual = values.get(column);
+                if (value instanceof Number) {
+                    Assertions.assertEquals(((Number) value).doubleValue(), ((Number) actual).doubleValue());
+                } else {
+                    Assertions.assertEquals(value, actual);
+                }
+            }
+        }
+        Assertions.assertEquals(2, series.getStringDictionary(3).size());
+    }
+
+    @Test
+    void statement_error_reported() {
+        String response = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+                + "\"columns\":[\"time\"],\"values\":[[1]]}]},"
+                + "{\"statement_id\":1,\"error\":\"measurement not found\"}]}";
+        OpenGeminiException e = Assertions.assertThrows(OpenGeminiException.class, () -> decode(response));
+        Assertions.assertTrue(e.getMessage().contains("measurement not found"));
+    }
+
+    @Test
+    void empty_result_decoded() throws Exception {
+        Assertions.assertTrue(decode("{\"results\":[{\"statement_id\":0}]}").isEmpty());
+        Assertions.assertTrue(decode("").isEmpty());
+    }
+
+    @Test
+    void malformed_response_rejected() {
+        Assertions.assertThrows(IOException.class, () -> decode("{\"results\":[{\"series\":[{\"values\":1}]}]}"));
+    }
+
+    private static List<ColumnarSeries> decode(String json) throws IOException, OpenGeminiException {
+        return ColumnarQueryDecoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
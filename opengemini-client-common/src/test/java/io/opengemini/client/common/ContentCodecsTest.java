@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import com.github.luben.zstd.Zstd;
+import io.opengemini.client.api.CompressionConfig;
+import io.opengemini.client.api.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+class ContentCodecsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "zstd", "snappy", "Zstd", "identity"})
+    void codec_round_trip(String contentEncoding) throws IOException {
+        byte[] body = lineProtocol(2000);
+        try (ContentCodec codec = ContentCodecs.create(new CompressionConfig(contentEncoding))) {
+            Assertions.assertEquals(contentEncoding.toLowerCase(), codec.name());
+            byte[] encoded = codec.encode(body, 0, body.length);
+            Assertions.assertArrayEquals(body, codec.decode(encoded));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "zstd", "snappy"})
+    void codec_compresses_line_protocol(String contentEncoding) throws IOException {
+        byte[] body = lineProtocol(2000);
+        try (ContentCodec codec = ContentCodecs.create(new CompressionConfig(contentEncoding))) {
+            Assertions.assertTrue(codec.encode(body, 0, body.length).length < body.length / 3);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "zstd", "snappy"})
+    void codec_encode_with_offset(String contentEncoding) throws IOException {
+        byte[] body = "xxcpu,host=a value=1i 1yy".getBytes(StandardCharsets.UTF_8);
+        try (ContentCodec codec = ContentCodecs.create(new CompressionConfig(contentEncoding))) {
+            byte[] encoded = codec.encode(body, 2, body.length - 4);
+            Assertions.assertEquals("cpu,host=a value=1i 1", new String(codec.decode(encoded), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void zstd_with_trained_dictionary() throws IOException {
+        byte[][] samples = new byte[500][];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = lineProtocol(i, 3);
+        }
+        byte[] dictionary = new byte[16 * 1024];
+        int dictionarySize = (int) Zstd.trainFromBuffer(samples, dictionary);
+        Assertions.assertFalse(Zstd.isError(dictionarySize));
+        dictionary = Arrays.copyOf(dictionary, dictionarySize);
+
+        CompressionConfig config = new CompressionConfig(CompressionConfig.ZSTD);
+        config.setZstdLevel(1);
+        config.setZstdDictionary(dictionary);
+        byte[] body = lineProtocol(1000, 3);
+        try (ContentCodec withDictionary = ContentCodecs.create(config);
+             ContentCodec withoutDictionary = new ZstdContentCodec(1, null)) {
+            byte[] encoded = withDictionary.encode(body, 0, body.length);
+            Assertions.assertArrayEquals(body, withDictionary.decode(encoded));
+            Assertions.assertTrue(encoded.length < withoutDictionary.encode(body, 0, body.length).length);
+        }
+    }
+
+    @Test
+    void zstd_concatenated_frames_decoded() throws IOException {
+        byte[] first = lineProtocol(100);
+        byte[] second = lineProtocol(300);
+        byte[] firstFrame = Zstd.compress(first);
+        byte[] secondFrame = Zstd.compress(second);
+        byte[] body = Arrays.copyOf(firstFrame, firstFrame.length + secondFrame.length);
+        System.arraycopy(secondFrame, 0, body, firstFrame.length, secondFrame.length);
+        byte[] expected = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, expected, first.length, second.length);
+
+        try (ContentCodec codec = new ZstdContentCodec(1, null)) {
+            Assertions.assertArrayEquals(expected, codec.decode(body));
+            Assertions.assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(firstFrame, 20)));
+        }
+    }
+
+    @Test
+    void unknown_encoding_rejected() {
+        Assertions.assertFalse(ContentCodecs.isSupported("br"));
+        Assertions.assertFalse(ContentCodecs.isSupported(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContentCodecs.create(new CompressionConfig("br")));
+    }
+
+    @Test
+    void codec_selected_from_configuration() {
+        Configuration conf = new Configuration();
+        Assertions.assertNull(ContentCodecs.create(conf));
+
+        conf.setGzipEnabled(true);
+        Assertions.assertEquals("gzip", ContentCodecs.create(conf).name());
+
+        conf.setCompressionConfig(new CompressionConfig(CompressionConfig.SNAPPY));
+        Assertions.assertEquals("snappy", ContentCodecs.create(conf).name());
+    }
+
+    private static byte[] lineProtocol(int lines) {
+        return lineProtocol(0, lines);
+    }
+
+    private static byte[] lineProtocol(int start, int lines) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i < start + lines; i++) {
+            sb.append("cpu,host=server").append(i % 10).append(",region=us-west usage_idle=")
+                    .append(i % 100).append(".5,usage_user=").append(i % 7).append("i ")
+                    .append(1700000000000000000L + i).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A pass-through codec registered through the provider SPI.
+     */
+    public static class IdentityCodecProvider implements ContentCodecProvider {
+        @Override
+        public String name() {
+            return "identity";
+        }
+
+        @Override
+        public ContentCodec create(CompressionConfig config) {
+            return new ContentCodec() {
+                @Override
+                public String name() {
+                    return "identity";
+                }
+
+                @Override
+                public byte[] encode(byte[] src, int off, int len) {
+                    return Arrays.copyOfRange(src, off, off + len);
+                }
+
+                @Override
+                public byte[] decode(byte[] src) {
+                    return src;
+                }
+            };
+        }
+    }
+}
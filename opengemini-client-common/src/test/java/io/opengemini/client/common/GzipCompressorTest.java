@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+class GzipCompressorTest {
+
+    @Test
+    void compressed_body_readable_by_jdk_gzip() throws IOException {
+        byte[] body = lineProtocol(1000).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = GzipCompressor.compress(body, 0, body.length);
+
+        Assertions.assertTrue(GzipCompressor.isCompressed(compressed));
+        Assertions.assertTrue(compressed.length < body.length / 5);
+        Assertions.assertArrayEquals(body, jdkDecompress(compressed));
+    }
+
+    @Test
+    void compress_with_offset() throws IOException {
+        byte[] body = "xxcpu,host=a value=1i 1yy".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = GzipCompressor.compress(body, 2, body.length - 4);
+        Assertions.assertEquals("cpu,host=a value=1i 1",
+                new String(GzipCompressor.decompress(compressed), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compress_incompressible_body_larger_than_buffer() throws IOException {
+        byte[] body = new byte[300 * 1024];
+        new Random(42).nextBytes(body);
+        for (int i = 0; i < 3; i++) {
+            byte[] compressed = GzipCompressor.compress(body, 0, body.length);
+            Assertions.assertArrayEquals(body, GzipCompressor.decompress(compressed));
+        }
+    }
+
+    @Test
+    void compress_empty_body() throws IOException {
+        byte[] compressed = GzipCompressor.compress(new byte[0], 0, 0);
+        Assertions.assertEquals(0, GzipCompressor.decompress(compressed).length);
+    }
+
+    @Test
+    void plain_body_not_detected_as_compressed() {
+        Assertions.assertFalse(GzipCompressor.isCompressed("{\"results\":[]}".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertFalse(GzipCompressor.isCompressed(new byte[0]));
+        Assertions.assertFalse(GzipCompressor.isCompressed(null));
+    }
+
+    private static String lineProtocol(int lines) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append("cpu,host=server").append(i % 10).append(",region=us-west usage_idle=")
+                    .append(i % 100).append(".5,usage_user=").append(i % 7).append("i ")
+                    .append(1700000000000000000L + i).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static byte[] jdkDecompress(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
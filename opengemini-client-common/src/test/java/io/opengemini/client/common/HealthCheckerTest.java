@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.Endpoint;
+import io.opengemini.client.api.HealthCheckConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+class HealthCheckerTest {
+
+    @Test
+    void unanswered_probe_does_not_delay_others() throws InterruptedException {
+        List<Endpoint> endpoints = endpoints(3);
+        HealthCheckConfig config = config(60_000, 60_000);
+        config.setTimeout(300);
+        // the first server never answers
+        try (HealthChecker checker = new HealthChecker(endpoints, config, url -> url.endsWith(":8086")
+                ? new CompletableFuture<>() : CompletableFuture.completedFuture(url.endsWith(":8087")))) {
+            endpoints.get(1).getIsDown().set(true);
+            checker.start();
+
+            await(() -> endpoints.get(2).getIsDown().get() && !endpoints.get(1).getIsDown().get());
+            Assertions.assertFalse(endpoints.get(0).getIsDown().get());
+            await(() -> endpoints.get(0).getIsDown().get());
+        }
+    }
+
+    @Test
+    void no_probe_while_timed_out_request_pending() throws InterruptedException {
+        List<Endpoint> endpoints = endpoints(1);
+        HealthCheckConfig config = config(60_000, 10);
+        config.setTimeout(20);
+        AtomicInteger probes = new AtomicInteger();
+        CompletableFuture<Boolean> hung = new CompletableFuture<>();
+        try (HealthChecker checker = new HealthChecker(endpoints, config, url -> {
+            probes.incrementAndGet();
+            return hung;
+        })) {
+            checker.start();
+            await(() -> endpoints.get(0).getIsDown().get());
+            Thread.sleep(200);
+            Assertions.assertEquals(1, probes.get());
+
+            hung.complete(false);
+            await(() -> probes.get() > 1);
+        }
+    }
+
+    @Test
+    void down_server_probed_again_sooner() throws InterruptedException {
+        List<Endpoint> endpoints = endpoints(2);
+        Map<String, AtomicInteger> probes = new ConcurrentHashMap<>();
+        AtomicBoolean recovered = new AtomicBoolean();
+        try (HealthChecker checker = new HealthChecker(endpoints, config(60_000, 20), url -> {
+            probes.computeIfAbsent(url, key -> new AtomicInteger()).incrementAndGet();
+            return CompletableFuture.completedFuture(url.endsWith(":8086") || recovered.get());
+        })) {
+            checker.start();
+
+            await(() -> probes.get("http://127.0.0.1:8087") != null && probes.get("http://127.0.0.1:8087").get() >= 3);
+            Assertions.assertTrue(endpoints.get(1).getIsDown().get());
+            Assertions.assertEquals(1, probes.get("http://127.0.0.1:8086").get());
+
+            recovered.set(true);
+            await(() -> !endpoints.get(1).getIsDown().get());
+        }
+    }
+
+    @Test
+    void failed_probe_flags_server_down() throws InterruptedException {
+        List<Endpoint> endpoints = endpoints(2);
+        CompletableFuture<Boolean> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IllegalStateException("connection refused"));
+        try (HealthChecker checker = new HealthChecker(endpoints, config(60_000, 60_000), url -> {
+            if (url.endsWith(":8086")) {
+                throw new IllegalStateException("client closed");
+            }
+            return failure;
+        })) {
+            checker.start();
+            await(() -> endpoints.get(0).getIsDown().get() && endpoints.get(1).getIsDown().get());
+        }
+    }
+
+    @Test
+    void no_probe_after_close() throws InterruptedException {
+        List<Endpoint> endpoints = endpoints(2);
+        AtomicInteger probes = new AtomicInteger();
+        HealthChecker checker = new HealthChecker(endpoints, config(10, 10), url -> {
+            probes.incrementAndGet();
+            return CompletableFuture.completedFuture(true);
+        });
+        checker.start();
+        await(() -> probes.get() >= 4);
+        checker.close();
+        int closedAt = probes.get();
+        Thread.sleep(100);
+        Assertions.assertTrue(probes.get() <= closedAt + endpoints.size());
+    }
+
+    @Test
+    void delay_deviated_within_jitter() {
+        HealthCheckConfig config = config(10_000, 1_000);
+        HealthChecker checker = new HealthChecker(endpoints(2), config, url -> CompletableFuture.completedFuture(true));
+        boolean deviated = false;
+        for (int i = 0; i < 100; i++) {
+            long delay = checker.nextDelay(10_000);
+            Assertions.assertTrue(delay >= 8_000 && delay <= 12_000, "delay " + delay);
+            deviated |= delay != 10_000;
+        }
+        Assertions.assertTrue(deviated);
+
+        config.setJitter(0);
+        Assertions.assertEquals(1_000, checker.nextDelay(1_000));
+    }
+
+    private static HealthCheckConfig config(int interval, int downInterval) {
+        HealthCheckConfig config = new HealthCheckConfig();
+        config.setInterval(interval);
+        config.setDownInterval(downInterval);
+        return config;
+    }
+
+    private static List<Endpoint> endpoints(int count) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            endpoints.add(new Endpoint("http://127.0.0.1:" + (8086 + i), new AtomicBoolean(false)));
+        }
+        return endpoints;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
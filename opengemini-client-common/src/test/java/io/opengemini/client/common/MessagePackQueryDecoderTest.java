@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.ColumnType;
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class MessagePackQueryDecoderTest {
+    private static final String JSON_RESPONSE = "{\"results\":[{\"statement_id\":0,\"series\":["
+            + "{\"name\":\"cpu\",\"tags\":{\"host\":\"a\"},\"columns\":[\"time\",\"usage\",\"count\","
+            + "\"up\",\"note\"],\"values\":[[\"2024-01-01T00:00:00Z\",1.5,3,true,null],"
+            + "[\"2024-01-01T00:00:10.000000001Z\",2.0,12345678901,false,\"x\"]]},"
+            + "{\"name\":\"cpu\",\"tags\":{\"host\":\"b\"},\"columns\":[\"time\",\"usage\"],"
+            + "\"values\":[[\"2024-01-01T00:00:00Z\",0.25]],\"partial\":true}]},"
+            + "{\"statement_id\":1,\"series\":[{\"name\":\"mem\",\"columns\":[\"time\",\"free\",\"total\"],"
+            + "\"values\":[[1704067200000000000,{\"nested\":[1]},18446744073709551615]]}]}]}";
+
+    @Test
+    void query_result_matches_json_response() throws Exception {
+        QueryResult result = MessagePackQueryDecoder.decode(resource("query-response.msgpack"));
+        QueryResult expected = JacksonService.toObject(JSON_RESPONSE, QueryResult.class);
+        Assertions.assertEquals(expected.toString(), result.toString());
+        Assertions.assertEquals(Long.class,
+                result.getResults().get(0).getSeries().get(0).getValues().get(1).get(2).getClass());
+        Assertions.assertEquals(Integer.class,
+                result.getResults().get(0).getSeries().get(0).getValues().get(0).get(2).getClass());
+    }
+
+    @Test
+    void rows_passed_to_consumer() throws Exception {
+        List<List<Object>> rows = new ArrayList<>();
+        MessagePackQueryDecoder.decode(resource("query-response.msgpack"), (series, row) -> rows.add(
+                new ArrayList<>(row)));
+        Assertions.assertEquals(4, rows.size());
+        Assertions.assertEquals(Arrays.asList("2024-01-01T00:00:00Z", 0.25), rows.get(2));
+    }
+
+    @Test
+    void columnar_series_keep_timestamps_as_nanoseconds() throws Exception {
+        List<ColumnarSeries> series = MessagePackQueryDecoder.decodeColumnar(resource("query-response.msgpack"));
+
+        Assertions.assertEquals(3, series.size());
+        ColumnarSeries cpu = series.get(0);
+        long start = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond() * 1_000_000_000L;
+        Assertions.assertEquals(start, cpu.getTime(0));
+        Assertions.assertEquals(start + 10_000_000_001L, cpu.getTime(1));
+        Assertions.assertEquals(ColumnType.DOUBLE, cpu.getColumnType(1));
+        Assertions.assertEquals(12345678901L, cpu.getLong(1, 2));
+        Assertions.assertTrue(cpu.getBoolean(0, 3));
+        Assertions.assertTrue(cpu.isNull(0, 4));
+        Assertions.assertEquals("x", cpu.getString(1, 4));
+        Assertions.assertEquals("b", series.get(1).getTags().get("host"));
+
+        ColumnarSeries mem = series.get(2);
+        Assertions.assertEquals(1704067200000000000L, mem.getTime(0));
+        Assertions.assertEquals("{\"nested\":[1]}", mem.getString(0, 1));
+        Assertions.assertEquals(1.8446744073709552E19, mem.getDouble(0, 2));
+    }
+
+    @Test
+    void statement_error_reported() throws Exception {
+        byte[] body = resource("query-error.msgpack");
+        Assertions.assertEquals("measurement not found",
+                MessagePackQueryDecoder.decode(body).getResults().get(1).getError());
+
+        List<List<Object>> rows = new ArrayList<>();
+        OpenGeminiException e = Assertions.assertThrows(OpenGeminiException.class,
+                () -> MessagePackQueryDecoder.decode(body, (series, row) -> rows.add(row)));
+        Assertions.assertTrue(e.getMessage().contains("measurement not found"));
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertThrows(OpenGeminiException.class, () -> MessagePackQueryDecoder.decodeColumnar(body));
+    }
+
+    @Test
+    void truncated_response_rejected() throws Exception {
+        byte[] body = resource("query-response.msgpack");
+        Assertions.assertThrows(IOException.class,
+                () -> MessagePackQueryDecoder.decode(Arrays.copyOf(body, body.length - 3)));
+        Assertions.assertTrue(MessagePackQueryDecoder.decode(new byte[0]).getResults().isEmpty());
+    }
+
+    @Test
+    void msgpack_content_type_detected() {
+        Assertions.assertTrue(MessagePackQueryDecoder.isMessagePack("application/x-msgpack"));
+        Assertions.assertTrue(MessagePackQueryDecoder.isMessagePack("Application/X-Msgpack; charset=binary"));
+        Assertions.assertFalse(MessagePackQueryDecoder.isMessagePack("application/json"));
+        Assertions.assertFalse(MessagePackQueryDecoder.isMessagePack(null));
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = MessagePackQueryDecoderTest.class.getResourceAsStream("/msgpack/" + name)) {
+            Assertions.assertNotNull(in, name);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
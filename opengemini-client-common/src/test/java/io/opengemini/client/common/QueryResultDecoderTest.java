@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.common;
+
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.QueryRowConsumer;
+import io.opengemini.client.api.Series;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class QueryResultDecoderTest {
+    private static final String RESPONSE = "{\"results\":[{\"statement_id\":0,\"series\":["
+            + "{\"name\":\"cpu\",\"tags\":{\"host\":\"a\"},\"columns\":[\"time\",\"usage\",\"count\","
+            + "\"up\",\"note\"],\"values\":[[\"2024-01-01T00:00:00Z\",1.5,3,true,null],"
+            + "[\"2024-01-01T00:00:10Z\",2,12345678901,false,\"x\"]]},"
+            + "{\"name\":\"cpu\",\"tags\":{\"host\":\"b\"},\"columns\":[\"time\",\"usage\"],"
+            + "\"partial\":true,\"values\":[[\"2024-01-01T00:00:00Z\",0.25]]}]},"
+            + "{\"statement_id\":1,\"series\":[{\"name\":\"mem\",\"columns\":[\"time\",\"free\"],"
+            + "\"values\":[[1704067200000000000,{\"nested\":[1]}]]}]}]}";
+
+    @Test
+    void rows_match_bound_result() throws Exception {
+        List<Series> series = new ArrayList<>();
+        List<List<Object>> rows = new ArrayList<>();
+        decode(RESPONSE, (s, row) -> {
+            series.add(s);
+            rows.add(new ArrayList<>(row));
+        });
+
+        List<List<Object>> expected = new ArrayList<>();
+        List<Series> expectedSeries = new ArrayList<>();
+        QueryResult result = JacksonService.toObject(RESPONSE, QueryResult.class);
+        result.getResults().forEach(statement -> statement.getSeries().forEach(s -> s.getValues().forEach(row -> {
+            expectedSeries.add(s);
+            expected.add(row);
+        })));
+        Assertions.assertEquals(expected, rows);
+        Assertions.assertEquals(4, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(expectedSeries.get(i).getName(), series.get(i).getName());
+            Assertions.assertEquals(expectedSeries.get(i).getTags(), series.get(i).getTags());
+            Assertions.assertEquals(expectedSeries.get(i).getColumns(), series.get(i).getColumns());
+            Assertions.assertNull(series.get(i).getValues());
+        }
+        Assertions.assertSame(series.get(0), series.get(1));
+        Assertions.assertEquals(Long.class, rows.get(1).get(2).getClass());
+        Assertions.assertEquals(Integer.class, rows.get(0).get(2).getClass());
+    }
+
+    @Test
+    void row_list_reused() throws Exception {
+        List<List<Object>> rows = new ArrayList<>();
+        decode(RESPONSE, (s, row) -> rows.add(row));
+        Assertions.assertSame(rows.get(0), rows.get(3));
+    }
+
+    @Test
+    void statement_error_reported_after_rows() throws Exception {
+        String response = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+                + "\"columns\":[\"time\"],\"values\":[[1]]}]},"
+                + "{\"statement_id\":1,\"error\":\"measurement not found\"}]}";
+        List<Object> values = new ArrayList<>();
+        OpenGeminiException e = Assertions.assertThrows(OpenGeminiException.class,
+                () -> decode(response, (s, row) -> values.add(row.get(0))));
+        Assertions.assertEquals("measurement not found", e.getMessage());
+        Assertions.assertEquals(1, values.size());
+    }
+
+    @Test
+    void query_error_reported() {
+        OpenGeminiException e = Assertions.assertThrows(OpenGeminiException.class,
+                () -> decode("{\"error\":\"error parsing query\"}", (s, row) -> Assertions.fail()));
+        Assertions.assertEquals("error parsing query", e.getMessage());
+    }
+
+    @Test
+    void empty_and_malformed_responses() throws Exception {
+        decode("", (s, row) -> Assertions.fail());
+        decode("{\"results\":[{\"statement_id\":0}]}", (s, row) -> Assertions.fail());
+        Assertions.assertThrows(IOException.class, () -> decode("[1]", (s, row) -> Assertions.fail()));
+        Assertions.assertThrows(IOException.class,
+                () -> decode("{\"results\":[{\"series\":[{\"values\":[[1", (s, row) -> {
+                }));
+    }
+
+    @Test
+    void fed_rows_match_streamed_rows_at_any_split() throws Exception {
+        List<List<Object>> expected = new ArrayList<>();
+        decode(RESPONSE, (s, row) -> expected.add(new ArrayList<>(row)));
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        for (int split = 0; split <= bytes.length; split++) {
+            List<List<Object>> rows = new ArrayList<>();
+            QueryResultDecoder decoder = new QueryResultDecoder((s, row) -> rows.add(new ArrayList<>(row)));
+            decoder.feed(bytes, 0, split);
+            decoder.feed(bytes, split, bytes.length - split);
+            decoder.end();
+            Assertions.assertEquals(expected, rows, "split at " + split);
+        }
+    }
+
+    @Test
+    void fed_rows_consumed_before_end() throws Exception {
+        String response = "{\"results\":[{\"series\":[{\"name\":\"cpu\",\"columns\":[\"time\"],"
+                + "\"values\":[[1],[2]]}]}]}";
+        List<Object> values = new ArrayList<>();
+        QueryResultDecoder decoder = new QueryResultDecoder((s, row) -> values.add(row.get(0)));
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        int firstRowEnd = response.indexOf("[1]") + 3;
+        decoder.feed(bytes, 0, firstRowEnd);
+        Assertions.assertEquals(1, values.size());
+        decoder.feed(bytes, firstRowEnd, bytes.length - firstRowEnd);
+        decoder.end();
+        Assertions.assertEquals(2, values.size());
+    }
+
+    @Test
+    void fed_errors_reported_at_end() throws Exception {
+        QueryResultDecoder failed = new QueryResultDecoder((s, row) -> Assertions.fail());
+        byte[] error = "{\"error\":\"error parsing query\"}".getBytes(StandardCharsets.UTF_8);
+        failed.feed(error, 0, error.length);
+        Assertions.assertThrows(OpenGeminiException.class, failed::end);
+
+        QueryResultDecoder truncated = new QueryResultDecoder((s, row) -> {
+        });
+        byte[] partial = "{\"results\":[{\"series\":[".getBytes(StandardCharsets.UTF_8);
+        truncated.feed(partial, 0, partial.length);
+        Assertions.assertThrows(IOException.class, truncated::end);
+
+        QueryResultDecoder empty = new QueryResultDecoder((s, row) -> Assertions.fail());
+        empty.end();
+    }
+
+    private static void decode(String json, QueryRowConsumer consumer)
+            throws IOException, OpenGeminiException {
+        QueryResultDecoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), consumer);
+    }
+}
@@ -20,18 +20,38 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.github.openfacade.http.TlsConfig;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
+import io.opengemini.client.api.CircuitBreaker;
+import io.opengemini.client.api.CircuitBreakerOpenException;
 import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.Endpoint;
 import io.opengemini.client.api.OpenGeminiException;
 import io.opengemini.client.api.Query;
 import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.QueryRowConsumer;
+import io.opengemini.client.api.Series;
 import io.opengemini.client.common.BaseClient;
+import io.opengemini.client.common.ChunkedQueryDecoder;
 import io.opengemini.client.common.JacksonService;
+import io.opengemini.client.common.QueryResultDecoder;
 import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.ByteBufFlux;
 import reactor.netty.ByteBufMono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
 import reactor.netty.http.client.HttpClientSecurityUtils;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 public class OpenGeminiReactorClient extends BaseClient {
     private final HttpClient client;
 
@@ -41,6 +61,8 @@ public class OpenGeminiReactorClient extends BaseClient {
         client = client.responseTimeout(conf.getHttpConfig().timeout());
         int connectionTimeoutMs = (int) conf.getHttpConfig().connectTimeout().toMillis();
         client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMs);
+        // announce gzip support and transparently decompress gzip encoded responses
+        client = client.compress(conf.isGzipEnabled());
 
         if (conf.getHttpConfig().tlsConfig() != null) {
             TlsConfig tlsConfig = conf.getHttpConfig().tlsConfig();
@@ -62,6 +84,16 @@ public class OpenGeminiReactorClient extends BaseClient {
             });
         }
         this.client = client;
+        startHealthCheck();
+    }
+
+    @Override
+    protected CompletableFuture<Boolean> probe(String urlPrefix) {
+        return client.get()
+                .uri(urlPrefix + getPingUrl())
+                .response()
+                .map(response -> response.status().code() >= 200 && response.status().code() < 300)
+                .toFuture();
     }
 
     Mono<QueryResult> query(Query query) {
@@ -69,8 +101,85 @@ public class OpenGeminiReactorClient extends BaseClient {
         return get(queryUrl, QueryResult.class);
     }
 
+    /**
+     * Execute a query, passing the rows of the result to the consumer as they are decoded rather than binding the
+     * whole result.
+     * <p>
+     * The response is fed to the decoder as it is read off the connection, so that a result of any size is
+     * consumed with the memory of one row. The consumer is called on the event loop of the connection, with a
+     * row list reused for every row, and must not block.
+     *
+     * @param query    the query to execute.
+     * @param consumer the consumer of the rows.
+     * @return completes once every row has been consumed, or errors with the error the response reports.
+     */
+    public Mono<Void> query(Query query, QueryRowConsumer consumer) {
+        String queryUrl = getQueryUrl(query);
+        return exchange(prefix -> client.get().uri(prefix + queryUrl), (response, body) -> {
+            int code = response.status().code();
+            if (code < 200 || code >= 300) {
+                return body.aggregate().asString().defaultIfEmpty("")
+                        .flatMapMany(error -> Flux.<Void>error(new OpenGeminiException(error, code)));
+            }
+            QueryResultDecoder decoder;
+            try {
+                decoder = new QueryResultDecoder(consumer);
+            } catch (IOException e) {
+                return Flux.<Void>error(e);
+            }
+            return body.asByteArray()
+                    .concatMap(bytes -> Mono.<Void>fromCallable(() -> {
+                        decoder.feed(bytes, 0, bytes.length);
+                        return null;
+                    }), 1)
+                    .concatWith(Mono.fromCallable(() -> {
+                        decoder.end();
+                        return null;
+                    }));
+        }).then();
+    }
+
+    /**
+     * Execute a query whose result the server returns in chunks of at most chunkSize rows, emitting the series of
+     * every chunk once it is received.
+     * <p>
+     * The response is read off the connection as the series are requested, so that a result of any size is
+     * consumed with the memory of a few chunks.
+     *
+     * @param query     the query to execute.
+     * @param chunkSize the most rows in a chunk.
+     * @return the series of the result, in the order of the chunks.
+     */
+    public Flux<Series> queryChunked(Query query, int chunkSize) {
+        String queryUrl = getChunkedQueryUrl(query, chunkSize);
+        return exchange(prefix -> client.get().uri(prefix + queryUrl), (response, body) -> {
+            int code = response.status().code();
+            if (code < 200 || code >= 300) {
+                return body.aggregate().asString().defaultIfEmpty("")
+                        .flatMapMany(error -> Flux.error(new OpenGeminiException(error, code)));
+            }
+            ChunkedQueryDecoder decoder;
+            try {
+                decoder = new ChunkedQueryDecoder();
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+            return body.asByteArray()
+                    .concatMap(bytes -> decodeChunks(() -> decoder.feed(bytes, 0, bytes.length)), 1)
+                    .concatWith(Flux.defer(() -> decodeChunks(decoder::end)));
+        });
+    }
+
+    private static Flux<Series> decodeChunks(Callable<List<Series>> decode) {
+        try {
+            return Flux.fromIterable(decode.call());
+        } catch (Exception e) {
+            return Flux.error(e);
+        }
+    }
+
     public <T> Mono<T> get(String path, Class<T> type) {
-        return handleResponse(client.get().uri(nextUrlPrefix() + path))
+        return handleResponse(prefix -> client.get().uri(prefix + path))
                 .flatMap(jsonString -> {
                     try {
                         return Mono.just(JacksonService.toObject(jsonString, type));
@@ -81,12 +190,12 @@ public class OpenGeminiReactorClient extends BaseClient {
     }
 
     public Mono<String> get(String path) {
-        return handleResponse(client.get().uri(nextUrlPrefix() + path));
+        return handleResponse(prefix -> client.get().uri(prefix + path));
     }
 
     public <T> Mono<T> post(String path, String requestBody, Class<T> type) {
-        return handleResponse(client.post()
-                .uri(nextUrlPrefix() + path)
+        return handleResponse(prefix -> client.post()
+                .uri(prefix + path)
                 .send(ByteBufMono.fromString(Mono.just(requestBody))))
                 .flatMap(jsonString -> {
                     try {
@@ -98,14 +207,14 @@ public class OpenGeminiReactorClient extends BaseClient {
     }
 
     public Mono<String> post(String path, String requestBody) {
-        return handleResponse(client.post()
-                .uri(nextUrlPrefix() + path)
+        return handleResponse(prefix -> client.post()
+                .uri(prefix + path)
                 .send(ByteBufMono.fromString(Mono.just(requestBody))));
     }
 
     public <T> Mono<T> put(String path, String requestBody, Class<T> type) {
-        return handleResponse(client.put()
-                .uri(nextUrlPrefix() + path)
+        return handleResponse(prefix -> client.put()
+                .uri(prefix + path)
                 .send(ByteBufMono.fromString(Mono.just(requestBody))))
                 .flatMap(jsonString -> {
                     try {
@@ -117,13 +226,13 @@ public class OpenGeminiReactorClient extends BaseClient {
     }
 
     public Mono<String> put(String path, String requestBody) {
-        return handleResponse(client.put()
-                .uri(nextUrlPrefix() + path)
+        return handleResponse(prefix -> client.put()
+                .uri(prefix + path)
                 .send(ByteBufMono.fromString(Mono.just(requestBody))));
     }
 
     public <T> Mono<T> delete(String path, Class<T> type) {
-        return handleResponse(client.delete().uri(nextUrlPrefix() + path))
+        return handleResponse(prefix -> client.delete().uri(prefix + path))
                 .flatMap(jsonString -> {
                     try {
                         return Mono.just(JacksonService.toObject(jsonString, type));
@@ -134,18 +243,61 @@ public class OpenGeminiReactorClient extends BaseClient {
     }
 
     public Mono<String> delete(String path) {
-        return handleResponse(client.delete().uri(nextUrlPrefix() + path));
+        return handleResponse(prefix -> client.delete().uri(prefix + path));
     }
 
-    private Mono<String> handleResponse(HttpClient.ResponseReceiver<?> responseReceiver) {
-        return responseReceiver.responseSingle((response, content) -> {
+    private Mono<String> handleResponse(Function<String, HttpClient.ResponseReceiver<?>> request) {
+        return exchange(request, (response, body) -> {
             int code = response.status().code();
             if (code >= 200 && code < 300) {
-                return content.asString();
+                return body.aggregate().asString();
             } else {
-                return content.asString()
-                        .flatMap(body -> Mono.error(new OpenGeminiException(body, code)));
+                return body.aggregate().asString().defaultIfEmpty("")
+                        .flatMap(error -> Mono.<String>error(new OpenGeminiException(error, code)));
+            }
+        }).next();
+    }
+
+    /**
+     * Send a request to the next server, recording its load, latency and outcome for the load balancer and the
+     * circuit breaker of the server.
+     * <p>
+     * The latency is the time to the response status, so that reading a large body at the pace of its consumer
+     * does not mark the server slow.
+     *
+     * @param request  builds the request to the given url prefix of a server.
+     * @param response handles the response.
+     */
+    private <T> Flux<T> exchange(Function<String, HttpClient.ResponseReceiver<?>> request,
+                                 BiFunction<HttpClientResponse, ByteBufFlux, Publisher<T>> response) {
+        return Flux.defer(() -> {
+            Endpoint endpoint = nextEndpoint();
+            CircuitBreaker breaker = endpoint.getCircuitBreaker();
+            if (breaker != null && !breaker.tryAcquirePermission()) {
+                return Flux.error(new CircuitBreakerOpenException(endpoint.getUrl()));
             }
+            long start = endpoint.requestStarted();
+            AtomicBoolean completed = new AtomicBoolean();
+            return request.apply(endpoint.getUrl()).response((status, body) -> {
+                if (completed.compareAndSet(false, true)) {
+                    requestCompleted(endpoint, start, false, status.status().code() >= 500);
+                }
+                return response.apply(status, body);
+            }).doFinally(signal -> {
+                if (completed.compareAndSet(false, true)) {
+                    // no response: failed, or cancelled while waiting for it
+                    boolean failed = signal == SignalType.ON_ERROR;
+                    requestCompleted(endpoint, start, failed, failed);
+                }
+            });
         });
     }
+
+    private static void requestCompleted(Endpoint endpoint, long start, boolean failed, boolean serverError) {
+        endpoint.requestCompleted(start, failed);
+        CircuitBreaker breaker = endpoint.getCircuitBreaker();
+        if (breaker != null) {
+            breaker.record(System.nanoTime() - start, serverError);
+        }
+    }
 }
@@ -20,6 +20,7 @@ import io.github.openfacade.http.HttpClientConfig;
 import io.opengemini.client.api.AuthConfig;
 import io.opengemini.client.api.AuthType;
 import io.opengemini.client.api.BatchConfig;
+import io.opengemini.client.api.CircuitBreakerConfig;
 import io.opengemini.client.api.Configuration;
 import io.opengemini.client.api.OpenGeminiConst;
 import io.opengemini.client.api.OpenGeminiException;
@@ -54,6 +55,27 @@ public class OpenGeminiReactorClientFactory {
                 throw new OpenGeminiException("batch enabled, batch size must be great than 0");
             }
         }
+        CircuitBreakerConfig breakerConfig = configuration.getCircuitBreakerConfig();
+        if (breakerConfig != null) {
+            if (breakerConfig.getWindowSize() <= 0 || breakerConfig.getMinimumCalls() <= 0) {
+                throw new OpenGeminiException("circuit breaker enabled, window size and minimum calls must be "
+                        + "great than 0");
+            }
+            if (breakerConfig.getHalfOpenCalls() <= 0 || breakerConfig.getHalfOpenCalls() > breakerConfig
+                    .getWindowSize()) {
+                throw new OpenGeminiException("circuit breaker enabled, half open calls must be great than 0 and "
+                        + "not exceed the window size");
+            }
+            if (breakerConfig.getFailureRateThreshold() <= 0 || breakerConfig.getFailureRateThreshold() > 100
+                    || breakerConfig.getSlowCallRateThreshold() <= 0
+                    || breakerConfig.getSlowCallRateThreshold() > 100) {
+                throw new OpenGeminiException("circuit breaker enabled, rate thresholds must be in (0, 100]");
+            }
+            if (breakerConfig.getSlowCallDuration() <= 0 || breakerConfig.getOpenDuration() <= 0) {
+                throw new OpenGeminiException("circuit breaker enabled, slow call duration and open duration must "
+                        + "be great than 0");
+            }
+        }
         HttpClientConfig httpConfig = configuration.getHttpConfig();
         if (httpConfig.timeout() == null || httpConfig.timeout().isNegative()) {
             httpConfig.setTimeout(OpenGeminiConst.DEFAULT_TIMEOUT);
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.reactor;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Query;
+import io.opengemini.client.api.Series;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class OpenGeminiReactorClientChunkedQueryTest {
+    private final AtomicReference<String> requestUri = new AtomicReference<>();
+
+    private final AtomicInteger chunksSent = new AtomicInteger();
+
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private OpenGeminiReactorClient client(int status, int chunks) {
+        server = HttpServer.create().host("127.0.0.1").port(0)
+                .route(routes -> routes.get("/query", (request, response) -> {
+                    requestUri.set(request.uri());
+                    if (status != 200) {
+                        return response.status(status).sendString(Flux.just("{\"error\":\"error parsing query\"}"));
+                    }
+                    return response.sendString(Flux.range(0, chunks).map(index -> chunk(index, chunks)));
+                }))
+                .bindNow();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(new HttpClientConfig.Builder()
+                        .connectTimeout(Duration.ofSeconds(3))
+                        .timeout(Duration.ofSeconds(5))
+                        .build())
+                .build();
+        return new OpenGeminiReactorClient(configuration);
+    }
+
+    private String chunk(int index, int chunks) {
+        chunksSent.incrementAndGet();
+        return "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\",\"columns\":[\"time\",\"v\"],"
+                + "\"values\":[[" + index + "," + index + "]]}],\"partial\":" + (index < chunks - 1) + "}]}\n";
+    }
+
+    @Test
+    void series_streamed_by_chunk() {
+        OpenGeminiReactorClient client = client(200, 1000);
+        List<Series> series = client.queryChunked(new Query("SELECT * FROM cpu", "db0", null), 1)
+                .collectList().block(Duration.ofSeconds(10));
+
+        Assertions.assertNotNull(series);
+        Assertions.assertEquals(1000, series.size());
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, series.get(i).getValues().get(0).get(0));
+        }
+        Assertions.assertTrue(requestUri.get().endsWith("&db=db0&chunked=true&chunk_size=1"), requestUri.get());
+    }
+
+    @Test
+    void response_read_on_demand() {
+        // far more chunks than the socket buffers hold
+        OpenGeminiReactorClient client = client(200, 1_000_000);
+        List<Series> series = client.queryChunked(new Query("SELECT * FROM cpu"), 1)
+                .take(3).collectList().block(Duration.ofSeconds(10));
+
+        Assertions.assertNotNull(series);
+        Assertions.assertEquals(3, series.size());
+        Assertions.assertTrue(chunksSent.get() < 1_000_000, "chunks sent " + chunksSent.get());
+    }
+
+    @Test
+    void http_error_reported() {
+        OpenGeminiReactorClient client = client(400, 0);
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                () -> client.queryChunked(new Query("SELEC"), 1).blockLast(Duration.ofSeconds(10)));
+        Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+        Assertions.assertEquals(400, ((OpenGeminiException) e.getCause()).getStatusCode());
+    }
+}
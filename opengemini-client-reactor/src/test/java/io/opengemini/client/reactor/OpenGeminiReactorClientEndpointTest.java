@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.reactor;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.CircuitBreakerConfig;
+import io.opengemini.client.api.CircuitBreakerOpenException;
+import io.opengemini.client.api.CircuitState;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.Endpoint;
+import io.opengemini.client.api.LoadBalancers;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class OpenGeminiReactorClientEndpointTest {
+    private static final String RESPONSE = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+            + "\"columns\":[\"time\",\"v\"],\"values\":[[1,1]]}]}]}";
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private final AtomicReference<List<Endpoint>> endpoints = new AtomicReference<>();
+
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private OpenGeminiReactorClient client(int status) {
+        return client(status, null);
+    }
+
+    private OpenGeminiReactorClient client(int status, CircuitBreakerConfig breakerConfig) {
+        server = HttpServer.create().host("127.0.0.1").port(0)
+                .route(routes -> routes.get("/query", (request, response) -> {
+                    queries.incrementAndGet();
+                    return response.status(status).sendString(Mono.delay(Duration.ofMillis(20))
+                            .thenMany(Flux.just(status == 200 ? RESPONSE : "{\"error\":\"engine failure\"}")));
+                }))
+                .bindNow();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(new HttpClientConfig.Builder()
+                        .connectTimeout(Duration.ofSeconds(3))
+                        .timeout(Duration.ofSeconds(5))
+                        .build())
+                .loadBalancer(candidates -> {
+                    endpoints.set(candidates);
+                    return LoadBalancers.leastOutstanding().select(candidates);
+                })
+                .circuitBreakerConfig(breakerConfig)
+                .build();
+        return new OpenGeminiReactorClient(configuration);
+    }
+
+    @Test
+    void requests_recorded_on_endpoint() {
+        OpenGeminiReactorClient client = client(200);
+        client.query(new Query("SELECT * FROM cpu")).block(Duration.ofSeconds(10));
+        client.query(new Query("SELECT * FROM cpu"), (series, row) -> {
+        }).block(Duration.ofSeconds(10));
+        client.queryChunked(new Query("SELECT * FROM cpu"), 1).blockLast(Duration.ofSeconds(10));
+
+        Endpoint endpoint = endpoints.get().get(0);
+        Assertions.assertEquals(3, queries.get());
+        Assertions.assertEquals(0, endpoint.getInFlight());
+        Assertions.assertTrue(endpoint.getLatencyNanos() >= Duration.ofMillis(10).toNanos(),
+                "latency " + endpoint.getLatencyNanos());
+    }
+
+    @Test
+    void server_errors_open_circuit() {
+        CircuitBreakerConfig breakerConfig = new CircuitBreakerConfig();
+        breakerConfig.setWindowSize(2);
+        breakerConfig.setMinimumCalls(2);
+        breakerConfig.setOpenDuration(60_000);
+        OpenGeminiReactorClient client = client(500, breakerConfig);
+        for (int i = 0; i < 2; i++) {
+            RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                    () -> client.query(new Query("SELECT * FROM cpu")).block(Duration.ofSeconds(10)));
+            Assertions.assertEquals(500, ((OpenGeminiException) e.getCause()).getStatusCode());
+        }
+
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                () -> client.query(new Query("SELECT * FROM cpu"), (series, row) -> {
+                }).block(Duration.ofSeconds(10)));
+        Assertions.assertInstanceOf(CircuitBreakerOpenException.class, e.getCause());
+        Assertions.assertEquals(2, queries.get());
+        Assertions.assertEquals(CircuitState.OPEN, endpoints.get().get(0).getCircuitBreaker().getState());
+    }
+}
@@ -20,6 +20,7 @@ import io.opengemini.client.api.Address;
 import io.opengemini.client.api.AuthConfig;
 import io.opengemini.client.api.AuthType;
 import io.opengemini.client.api.BatchConfig;
+import io.opengemini.client.api.CircuitBreakerConfig;
 import io.opengemini.client.api.Configuration;
 import io.opengemini.client.api.OpenGeminiException;
 import org.junit.jupiter.api.Assertions;
@@ -128,4 +129,21 @@ class OpenGeminiReactorClientFactoryTest {
         });
         Assertions.assertEquals("batch enabled, batch size must be great than 0", actualException.getMessage());
     }
+
+    @Test
+    public void testGetClientWithInvalidCircuitBreaker() {
+        configuration.setAddresses(Collections.singletonList(new Address()));
+        configuration.setAuthConfig(null);
+        configuration.setBatchConfig(null);
+        CircuitBreakerConfig breakerConfig = new CircuitBreakerConfig();
+        breakerConfig.setWindowSize(0);
+        configuration.setCircuitBreakerConfig(breakerConfig);
+
+        Throwable actualException = Assertions.assertThrows(OpenGeminiException.class, () -> {
+            OpenGeminiReactorClientFactory.create(configuration);
+        });
+        Assertions.assertEquals("circuit breaker enabled, window size and minimum calls must be great than 0",
+                actualException.getMessage());
+        configuration.setCircuitBreakerConfig(null);
+    }
 }
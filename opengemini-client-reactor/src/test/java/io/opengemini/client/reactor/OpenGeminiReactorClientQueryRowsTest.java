@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.reactor;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class OpenGeminiReactorClientQueryRowsTest {
+    private static final String HEAD = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+            + "\"columns\":[\"time\",\"v\"],\"values\":[[1,1],";
+
+    private static final String TAIL = "[2,2]]}]}]}";
+
+    private final CompletableFuture<String> tail = new CompletableFuture<>();
+
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private OpenGeminiReactorClient client(int status) {
+        server = HttpServer.create().host("127.0.0.1").port(0)
+                .route(routes -> routes.get("/query", (request, response) -> {
+                    if (status != 200) {
+                        return response.status(status).sendString(Flux.just("{\"error\":\"error parsing query\"}"));
+                    }
+                    // the rest of the response is only sent once the first row has been consumed
+                    return response.sendString(Flux.concat(Mono.just(HEAD), Mono.fromFuture(tail)));
+                }))
+                .bindNow();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(new HttpClientConfig.Builder()
+                        .connectTimeout(Duration.ofSeconds(3))
+                        .timeout(Duration.ofSeconds(5))
+                        .build())
+                .build();
+        return new OpenGeminiReactorClient(configuration);
+    }
+
+    @Test
+    void rows_consumed_as_response_arrives() {
+        OpenGeminiReactorClient client = client(200);
+        List<Object> values = new ArrayList<>();
+        client.query(new Query("SELECT * FROM cpu", "db0", null), (series, row) -> {
+            Assertions.assertEquals("cpu", series.getName());
+            values.add(row.get(1));
+            tail.complete(TAIL);
+        }).block(Duration.ofSeconds(10));
+
+        Assertions.assertEquals(2, values.size());
+        Assertions.assertEquals(1, values.get(0));
+        Assertions.assertEquals(2, values.get(1));
+    }
+
+    @Test
+    void http_error_reported() {
+        OpenGeminiReactorClient client = client(400);
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                () -> client.query(new Query("SELEC"), (series, row) -> Assertions.fail())
+                        .block(Duration.ofSeconds(10)));
+        Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+        Assertions.assertEquals(400, ((OpenGeminiException) e.getCause()).getStatusCode());
+    }
+}
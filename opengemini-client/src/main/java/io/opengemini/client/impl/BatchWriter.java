@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.BatchConfig;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers points per database and retention policy, and writes them out in batches once
+ * {@link BatchConfig#getBatchSize()} points are pending or every {@link BatchConfig#getBatchInterval()}
+ * milliseconds, whichever comes first. The future returned to each caller completes when the batch
+ * carrying its points has been acknowledged by the server.
+ * <p>
+ * The points buffered or being written are bounded by {@link BatchConfig#getMaxPendingPoints()}, a write which
+ * would exceed the bound fails at once rather than growing the buffer while the servers fall behind.
+ */
+class BatchWriter implements Closeable {
+    private final OpenGeminiClient client;
+
+    private final int batchSize;
+
+    private final int maxPendingPoints;
+
+    private final AtomicInteger pendingPoints = new AtomicInteger();
+
+    private final Map<BatchKey, PendingBatch> batches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean closed;
+
+    BatchWriter(OpenGeminiClient client, BatchConfig batchConfig) {
+        this.client = client;
+        this.batchSize = batchConfig.getBatchSize();
+        this.maxPendingPoints = batchConfig.getMaxPendingPoints() > 0 ? batchConfig.getMaxPendingPoints()
+                : (int) Math.min(Integer.MAX_VALUE, batchSize * 100L);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setName("opengemini-client-batch-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = batchConfig.getBatchInterval();
+        this.scheduler.scheduleAtFixedRate(() -> ConcurrencyLimiter.runNonBlocking(this::flushAll), interval,
+                interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue points for the given database and retention policy.
+     *
+     * @param database        the name of the database.
+     * @param retentionPolicy the name of the retention policy, may be null.
+     * @param points          the points to write.
+     * @return a future completed when every given point has been written.
+     */
+    CompletableFuture<Void> enqueue(String database, String retentionPolicy, Collection<Point> points) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new OpenGeminiException("batch writer is closed"));
+            return future;
+        }
+        if (!reserve(points.size())) {
+            future.completeExceptionally(new OpenGeminiException("batch writer is full, " + pendingPoints.get()
+                    + " points pending of at most " + maxPendingPoints));
+            return future;
+        }
+        BatchKey key = new BatchKey(database, retentionPolicy);
+        PendingBatch batch = batches.computeIfAbsent(key, k -> new PendingBatch());
+        PendingBatch.Drained drained = batch.add(points, future, batchSize);
+        if (drained == null && closed) {
+            // raced with close(), make sure the points do not stay buffered forever
+            drained = batch.drain();
+        }
+        if (drained != null) {
+            send(key, drained);
+        }
+        return future;
+    }
+
+    /**
+     * Write out everything currently buffered.
+     *
+     * @return a future completed when all flushed batches have been acknowledged.
+     */
+    CompletableFuture<Void> flushAll() {
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        for (Map.Entry<BatchKey, PendingBatch> entry : batches.entrySet()) {
+            PendingBatch.Drained drained = entry.getValue().drain();
+            if (drained != null) {
+                sent.add(send(entry.getKey(), drained));
+            }
+        }
+        return CompletableFuture.allOf(sent.toArray(new CompletableFuture[0]));
+    }
+
+    private boolean reserve(int count) {
+        while (true) {
+            int pending = pendingPoints.get();
+            if (pending + (long) count > maxPendingPoints) {
+                return false;
+            }
+            if (pendingPoints.compareAndSet(pending, pending + count)) {
+                return true;
+            }
+        }
+    }
+
+    private CompletableFuture<Void> send(BatchKey key, PendingBatch.Drained drained) {
+        CompletableFuture<Void> result;
+        try {
+            result = client.writeDirect(key.database, key.retentionPolicy, drained.points);
+        } catch (Exception e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+        return result.whenComplete((v, t) -> {
+            pendingPoints.addAndGet(-drained.points.size());
+            for (CompletableFuture<Void> future : drained.futures) {
+                if (t == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stop the periodic flush and write out everything that is still buffered, waiting for the server to
+     * acknowledge it.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            flushAll().join();
+        } catch (CompletionException e) {
+            // failures have already been reported through the futures of the callers
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class BatchKey {
+        private final String database;
+        private final String retentionPolicy;
+    }
+
+    private static final class PendingBatch {
+        private List<Point> points = new ArrayList<>();
+        private List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        synchronized Drained add(Collection<Point> newPoints, CompletableFuture<Void> future, int batchSize) {
+            points.addAll(newPoints);
+            futures.add(future);
+            if (points.size() >= batchSize) {
+                return drain();
+            }
+            return null;
+        }
+
+        synchronized Drained drain() {
+            if (futures.isEmpty()) {
+                return null;
+            }
+            Drained drained = new Drained(points, futures);
+            points = new ArrayList<>();
+            futures = new ArrayList<>();
+            return drained;
+        }
+
+        @AllArgsConstructor
+        private static final class Drained {
+            private final List<Point> points;
+            private final List<CompletableFuture<Void>> futures;
+        }
+    }
+}
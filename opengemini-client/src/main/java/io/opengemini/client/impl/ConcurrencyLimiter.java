@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.SaturationPolicy;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of in-flight requests of one operation type to one server.
+ * <p>
+ * A request takes a permit before it is sent and gives it back once its response future completes. Queued
+ * requests are started by a drain loop that only one thread runs at a time, so a burst of completions starting
+ * queued requests that complete at once does not recurse.
+ * <p>
+ * The threads of the client must not block: timers and completion callbacks run the code sending requests
+ * through {@link #runNonBlocking(Runnable)}, and the requests they send while the limit is reached are queued
+ * with the BLOCK policy.
+ */
+public final class ConcurrencyLimiter {
+    /**
+     * Operation type of the requests bounded by a limiter.
+     */
+    public enum Operation {
+        WRITE,
+
+        QUERY
+    }
+
+    private static final ThreadLocal<Boolean> NON_BLOCKING = new ThreadLocal<>();
+
+    private final String endpoint;
+
+    private final Operation operation;
+
+    private final int maxInFlight;
+
+    private final SaturationPolicy policy;
+
+    private final int queueSize;
+
+    private final long blockTimeoutNanos;
+
+    private final Semaphore permits;
+
+    private final Queue<Pending<?>> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    private final LongAdder waitCount = new LongAdder();
+
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    ConcurrencyLimiter(String endpoint, Operation operation, int maxInFlight, SaturationPolicy policy,
+                       int queueSize, long blockTimeoutNanos) {
+        this.endpoint = endpoint;
+        this.operation = operation;
+        this.maxInFlight = maxInFlight;
+        this.policy = policy;
+        this.queueSize = queueSize;
+        this.blockTimeoutNanos = blockTimeoutNanos;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Send a request once a permit is available, according to the saturation policy.
+     *
+     * @param request sends the request.
+     * @return the future of the response, failed with an {@link OpenGeminiException} when the request is
+     * rejected.
+     */
+    <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        if (policy == SaturationPolicy.QUEUE || (policy == SaturationPolicy.BLOCK && NON_BLOCKING.get() != null)) {
+            return enqueue(request);
+        }
+        if (!permits.tryAcquire()) {
+            if (policy == SaturationPolicy.FAIL_FAST || !block()) {
+                return reject();
+            }
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        start(request, result);
+        return result;
+    }
+
+    private boolean block() {
+        long start = System.nanoTime();
+        try {
+            if (blockTimeoutNanos > 0) {
+                if (!permits.tryAcquire(blockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            } else {
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        recordWait(System.nanoTime() - start);
+        return true;
+    }
+
+    private <T> CompletableFuture<T> enqueue(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // requests already waiting go first
+        if (queueDepth.get() == 0 && permits.tryAcquire()) {
+            start(request, result);
+            return result;
+        }
+        if (queueDepth.incrementAndGet() > queueSize) {
+            queueDepth.decrementAndGet();
+            return reject();
+        }
+        queue.offer(new Pending<>(request, result, System.nanoTime()));
+        // a permit may have been released before the request was queued
+        drain();
+        return result;
+    }
+
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (!queue.isEmpty() && permits.tryAcquire()) {
+                Pending<?> pending = queue.poll();
+                if (pending == null) {
+                    permits.release();
+                    break;
+                }
+                queueDepth.decrementAndGet();
+                recordWait(System.nanoTime() - pending.queuedAt);
+                pending.start(this);
+            }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((value, failure) -> {
+            permits.release();
+            if (queueDepth.get() > 0) {
+                drain();
+            }
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * Run code of a thread of the client which must not block, such as a timer task or a completion callback.
+     * Requests it sends beyond the limit are queued rather than blocking the thread with the BLOCK policy.
+     *
+     * @param action the code sending requests.
+     */
+    static void runNonBlocking(Runnable action) {
+        callNonBlocking(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Like {@link #runNonBlocking(Runnable)}, for code returning a value.
+     *
+     * @param action the code sending requests.
+     * @return the value returned by the code.
+     */
+    static <T> T callNonBlocking(Supplier<T> action) {
+        if (NON_BLOCKING.get() != null) {
+            return action.get();
+        }
+        NON_BLOCKING.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            NON_BLOCKING.remove();
+        }
+    }
+
+    private <T> CompletableFuture<T> reject() {
+        rejectedCount.increment();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        String type = operation.name().toLowerCase(Locale.ROOT);
+        future.completeExceptionally(new OpenGeminiException("too many in-flight " + type + " requests to "
+                + endpoint + ", limit " + maxInFlight));
+        return future;
+    }
+
+    private void recordWait(long nanos) {
+        waitCount.increment();
+        totalWaitNanos.add(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * The url of the server.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Number of requests sent and not completed yet.
+     */
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * Number of requests waiting in the queue.
+     */
+    public int queueDepth() {
+        return Math.max(0, queueDepth.get());
+    }
+
+    /**
+     * Number of requests that waited for a permit, blocked or queued.
+     */
+    public long waitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Total time requests waited for a permit. (unit: ns)
+     */
+    public long totalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * Longest time a request waited for a permit. (unit: ns)
+     */
+    public long maxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * Number of requests rejected because the limit was reached.
+     */
+    public long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private static final class Pending<T> {
+        private final Supplier<CompletableFuture<T>> request;
+
+        private final CompletableFuture<T> result;
+
+        private final long queuedAt;
+
+        private Pending(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result, long queuedAt) {
+            this.request = request;
+            this.result = result;
+            this.queuedAt = queuedAt;
+        }
+
+        private void start(ConcurrencyLimiter limiter) {
+            limiter.start(request, result);
+        }
+    }
+}
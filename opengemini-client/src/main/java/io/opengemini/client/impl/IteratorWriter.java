@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.ByteArraySink;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Precision;
+import io.opengemini.client.api.Write;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Writes an unbounded iterator of points as a sequence of bounded requests.
+ * <p>
+ * The iterator is consumed incrementally: the next request is encoded while the previous one is in flight, and
+ * is only sent once the previous one succeeded, so at most two requests are held in memory whatever the size of
+ * the input. Line protocol requests are only cut at the max body size: like
+ * {@link OpenGeminiClient#writeDirect(String, String, List)}, a request carries its timestamps in the finest
+ * precision of its points, and the lines encoded so far are encoded again when a point of a finer precision
+ * comes in. The first failed request fails the
+ * whole write and stops consuming the iterator; the requests sent before it are not rolled back.
+ */
+final class IteratorWriter {
+    static final int DEFAULT_MAX_BODY_SIZE = 4 * 1024 * 1024;
+
+    private final String database;
+
+    private final String retentionPolicy;
+
+    private final Iterator<Point> points;
+
+    private final int maxBodySize;
+
+    private final Function<Write, CompletableFuture<Void>> sender;
+
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private ByteArraySink sink;
+
+    private final List<Point> requestPoints = new ArrayList<>();
+
+    private final Deque<Point> carried = new ArrayDeque<>();
+
+    private int lastLineStart;
+
+    private CompletableFuture<Void> inflight = CompletableFuture.completedFuture(null);
+
+    private IteratorWriter(String database, String retentionPolicy, Iterator<Point> points, int maxBodySize,
+                           Function<Write, CompletableFuture<Void>> sender) {
+        this.database = database;
+        this.retentionPolicy = retentionPolicy;
+        this.points = points;
+        this.maxBodySize = maxBodySize;
+        this.sender = sender;
+    }
+
+    /**
+     * Write the points as line protocol requests of at most maxBodySize bytes, a single point larger than that is
+     * sent on its own.
+     */
+    static CompletableFuture<Void> writeLineProtocol(String database, String retentionPolicy, Iterator<Point> points,
+                                                     int maxBodySize, Function<Write, CompletableFuture<Void>> sender) {
+        return new IteratorWriter(database, retentionPolicy, points, maxBodySize, sender).start();
+    }
+
+    private CompletableFuture<Void> start() {
+        sink = ByteArraySink.acquire();
+        run();
+        return result;
+    }
+
+    /**
+     * Encode and send requests until the previous request is still in flight, in which case the loop resumes
+     * from its completion. Resuming asynchronously keeps the stack flat however many requests are sent.
+     */
+    private void run() {
+        try {
+            while (true) {
+                Supplier<CompletableFuture<Void>> request = nextRequest();
+                CompletableFuture<Void> previous = inflight;
+                if (request == null) {
+                    previous.whenComplete((v, e) -> finish(e));
+                    return;
+                }
+                if (!previous.isDone() || previous.isCompletedExceptionally()) {
+                    previous.whenCompleteAsync((v, e) -> ConcurrencyLimiter.runNonBlocking(() -> {
+                        if (e != null) {
+                            finish(e);
+                            return;
+                        }
+                        try {
+                            inflight = request.get();
+                        } catch (RuntimeException sendError) {
+                            finish(sendError);
+                            return;
+                        }
+                        run();
+                    }));
+                    return;
+                }
+                inflight = request.get();
+            }
+        } catch (RuntimeException e) {
+            inflight.whenComplete((v, ignored) -> finish(e));
+        }
+    }
+
+    private void finish(Throwable error) {
+        if (sink != null) {
+            sink.release();
+            sink = null;
+        }
+        if (error != null) {
+            result.completeExceptionally(error);
+        } else {
+            result.complete(null);
+        }
+    }
+
+    /**
+     * Encode the next request.
+     *
+     * @return the sender of the request, or null when there are no more points to write.
+     */
+    private Supplier<CompletableFuture<Void>> nextRequest() {
+        Write write = nextWrite();
+        return write == null ? null : () -> sender.apply(write);
+    }
+
+    private Write nextWrite() {
+        sink.reset();
+        requestPoints.clear();
+        Precision precision = null;
+        while (!carried.isEmpty() || points.hasNext()) {
+            Point point = !carried.isEmpty() ? carried.pollFirst() : points.next();
+            Precision pointPrecision = point.getTime() != 0 ? point.getPrecision() : null;
+            if (pointPrecision != null && (precision == null || pointPrecision.isFinerThan(precision))) {
+                // lines without a timestamp read the same in any precision
+                boolean widened = precision != null;
+                precision = pointPrecision;
+                if (widened && !encodeRequestPoints(precision, point)) {
+                    break;
+                }
+            }
+            if (!appendLine(point, precision)) {
+                continue;
+            }
+            if (sink.size() > maxBodySize + 1 && requestPoints.size() > 1) {
+                // the point does not fit, it starts the next request
+                requestPoints.remove(requestPoints.size() - 1);
+                sink.truncate(lastLineStart);
+                carried.addFirst(point);
+                break;
+            }
+            if (sink.size() >= maxBodySize) {
+                break;
+            }
+        }
+        if (sink.size() == 0) {
+            return null;
+        }
+        // drop the trailing new line
+        byte[] body = Arrays.copyOf(sink.array(), sink.size() - 1);
+        String epoch = (precision != null ? precision : Precision.PRECISIONNANOSECOND).getEpoch();
+        return new Write(database, retentionPolicy, body, epoch);
+    }
+
+    /**
+     * Append the line of a point to the request.
+     *
+     * @return false if the point has no fields to write.
+     */
+    private boolean appendLine(Point point, Precision precision) {
+        int start = sink.size();
+        if (!point.writeTo(sink, precision != null ? precision : Precision.PRECISIONNANOSECOND)) {
+            return false;
+        }
+        sink.write('\n');
+        lastLineStart = start;
+        requestPoints.add(point);
+        return true;
+    }
+
+    /**
+     * Encode the points of the request again in a finer precision. When the lines in the finer precision fill
+     * the request, the points which no longer fit and the point of the finer precision are carried over to the
+     * next request.
+     *
+     * @param precision the finer precision.
+     * @param next      the point of the finer precision.
+     * @return false if the request is full.
+     */
+    private boolean encodeRequestPoints(Precision precision, Point next) {
+        List<Point> encoded = new ArrayList<>(requestPoints);
+        requestPoints.clear();
+        sink.reset();
+        for (int i = 0; i < encoded.size(); i++) {
+            appendLine(encoded.get(i), precision);
+            if (sink.size() > maxBodySize + 1 && i > 0) {
+                requestPoints.remove(requestPoints.size() - 1);
+                sink.truncate(lastLineStart);
+                carried.addFirst(next);
+                for (int j = encoded.size() - 1; j >= i; j--) {
+                    carried.addFirst(encoded.get(j));
+                }
+                return false;
+            }
+        }
+        if (sink.size() >= maxBodySize) {
+            carried.addFirst(next);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.ByteArraySink;
+import io.opengemini.client.api.ParallelEncodingConfig;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Precision;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Encodes points into a line protocol request body, one line per point without trailing new line.
+ * <p>
+ * When parallel encoding is configured, writes of at least the configured threshold of points are split into
+ * segments encoded concurrently into pooled buffers. Each segment is then copied once into the exact-size body,
+ * the same single copy the serial encoding makes from its buffer, so joining the segments adds no copy.
+ * <p>
+ * When series ordering is enabled, tags are written in key order and the lines are grouped by series key and
+ * sorted by timestamp within each series, see {@link SeriesOrder}. Ordered writes are encoded on the calling
+ * thread, the lines being copied into the body in sorted order instead of segment order.
+ */
+public final class LineProtocolEncoder {
+    private final ForkJoinPool pool;
+
+    private final int threshold;
+
+    private final int segmentSize;
+
+    private final boolean seriesOrdering;
+
+    /**
+     * Create an encoder writing lines in the order of the points.
+     *
+     * @param config the parallel encoding config, null to always encode on the calling thread.
+     */
+    public LineProtocolEncoder(ParallelEncodingConfig config) {
+        this(config, false);
+    }
+
+    /**
+     * Create an encoder.
+     *
+     * @param config         the parallel encoding config, null to always encode on the calling thread.
+     * @param seriesOrdering order the lines by series key then timestamp, with tags in key order.
+     */
+    public LineProtocolEncoder(ParallelEncodingConfig config, boolean seriesOrdering) {
+        this.seriesOrdering = seriesOrdering;
+        if (config != null) {
+            this.pool = config.getPool() != null ? config.getPool() : ForkJoinPool.commonPool();
+            this.threshold = config.getThreshold();
+            this.segmentSize = config.getSegmentSize();
+        } else {
+            this.pool = null;
+            this.threshold = Integer.MAX_VALUE;
+            this.segmentSize = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Encode the points.
+     *
+     * @param points    the points to encode.
+     * @param precision the precision of the timestamps in the body.
+     * @return the body, or null when no point has a field to write.
+     */
+    public byte[] encode(List<Point> points, Precision precision) {
+        if (seriesOrdering) {
+            return encodeOrdered(points, precision);
+        }
+        if (pool == null || points.size() < threshold) {
+            ByteArraySink sink = ByteArraySink.acquire();
+            try {
+                encodeSegment(points, precision, sink);
+                return sink.size() == 0 ? null : Arrays.copyOf(sink.array(), sink.size() - 1);
+            } finally {
+                sink.release();
+            }
+        }
+        int segments = (points.size() + segmentSize - 1) / segmentSize;
+        ByteArraySink[] sinks = new ByteArraySink[segments];
+        @SuppressWarnings("unchecked")
+        ForkJoinTask<Void>[] tasks = new ForkJoinTask[segments];
+        try {
+            for (int i = 0; i < segments; i++) {
+                List<Point> segment = points.subList(i * segmentSize, Math.min(points.size(), (i + 1) * segmentSize));
+                ByteArraySink sink = ByteArraySink.acquire();
+                sinks[i] = sink;
+                tasks[i] = pool.submit(() -> encodeSegment(segment, precision, sink), null);
+            }
+            int size = 0;
+            for (ForkJoinTask<Void> task : tasks) {
+                task.join();
+            }
+            for (ByteArraySink sink : sinks) {
+                size += sink.size();
+            }
+            if (size == 0) {
+                return null;
+            }
+            // every line ends with a new line, the last one is dropped
+            byte[] body = new byte[size - 1];
+            int pos = 0;
+            for (ByteArraySink sink : sinks) {
+                int len = Math.min(sink.size(), body.length - pos);
+                System.arraycopy(sink.array(), 0, body, pos, len);
+                pos += len;
+            }
+            return body;
+        } finally {
+            for (int i = 0; i < segments; i++) {
+                if (tasks[i] != null) {
+                    // a failed segment must not leave others writing into released buffers
+                    tasks[i].quietlyJoin();
+                }
+                if (sinks[i] != null) {
+                    sinks[i].release();
+                }
+            }
+        }
+    }
+
+    private static byte[] encodeOrdered(List<Point> points, Precision precision) {
+        ByteArraySink sink = ByteArraySink.acquire();
+        try {
+            int[] starts = new int[points.size() + 1];
+            long[] times = new long[points.size()];
+            int count = 0;
+            for (Point point : points) {
+                int start = sink.size();
+                if (point.writeTo(sink, precision, true)) {
+                    sink.write('\n');
+                    starts[count] = start;
+                    // lines without timestamp get the arrival time on the server, later than any other
+                    times[count] = point.getTime() != 0 && point.getPrecision() != null
+                            ? precision.getTimeUnit().convert(point.getTime(), point.getPrecision().getTimeUnit())
+                            : Long.MAX_VALUE;
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            // lines are contiguous, each one ends where the next one starts
+            starts[count] = sink.size();
+            byte[] buf = sink.array();
+            int[] order = new SeriesOrder(buf, starts, times, count).sort();
+            byte[] body = new byte[sink.size() - 1];
+            int pos = 0;
+            for (int line : order) {
+                int len = Math.min(starts[line + 1] - starts[line], body.length - pos);
+                System.arraycopy(buf, starts[line], body, pos, len);
+                pos += len;
+            }
+            return body;
+        } finally {
+            sink.release();
+        }
+    }
+
+    private static void encodeSegment(List<Point> points, Precision precision, ByteArraySink sink) {
+        for (Point point : points) {
+            if (point.writeTo(sink, precision)) {
+                sink.write('\n');
+            }
+        }
+    }
+}
@@ -23,42 +23,87 @@ import io.github.openfacade.http.HttpClientFactory;
 import io.github.openfacade.http.HttpResponse;
 import io.opengemini.client.api.AuthConfig;
 import io.opengemini.client.api.AuthType;
+import io.opengemini.client.api.CircuitBreaker;
+import io.opengemini.client.api.CircuitBreakerOpenException;
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.ConcurrencyLimitConfig;
 import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.Endpoint;
 import io.opengemini.client.api.OpenGeminiAsyncClient;
 import io.opengemini.client.api.OpenGeminiException;
 import io.opengemini.client.api.Point;
 import io.opengemini.client.api.Pong;
+import io.opengemini.client.api.Precision;
 import io.opengemini.client.api.Query;
 import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.QueryRowConsumer;
 import io.opengemini.client.api.RetentionPolicy;
 import io.opengemini.client.api.RpConfig;
 import io.opengemini.client.api.Write;
 import io.opengemini.client.common.BaseClient;
+import io.opengemini.client.common.ColumnarQueryDecoder;
 import io.opengemini.client.common.CommandFactory;
+import io.opengemini.client.common.GzipCompressor;
 import io.opengemini.client.common.HeaderConst;
 import io.opengemini.client.common.JacksonService;
+import io.opengemini.client.common.MessagePackQueryDecoder;
+import io.opengemini.client.common.QueryResultDecoder;
 import io.opengemini.client.common.ResultMapper;
 import io.opengemini.client.interceptor.Interceptor;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 
 public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClient {
     private final List<Interceptor> interceptors = new ArrayList<>();
     protected final Configuration conf;
     private final HttpClient client;
+    private final BatchWriter batchWriter;
+    private final LineProtocolEncoder lineProtocolEncoder;
+    private final WriteSpool spool;
+    private final RetryExecutor retryExecutor;
+    private final WriteBisector bisector;
+    private final Map<String, ConcurrencyLimiter> writeLimiters = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrencyLimiter> queryLimiters = new ConcurrentHashMap<>();
 
+    /**
+     * Create a client without a write spool, the spool of the configuration is only opened by
+     * {@link OpenGeminiClientFactory#create(Configuration)}.
+     *
+     * @param conf the configuration of the client.
+     */
     public OpenGeminiClient(@NotNull Configuration conf) {
+        this(conf, null);
+    }
+
+    /**
+     * Create a client writing to the given spool while no server can be reached.
+     *
+     * @param conf  the configuration of the client.
+     * @param spool the opened write spool, may be null.
+     */
+    OpenGeminiClient(@NotNull Configuration conf, WriteSpool spool) {
         super(conf);
         this.conf = conf;
+        this.retryExecutor = conf.getRetryConfig() != null ? new RetryExecutor(conf.getRetryConfig()) : null;
+        this.bisector = conf.getBisectionConfig() != null
+                ? new WriteBisector(conf.getBisectionConfig(), this::sendWrite) : null;
+        this.spool = spool;
         AuthConfig authConfig = conf.getAuthConfig();
         HttpClientConfig httpConfig = conf.getHttpConfig();
         if (httpConfig == null) {
@@ -70,6 +115,13 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
                     new BasicAuthRequestFilter(authConfig.getUsername(), String.valueOf(authConfig.getPassword())));
         }
         this.client = HttpClientFactory.createHttpClient(httpConfig);
+        this.lineProtocolEncoder = new LineProtocolEncoder(conf.getParallelEncodingConfig(),
+                conf.isSeriesOrderingEnabled());
+        this.batchWriter = conf.getBatchConfig() != null ? new BatchWriter(this, conf.getBatchConfig()) : null;
+        if (spool != null) {
+            spool.start(this::deliverWrite, this::hasAvailableEndpoint);
+        }
+        startHealthCheck();
     }
 
     public void addInterceptors(Interceptor... interceptors) {
@@ -149,6 +201,22 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
         return executeQuery(query);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> query(Query query, QueryRowConsumer consumer) {
+        return executeQuery(query, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<ColumnarSeries>> queryColumnar(Query query) {
+        return executeInterceptedQuery(query).thenCompose(this::decodeColumnar);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -167,11 +235,10 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
 
     @Override
     public CompletableFuture<Void> write(String database, String retentionPolicy, Point point) {
-        String body = point.lineProtocol();
-        if (StringUtils.isEmpty(body)) {
-            return CompletableFuture.completedFuture(null);
+        if (batchWriter != null) {
+            return batchWriter.enqueue(database, retentionPolicy, Collections.singletonList(point));
         }
-        return executeWrite(database, retentionPolicy, body);
+        return writeDirect(database, retentionPolicy, Collections.singletonList(point));
     }
 
     @Override
@@ -179,19 +246,50 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
         if (points.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
-        StringJoiner sj = new StringJoiner("\n");
-        for (Point point : points) {
-            String lineProtocol = point.lineProtocol();
-            if (StringUtils.isEmpty(lineProtocol)) {
-                continue;
-            }
-            sj.add(lineProtocol);
+        if (batchWriter != null) {
+            return batchWriter.enqueue(database, retentionPolicy, points);
         }
-        String body = sj.toString();
-        if (StringUtils.isEmpty(body)) {
+        return writeDirect(database, retentionPolicy, points);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The points bypass the batch writer, requests are cut at the configured max write body size.
+     */
+    @Override
+    public CompletableFuture<Void> write(String database, String retentionPolicy, Iterator<Point> points) {
+        int maxBodySize = conf.getMaxWriteBodySize() > 0 ? conf.getMaxWriteBodySize()
+                : IteratorWriter.DEFAULT_MAX_BODY_SIZE;
+        return IteratorWriter.writeLineProtocol(database, retentionPolicy, points, maxBodySize, this::executeWrite);
+    }
+
+    /**
+     * Write points straight to the server, bypassing the batch writer. Line protocol timestamps are sent in
+     * the finest precision of the points, so second resolution points are not widened to nanoseconds.
+     *
+     * @param database        the name of the database.
+     * @param retentionPolicy the name of the retention policy.
+     * @param points          the points to write.
+     */
+    CompletableFuture<Void> writeDirect(String database, String retentionPolicy, List<Point> points) {
+        Precision precision = writePrecision(points);
+        byte[] body = lineProtocolEncoder.encode(points, precision);
+        if (body == null) {
             return CompletableFuture.completedFuture(null);
         }
-        return executeWrite(database, retentionPolicy, body);
+        return executeWrite(new Write(database, retentionPolicy, body, precision.getEpoch()));
+    }
+
+    private static Precision writePrecision(List<Point> points) {
+        Precision finest = null;
+        for (Point point : points) {
+            Precision precision = point.getPrecision();
+            if (point.getTime() != 0 && precision != null && (finest == null || precision.isFinerThan(finest))) {
+                finest = precision;
+            }
+        }
+        return finest == null ? Precision.PRECISIONNANOSECOND : finest;
     }
 
     /**
@@ -208,6 +306,20 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
      * @param query the query to execute.
      */
     public CompletableFuture<QueryResult> executeQuery(Query query) {
+        return executeInterceptedQuery(query).thenCompose(this::decodeQueryResult);
+    }
+
+    /**
+     * Execute a GET query call, passing the rows of the result to the consumer as they are decoded.
+     *
+     * @param query    the query to execute.
+     * @param consumer the consumer of the rows.
+     */
+    public CompletableFuture<Void> executeQuery(Query query, QueryRowConsumer consumer) {
+        return executeInterceptedQuery(query).thenCompose(response -> decodeRows(response, consumer));
+    }
+
+    private CompletableFuture<HttpResponse> executeInterceptedQuery(Query query) {
         CompletableFuture<Void> beforeFutures = CompletableFuture.allOf(
                 interceptors.stream()
                         .map(interceptor -> interceptor.queryBefore(query))
@@ -220,7 +332,7 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
                             .map(interceptor -> interceptor.queryAfter(query, response))
                             .toArray(CompletableFuture[]::new)
             );
-            return afterFutures.thenCompose(voidResult2 -> convertResponse(response, QueryResult.class));
+            return afterFutures.thenApply(voidResult2 -> response);
         }));
     }
 
@@ -231,7 +343,9 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
      */
     protected CompletableFuture<QueryResult> executePostQuery(Query query) {
         String queryUrl = getQueryUrl(query);
-        return post(queryUrl, null).thenCompose(response -> convertResponse(response, QueryResult.class));
+        return send(ConcurrencyLimiter.Operation.QUERY, false, queryUrl,
+                uri -> client.post(uri, new byte[0], queryHeaders))
+                .thenCompose(response -> convertResponse(response, QueryResult.class));
     }
 
     /**
@@ -248,7 +362,68 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
                 lineProtocol,
                 "ns"
         );
+        return executeWrite(write);
+    }
+
+    /**
+     * Send a write to the server. When the spool is enabled, the write is spooled instead if earlier writes are
+     * still spooled, so that writes reach the server in order, if no server is up, or if the request fails for
+     * any other reason than the server rejecting the write with a 4xx status: without an answer, rejected by an
+     * open circuit breaker, or answered with a 5xx status during a restart or an overload. A spooled write
+     * completes once it is on disk.
+     */
+    private CompletableFuture<Void> executeWrite(Write write) {
+        if (spool == null) {
+            return deliverWrite(write);
+        }
+        if (spool.hasPending() || !hasAvailableEndpoint()) {
+            return spool(write, null);
+        }
+        return deliverWrite(write).handle((v, t) -> {
+            if (t == null) {
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (WriteSpool.isRejected(cause)) {
+                // rejected by the server, sending it again would get the same answer
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                future.completeExceptionally(cause);
+                return future;
+            }
+            return spool(write, cause);
+        }).thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> spool(Write write, Throwable failure) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            if (spool.append(write)) {
+                future.complete(null);
+                return future;
+            }
+            if (failure == null) {
+                failure = new OpenGeminiException("write of " + write.getBody().length
+                        + " bytes is larger than a spool segment");
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        future.completeExceptionally(failure);
+        return future;
+    }
+
+    /**
+     * Send a write, isolating the lines the server rejects when bisection is enabled.
+     */
+    private CompletableFuture<Void> deliverWrite(Write write) {
+        return bisector != null ? bisector.write(write) : sendWrite(write);
+    }
 
+    private CompletableFuture<Void> sendWrite(Write write) {
         CompletableFuture<Void> beforeFutures = CompletableFuture.allOf(
                 interceptors.stream()
                         .map(interceptor -> interceptor.writeBefore(write))
@@ -278,10 +453,16 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
                 .orElse(null)).thenApply(Pong::new);
     }
 
+    @Override
+    protected CompletableFuture<Boolean> probe(String urlPrefix) {
+        return client.get(urlPrefix + getPingUrl(), headers)
+                .thenApply(response -> response.statusCode() >= 200 && response.statusCode() < 300);
+    }
+
     private @NotNull <T> CompletableFuture<T> convertResponse(HttpResponse response, Class<T> type) {
         if (response.statusCode() >= 200 && response.statusCode() < 300) {
             try {
-                T resp = JacksonService.toObject(response.body(), type);
+                T resp = JacksonService.toObject(responseBody(response), type);
                 return CompletableFuture.completedFuture(resp);
             } catch (IOException e) {
                 CompletableFuture<T> future = new CompletableFuture<>();
@@ -289,27 +470,141 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
                 return future;
             }
         } else {
-            String body = response.bodyAsString();
-            String errorMsg = "http error: " + body;
-            OpenGeminiException openGeminiException = new OpenGeminiException(errorMsg, response.statusCode());
-            CompletableFuture<T> future = new CompletableFuture<>();
-            future.completeExceptionally(openGeminiException);
+            return httpError(response);
+        }
+    }
+
+    private CompletableFuture<QueryResult> decodeQueryResult(HttpResponse response) {
+        if (!isMessagePack(response)) {
+            return convertResponse(response, QueryResult.class);
+        }
+        try {
+            return CompletableFuture.completedFuture(MessagePackQueryDecoder.decode(responseBody(response)));
+        } catch (IOException | RuntimeException e) {
+            CompletableFuture<QueryResult> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
             return future;
         }
     }
 
-    private CompletableFuture<HttpResponse> get(String url) {
-        return client.get(buildUriWithPrefix(url), headers);
+    private static boolean isMessagePack(HttpResponse response) {
+        return response.statusCode() >= 200 && response.statusCode() < 300
+                && MessagePackQueryDecoder.isMessagePack(headerValue(response, HeaderConst.CONTENT_TYPE));
+    }
+
+    private static <T> CompletableFuture<T> httpError(HttpResponse response) {
+        String body = response.bodyAsString();
+        String errorMsg = "http error: " + body;
+        OpenGeminiException openGeminiException = new OpenGeminiException(errorMsg, response.statusCode());
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(openGeminiException);
+        return future;
     }
 
-    private CompletableFuture<HttpResponse> post(String url, String body) {
-        return client.post(buildUriWithPrefix(url), body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8),
-                headers);
+    private CompletableFuture<Void> decodeRows(HttpResponse response, QueryRowConsumer consumer) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            return httpError(response);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (isMessagePack(response)) {
+            try {
+                MessagePackQueryDecoder.decode(responseBody(response), consumer);
+                future.complete(null);
+            } catch (IOException | OpenGeminiException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        try (InputStream in = responseStream(response)) {
+            QueryResultDecoder.decode(in, consumer);
+            future.complete(null);
+        } catch (IOException | OpenGeminiException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private CompletableFuture<List<ColumnarSeries>> decodeColumnar(HttpResponse response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            return httpError(response);
+        }
+        CompletableFuture<List<ColumnarSeries>> future = new CompletableFuture<>();
+        if (isMessagePack(response)) {
+            try {
+                future.complete(MessagePackQueryDecoder.decodeColumnar(responseBody(response)));
+            } catch (IOException | OpenGeminiException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        try (InputStream in = responseStream(response)) {
+            future.complete(ColumnarQueryDecoder.decode(in));
+        } catch (IOException | OpenGeminiException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get the body of a response as a stream, a gzip body being decompressed while it is read rather than into
+     * a second array.
+     */
+    private InputStream responseStream(HttpResponse response) throws IOException {
+        byte[] body = response.body();
+        if (body != null && GzipCompressor.ENCODING.equalsIgnoreCase(headerValue(response,
+                HeaderConst.CONTENT_ENCODING)) && GzipCompressor.isCompressed(body)) {
+            return new GZIPInputStream(new ByteArrayInputStream(body));
+        }
+        byte[] decoded = responseBody(response);
+        return new ByteArrayInputStream(decoded != null ? decoded : new byte[0]);
+    }
+
+    /**
+     * Get the body of a response, decompressing it according to its Content-Encoding.
+     */
+    private byte[] responseBody(HttpResponse response) throws IOException {
+        byte[] body = response.body();
+        String contentEncoding = headerValue(response, HeaderConst.CONTENT_ENCODING);
+        if (contentEncoding == null || body == null || body.length == 0) {
+            return body;
+        }
+        if (GzipCompressor.ENCODING.equalsIgnoreCase(contentEncoding)) {
+            // some http engines decompress gzip transparently but keep the header
+            return GzipCompressor.isCompressed(body) ? GzipCompressor.decompress(body) : body;
+        }
+        if (contentCodec != null && contentCodec.name().equalsIgnoreCase(contentEncoding)) {
+            return contentCodec.decode(body);
+        }
+        return body;
+    }
+
+    private static String headerValue(HttpResponse response, String name) {
+        for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null
+                    && !header.getValue().isEmpty()) {
+                return header.getValue().get(0).trim();
+            }
+        }
+        return null;
+    }
+
+    private CompletableFuture<HttpResponse> get(String url) {
+        return client.get(buildUriWithPrefix(url), queryHeaders);
     }
 
     @Override
     public void close() throws IOException {
+        if (batchWriter != null) {
+            batchWriter.close();
+        }
+        if (spool != null) {
+            spool.close();
+        }
+        if (retryExecutor != null) {
+            retryExecutor.close();
+        }
         this.client.close();
+        super.close();
     }
 
     @Override
@@ -319,11 +614,120 @@ public class OpenGeminiClient extends BaseClient implements OpenGeminiAsyncClien
 
     private CompletableFuture<HttpResponse> executeHttpQuery(Query query) {
         String queryUrl = getQueryUrl(query);
-        return get(queryUrl);
+        return send(ConcurrencyLimiter.Operation.QUERY, true, queryUrl, uri -> client.get(uri, getQueryHeaders(query)));
     }
 
     private CompletableFuture<HttpResponse> executeHttpWrite(Write write) {
-        String writeUrl = getWriteUrl(write.getDatabase(), write.getRetentionPolicy());
-        return post(writeUrl, write.getLineProtocol());
+        String writeUrl = getWriteUrl(write.getDatabase(), write.getRetentionPolicy(), write.getPrecision());
+        byte[] body = write.getBody();
+        if (contentCodec != null) {
+            try {
+                body = contentCodec.encode(body, 0, body.length);
+            } catch (IOException e) {
+                CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+            }
+        }
+        byte[] encoded = body;
+        return send(ConcurrencyLimiter.Operation.WRITE, true, writeUrl,
+                uri -> client.post(uri, encoded, writeHeaders));
+    }
+
+    /**
+     * Send a request, retrying it on the next servers when retries are configured and the request is idempotent.
+     *
+     * @param operation  the operation type of the request.
+     * @param idempotent whether the request can be sent again, writes and read queries are.
+     * @param url        the url of the request, without server prefix.
+     * @param request    sends the request to the given uri.
+     */
+    private CompletableFuture<HttpResponse> send(ConcurrencyLimiter.Operation operation, boolean idempotent,
+                                                 String url,
+                                                 Function<String, CompletableFuture<HttpResponse>> request) {
+        if (retryExecutor != null && idempotent) {
+            return retryExecutor.execute(() -> sendOnce(operation, url, request));
+        }
+        return sendOnce(operation, url, request);
+    }
+
+    /**
+     * Send a request to the next server, within the concurrency limit of the server when one is configured.
+     */
+    private CompletableFuture<HttpResponse> sendOnce(ConcurrencyLimiter.Operation operation, String url,
+                                                     Function<String, CompletableFuture<HttpResponse>> request) {
+        Endpoint endpoint = nextEndpoint();
+        String prefix = endpoint.getUrl();
+        ConcurrencyLimitConfig limitConfig = conf.getConcurrencyLimitConfig();
+        if (limitConfig == null) {
+            return sendTo(endpoint, url, request);
+        }
+        Map<String, ConcurrencyLimiter> limiters = operation == ConcurrencyLimiter.Operation.WRITE
+                ? writeLimiters : queryLimiters;
+        ConcurrencyLimiter limiter = limiters.computeIfAbsent(prefix, key -> new ConcurrencyLimiter(key,
+                operation, operation == ConcurrencyLimiter.Operation.WRITE ? limitConfig.getMaxInFlightWrites()
+                : limitConfig.getMaxInFlightQueries(), limitConfig.getSaturationPolicy(),
+                limitConfig.getQueueSize(), TimeUnit.MILLISECONDS.toNanos(limitConfig.getBlockTimeout())));
+        return limiter.execute(() -> sendTo(endpoint, url, request));
+    }
+
+    /**
+     * Send a request to the given server, recording its load, latency and outcome for the load balancer and the
+     * circuit breaker of the server.
+     */
+    private CompletableFuture<HttpResponse> sendTo(Endpoint endpoint, String url,
+                                                   Function<String, CompletableFuture<HttpResponse>> request) {
+        CircuitBreaker breaker = endpoint.getCircuitBreaker();
+        if (breaker != null && !breaker.tryAcquirePermission()) {
+            CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(new CircuitBreakerOpenException(endpoint.getUrl()));
+            return future;
+        }
+        long start = endpoint.requestStarted();
+        CompletableFuture<HttpResponse> future;
+        try {
+            future = request.apply(endpoint.getUrl() + url);
+        } catch (RuntimeException e) {
+            requestCompleted(endpoint, start, null, e);
+            throw e;
+        }
+        return future.whenComplete((response, error) -> requestCompleted(endpoint, start, response, error));
+    }
+
+    private static void requestCompleted(Endpoint endpoint, long start, HttpResponse response, Throwable error) {
+        endpoint.requestCompleted(start, error != null);
+        CircuitBreaker breaker = endpoint.getCircuitBreaker();
+        if (breaker != null) {
+            breaker.record(System.nanoTime() - start, error != null || response.statusCode() >= 500);
+        }
+    }
+
+    /**
+     * Get the retry executor, for its metrics.
+     *
+     * @return the executor, null when no retry is configured.
+     */
+    public RetryExecutor getRetryExecutor() {
+        return retryExecutor;
+    }
+
+    /**
+     * Get the write spool, for its metrics.
+     *
+     * @return the spool, null when no spool is configured.
+     */
+    public WriteSpool getWriteSpool() {
+        return spool;
+    }
+
+    /**
+     * Get the concurrency limiters created so far, one per server and operation type, for their metrics.
+     *
+     * @return the limiters, empty when no concurrency limit is configured.
+     */
+    public List<ConcurrencyLimiter> getConcurrencyLimiters() {
+        List<ConcurrencyLimiter> limiters = new ArrayList<>(writeLimiters.values());
+        limiters.addAll(queryLimiters.values());
+        return limiters;
     }
 }
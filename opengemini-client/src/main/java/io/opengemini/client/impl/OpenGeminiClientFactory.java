@@ -19,10 +19,22 @@ package io.opengemini.client.impl;
 import io.opengemini.client.api.AuthConfig;
 import io.opengemini.client.api.AuthType;
 import io.opengemini.client.api.BatchConfig;
+import io.opengemini.client.api.BisectionConfig;
+import io.opengemini.client.api.CircuitBreakerConfig;
+import io.opengemini.client.api.CompressionConfig;
+import io.opengemini.client.api.ConcurrencyLimitConfig;
 import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.HealthCheckConfig;
 import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.ParallelEncodingConfig;
+import io.opengemini.client.api.RetryConfig;
+import io.opengemini.client.api.SaturationPolicy;
+import io.opengemini.client.api.SpoolConfig;
+import io.opengemini.client.common.ContentCodecs;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+
 public class OpenGeminiClientFactory {
     public static OpenGeminiClient create(@NotNull Configuration configuration) throws OpenGeminiException {
         if (configuration.getAddresses() == null || configuration.getAddresses().isEmpty()) {
@@ -51,7 +63,142 @@ public class OpenGeminiClientFactory {
             if (batchConfig.getBatchSize() <= 0) {
                 throw new OpenGeminiException("batch enabled, batch size must be great than 0");
             }
+            if (batchConfig.getMaxPendingPoints() < 0) {
+                throw new OpenGeminiException("batch enabled, max pending points must not be negative");
+            }
+        }
+        CompressionConfig compressionConfig = configuration.getCompressionConfig();
+        if (compressionConfig != null && compressionConfig.getContentEncoding() != null
+                && !ContentCodecs.isSupported(compressionConfig.getContentEncoding())) {
+            throw new OpenGeminiException("unsupported content encoding: " + compressionConfig.getContentEncoding());
+        }
+        if (configuration.getMaxWriteBodySize() < 0) {
+            throw new OpenGeminiException("max write body size must not be negative");
+        }
+        CircuitBreakerConfig breakerConfig = configuration.getCircuitBreakerConfig();
+        if (breakerConfig != null) {
+            if (breakerConfig.getWindowSize() <= 0 || breakerConfig.getMinimumCalls() <= 0) {
+                throw new OpenGeminiException("circuit breaker enabled, window size and minimum calls must be "
+                        + "great than 0");
+            }
+            if (breakerConfig.getHalfOpenCalls() <= 0 || breakerConfig.getHalfOpenCalls() > breakerConfig
+                    .getWindowSize()) {
+                throw new OpenGeminiException("circuit breaker enabled, half open calls must be great than 0 and "
+                        + "not exceed the window size");
+            }
+            if (breakerConfig.getFailureRateThreshold() <= 0 || breakerConfig.getFailureRateThreshold() > 100
+                    || breakerConfig.getSlowCallRateThreshold() <= 0
+                    || breakerConfig.getSlowCallRateThreshold() > 100) {
+                throw new OpenGeminiException("circuit breaker enabled, rate thresholds must be in (0, 100]");
+            }
+            if (breakerConfig.getSlowCallDuration() <= 0 || breakerConfig.getOpenDuration() <= 0) {
+                throw new OpenGeminiException("circuit breaker enabled, slow call duration and open duration must "
+                        + "be great than 0");
+            }
+        }
+        HealthCheckConfig healthCheckConfig = configuration.getHealthCheckConfig();
+        if (healthCheckConfig != null) {
+            if (healthCheckConfig.getInterval() <= 0 || healthCheckConfig.getDownInterval() <= 0) {
+                throw new OpenGeminiException("health check interval must be great than 0");
+            }
+            if (healthCheckConfig.getJitter() < 0 || healthCheckConfig.getJitter() >= 1) {
+                throw new OpenGeminiException("health check jitter must be between 0 and 1");
+            }
+            if (healthCheckConfig.getTimeout() <= 0) {
+                throw new OpenGeminiException("health check timeout must be great than 0");
+            }
+        }
+        ParallelEncodingConfig parallelEncodingConfig = configuration.getParallelEncodingConfig();
+        if (parallelEncodingConfig != null) {
+            if (parallelEncodingConfig.getThreshold() <= 0) {
+                throw new OpenGeminiException("parallel encoding enabled, threshold must be great than 0");
+            }
+            if (parallelEncodingConfig.getSegmentSize() <= 0) {
+                throw new OpenGeminiException("parallel encoding enabled, segment size must be great than 0");
+            }
+        }
+        ConcurrencyLimitConfig limitConfig = configuration.getConcurrencyLimitConfig();
+        if (limitConfig != null) {
+            if (limitConfig.getMaxInFlightWrites() <= 0) {
+                throw new OpenGeminiException("concurrency limit enabled, max in-flight writes must be great than 0");
+            }
+            if (limitConfig.getMaxInFlightQueries() <= 0) {
+                throw new OpenGeminiException("concurrency limit enabled, max in-flight queries must be great than 0");
+            }
+            if (limitConfig.getSaturationPolicy() == null) {
+                throw new OpenGeminiException("concurrency limit enabled, saturation policy must not be null");
+            }
+            if (limitConfig.getSaturationPolicy() != SaturationPolicy.FAIL_FAST && limitConfig.getQueueSize() <= 0) {
+                throw new OpenGeminiException("concurrency limit enabled, queue size must be great than 0");
+            }
+            if (limitConfig.getBlockTimeout() < 0) {
+                throw new OpenGeminiException("concurrency limit enabled, block timeout must not be negative");
+            }
+        }
+        RetryConfig retryConfig = configuration.getRetryConfig();
+        if (retryConfig != null) {
+            if (retryConfig.getMaxAttempts() <= 0) {
+                throw new OpenGeminiException("retry enabled, max attempts must be great than 0");
+            }
+            if (retryConfig.getInitialBackoff() < 0 || retryConfig.getMaxBackoff() < 0) {
+                throw new OpenGeminiException("retry enabled, backoff must not be negative");
+            }
+            if (retryConfig.getMultiplier() < 1) {
+                throw new OpenGeminiException("retry enabled, multiplier must not be less than 1");
+            }
+            if (retryConfig.getBudgetCapacity() <= 0) {
+                throw new OpenGeminiException("retry enabled, budget capacity must be great than 0");
+            }
+            if (retryConfig.getBudgetRefillRate() < 0) {
+                throw new OpenGeminiException("retry enabled, budget refill rate must not be negative");
+            }
+        }
+        BisectionConfig bisectionConfig = configuration.getBisectionConfig();
+        if (bisectionConfig != null) {
+            if (bisectionConfig.getDeadLetterHandler() == null) {
+                throw new OpenGeminiException("bisection enabled, dead letter handler must not be null");
+            }
+            if (bisectionConfig.getMaxRejectedLines() <= 0) {
+                throw new OpenGeminiException("bisection enabled, max rejected lines must be great than 0");
+            }
+        }
+        SpoolConfig spoolConfig = configuration.getSpoolConfig();
+        if (spoolConfig != null) {
+            if (spoolConfig.getDirectory() == null || spoolConfig.getDirectory().isEmpty()) {
+                throw new OpenGeminiException("spool enabled, directory must not be empty");
+            }
+            if (spoolConfig.getSegmentSize() <= WriteSpool.HEADER_SIZE) {
+                throw new OpenGeminiException("spool enabled, segment size must be great than "
+                        + WriteSpool.HEADER_SIZE);
+            }
+            if (spoolConfig.getMaxSize() < spoolConfig.getSegmentSize()) {
+                throw new OpenGeminiException("spool enabled, max size must not be less than segment size");
+            }
+            if (spoolConfig.getReplayInterval() <= 0) {
+                throw new OpenGeminiException("spool enabled, replay interval must be great than 0");
+            }
+            if (spoolConfig.getMaxReplayAttempts() < 0) {
+                throw new OpenGeminiException("spool enabled, max replay attempts must not be negative");
+            }
+        }
+        if (spoolConfig == null) {
+            return new OpenGeminiClient(configuration);
+        }
+        WriteSpool spool;
+        try {
+            spool = new WriteSpool(spoolConfig);
+        } catch (IOException e) {
+            throw new OpenGeminiException(e);
+        }
+        try {
+            return new OpenGeminiClient(configuration, spool);
+        } catch (RuntimeException e) {
+            try {
+                spool.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
         }
-        return new OpenGeminiClient(configuration);
     }
 }
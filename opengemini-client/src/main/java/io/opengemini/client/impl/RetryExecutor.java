@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpResponse;
+import io.opengemini.client.api.CircuitBreakerOpenException;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.RetryConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries http requests failing in the transport, that is failing to connect, timing out or with an I/O error,
+ * answered with a 5xx status, see {@link RetryConfig}, or rejected by an open circuit breaker before being sent.
+ * Other failures raised by the client itself, such as a rejection by a concurrency limiter or an error of an
+ * interceptor, would fail the same way again and are not retried. The counters of the retries are available
+ * through {@link OpenGeminiClient#getRetryExecutor()}.
+ */
+public final class RetryExecutor implements Closeable {
+    private final int maxAttempts;
+
+    private final long initialBackoff;
+
+    private final long maxBackoff;
+
+    private final double multiplier;
+
+    private final double budgetCapacity;
+
+    private final double budgetRefillPerNano;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder retryCount = new LongAdder();
+
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+
+    private double budget;
+
+    private long budgetRefilledAt;
+
+    RetryExecutor(RetryConfig config) {
+        this.maxAttempts = config.getMaxAttempts();
+        this.initialBackoff = config.getInitialBackoff();
+        this.maxBackoff = config.getMaxBackoff();
+        this.multiplier = config.getMultiplier();
+        this.budgetCapacity = config.getBudgetCapacity();
+        this.budgetRefillPerNano = config.getBudgetRefillRate() / TimeUnit.SECONDS.toNanos(1);
+        this.budget = budgetCapacity;
+        this.budgetRefilledAt = System.nanoTime();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setName("opengemini-client-retry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Send a request, and send it again while it fails transiently and attempts and budget are left.
+     *
+     * @param request sends one attempt of the request, choosing its server.
+     * @return the response of the last attempt.
+     */
+    CompletableFuture<HttpResponse> execute(Supplier<CompletableFuture<HttpResponse>> request) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        attempt(request, 1, result);
+        return result;
+    }
+
+    private void attempt(Supplier<CompletableFuture<HttpResponse>> request, int attempt,
+                         CompletableFuture<HttpResponse> result) {
+        CompletableFuture<HttpResponse> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((value, failure) -> {
+            boolean transientFailure = failure != null ? isTransient(failure) : value.statusCode() >= 500;
+            if (transientFailure && attempt < maxAttempts && acquireBudget()) {
+                try {
+                    scheduler.schedule(() -> ConcurrencyLimiter.runNonBlocking(
+                            () -> attempt(request, attempt + 1, result)), backoff(attempt), TimeUnit.MILLISECONDS);
+                    retryCount.increment();
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // closed, the last failure is the result
+                }
+            }
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * Tell whether a failure is worth another attempt, looking through the exceptions the http engines wrap
+     * transport failures in.
+     */
+    static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitBreakerOpenException) {
+                return true;
+            }
+            if (cause instanceof OpenGeminiException) {
+                return false;
+            }
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Full jitter: a uniformly random delay up to the exponential bound.
+     */
+    private long backoff(int attempt) {
+        double bound = Math.min(maxBackoff, initialBackoff * Math.pow(multiplier, attempt - 1));
+        return (long) (ThreadLocalRandom.current().nextDouble() * bound);
+    }
+
+    private synchronized boolean acquireBudget() {
+        long now = System.nanoTime();
+        budget = Math.min(budgetCapacity, budget + (now - budgetRefilledAt) * budgetRefillPerNano);
+        budgetRefilledAt = now;
+        if (budget < 1) {
+            budgetExhaustedCount.increment();
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    /**
+     * Number of retries made.
+     */
+    public long retryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Number of retries given up because the budget was exhausted.
+     */
+    public long budgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+/**
+ * Orders the lines of an encoded line protocol buffer by series key, then by timestamp.
+ * <p>
+ * Lines are referenced by their index into primitive arrays of offsets and timestamps, and only an array of
+ * line indexes is sorted, so ordering moves no {@code Point} and no byte of the buffer. The sort is a stable
+ * merge sort: lines of the same series with the same timestamp keep their write order. The first eight bytes
+ * of every series key are packed into a long compared as unsigned, which decides most comparisons without
+ * reading the buffer.
+ */
+final class SeriesOrder {
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private final byte[] buf;
+
+    private final int[] starts;
+
+    private final int[] keyEnds;
+
+    private final long[] prefixes;
+
+    private final long[] times;
+
+    private final int count;
+
+    /**
+     * @param buf    the encoded lines.
+     * @param starts the start offset of every line.
+     * @param times  the timestamp of every line, {@link Long#MAX_VALUE} for lines without timestamp.
+     * @param count  the number of lines.
+     */
+    SeriesOrder(byte[] buf, int[] starts, long[] times, int count) {
+        this.buf = buf;
+        this.starts = starts;
+        this.times = times;
+        this.count = count;
+        this.keyEnds = new int[count];
+        this.prefixes = new long[count];
+        for (int i = 0; i < count; i++) {
+            int keyEnd = seriesKeyEnd(buf, starts[i]);
+            keyEnds[i] = keyEnd;
+            prefixes[i] = prefix(buf, starts[i], keyEnd);
+        }
+    }
+
+    /**
+     * Sort the lines.
+     *
+     * @return the line indexes in series key then timestamp order.
+     */
+    int[] sort() {
+        int[] order = new int[count];
+        boolean sorted = true;
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+            if (i > 0 && sorted && compare(i - 1, i) > 0) {
+                sorted = false;
+            }
+        }
+        if (!sorted) {
+            mergeSort(order.clone(), order, 0, count);
+        }
+        return order;
+    }
+
+    private void mergeSort(int[] src, int[] dest, int low, int high) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                for (int j = i; j > low && compare(dest[j - 1], dest[j]) > 0; j--) {
+                    int line = dest[j];
+                    dest[j] = dest[j - 1];
+                    dest[j - 1] = line;
+                }
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid);
+        mergeSort(dest, src, mid, high);
+        if (compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, length);
+            return;
+        }
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && compare(src[p], src[q]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    private int compare(int a, int b) {
+        int result = Long.compareUnsigned(prefixes[a], prefixes[b]);
+        if (result == 0) {
+            result = compareKeys(a, b);
+        }
+        return result != 0 ? result : Long.compare(times[a], times[b]);
+    }
+
+    private int compareKeys(int a, int b) {
+        int startA = starts[a];
+        int startB = starts[b];
+        int lengthA = keyEnds[a] - startA;
+        int lengthB = keyEnds[b] - startB;
+        int length = Math.min(lengthA, lengthB);
+        // equal prefixes mean equal leading bytes
+        for (int i = Math.min(Long.BYTES, length); i < length; i++) {
+            int diff = (buf[startA + i] & 0xff) - (buf[startB + i] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    /**
+     * The series key, measurement and tags, ends at the first space not escaped by a backslash.
+     */
+    private static int seriesKeyEnd(byte[] buf, int start) {
+        int i = start;
+        while (buf[i] != ' ' || i > start && buf[i - 1] == '\\') {
+            i++;
+        }
+        return i;
+    }
+
+    private static long prefix(byte[] buf, int start, int end) {
+        long prefix = 0;
+        for (int i = start; i < start + Long.BYTES; i++) {
+            prefix = prefix << 8 | (i < end ? buf[i] & 0xff : 0);
+        }
+        return prefix;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.BisectionConfig;
+import io.opengemini.client.api.DeadLetterHandler;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Write;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Isolates the lines making the server reject a line protocol write, see {@link BisectionConfig}.
+ * <p>
+ * A rejected write is split in two halves sent one after the other, and every rejected half is split again,
+ * until the rejected lines are sent alone. When the error of the server names the line it could not parse, that
+ * line is isolated at once and the lines around it are sent without splitting. Lines accepted along the way may
+ * have been written by a partial write already, sending them again overwrites the same points.
+ */
+final class WriteBisector {
+    private static final String UNABLE_TO_PARSE = "unable to parse '";
+
+    private static final String UNABLE_TO_PARSE_END = "': ";
+
+    private final DeadLetterHandler deadLetterHandler;
+
+    private final int maxRejectedLines;
+
+    private final Function<Write, CompletableFuture<Void>> sender;
+
+    WriteBisector(BisectionConfig config, Function<Write, CompletableFuture<Void>> sender) {
+        this.deadLetterHandler = config.getDeadLetterHandler();
+        this.maxRejectedLines = config.getMaxRejectedLines();
+        this.sender = sender;
+    }
+
+    /**
+     * Send a write, isolating its rejected lines if the server rejects it.
+     *
+     * @param write the write.
+     * @return a future completed when every line has been written or passed to the dead letter handler.
+     */
+    CompletableFuture<Void> write(Write write) {
+        return sender.apply(write).handle((v, t) -> {
+            if (t == null) {
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            OpenGeminiException error = rejection(t);
+            if (error == null) {
+                return WriteBisector.<Void>failed(unwrap(t));
+            }
+            Batch batch = new Batch(write);
+            return batch.isolate(0, batch.lineCount, error);
+        }).thenCompose(future -> future);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    /**
+     * Get the error of a write rejected because of its content, null for any other failure.
+     */
+    private static OpenGeminiException rejection(Throwable t) {
+        Throwable cause = unwrap(t);
+        if (cause instanceof OpenGeminiException) {
+            int statusCode = ((OpenGeminiException) cause).getStatusCode();
+            if (statusCode == 400 || statusCode == 413) {
+                return (OpenGeminiException) cause;
+            }
+        }
+        return null;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    /**
+     * The lines of a rejected write, split by their offsets in the body.
+     */
+    private final class Batch {
+        private final Write write;
+
+        private final byte[] body;
+
+        private final int[] starts;
+
+        private final int[] ends;
+
+        private final int lineCount;
+
+        private int rejectedLines;
+
+        private Batch(Write write) {
+            this.write = write;
+            this.body = write.getBody();
+            int[] lineStarts = new int[16];
+            int[] lineEnds = new int[16];
+            int count = 0;
+            int start = 0;
+            for (int i = 0; i <= body.length; i++) {
+                if (i == body.length || body[i] == '\n') {
+                    if (i > start) {
+                        if (count == lineStarts.length) {
+                            lineStarts = Arrays.copyOf(lineStarts, count * 2);
+                            lineEnds = Arrays.copyOf(lineEnds, count * 2);
+                        }
+                        lineStarts[count] = start;
+                        lineEnds[count] = i;
+                        count++;
+                    }
+                    start = i + 1;
+                }
+            }
+            this.starts = lineStarts;
+            this.ends = lineEnds;
+            this.lineCount = count;
+        }
+
+        /**
+         * Isolate the rejected lines among lines [from, to), which the server rejected together with the given
+         * error.
+         */
+        private CompletableFuture<Void> isolate(int from, int to, OpenGeminiException error) {
+            if (to - from <= 1) {
+                return deadLetter(from, to, error);
+            }
+            int named = namedLine(from, to, error.getMessage());
+            if (named >= 0) {
+                return deadLetter(named, named + 1, error)
+                        .thenCompose(v -> send(from, named))
+                        .thenCompose(v -> send(named + 1, to));
+            }
+            int mid = (from + to) >>> 1;
+            return send(from, mid).thenCompose(v -> send(mid, to));
+        }
+
+        private CompletableFuture<Void> send(int from, int to) {
+            if (from >= to) {
+                return CompletableFuture.completedFuture(null);
+            }
+            Write part = new Write(write.getDatabase(), write.getRetentionPolicy(),
+                    Arrays.copyOfRange(body, starts[from], ends[to - 1]), write.getPrecision());
+            // sent from the completion of the previous part
+            return ConcurrencyLimiter.callNonBlocking(() -> sender.apply(part)).handle((v, t) -> {
+                if (t == null) {
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                OpenGeminiException error = rejection(t);
+                return error != null ? isolate(from, to, error) : WriteBisector.<Void>failed(unwrap(t));
+            }).thenCompose(future -> future);
+        }
+
+        private CompletableFuture<Void> deadLetter(int from, int to, OpenGeminiException error) {
+            if (from >= to) {
+                // a write without any line, nothing to isolate
+                return failed(error);
+            }
+            if (++rejectedLines > maxRejectedLines) {
+                return failed(error);
+            }
+            String line = new String(body, starts[from], ends[from] - starts[from], StandardCharsets.UTF_8);
+            deadLetterHandler.rejected(write.getDatabase(), write.getRetentionPolicy(), line, error);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        /**
+         * Find the line an "unable to parse" error is about.
+         *
+         * @return the index of the line, -1 when the error names no line of the range.
+         */
+        private int namedLine(int from, int to, String message) {
+            int start = message == null ? -1 : message.indexOf(UNABLE_TO_PARSE);
+            if (start < 0) {
+                return -1;
+            }
+            start += UNABLE_TO_PARSE.length();
+            int end = message.indexOf(UNABLE_TO_PARSE_END, start);
+            if (end < 0) {
+                return -1;
+            }
+            byte[] line = message.substring(start, end).getBytes(StandardCharsets.UTF_8);
+            for (int i = from; i < to; i++) {
+                if (ends[i] - starts[i] == line.length && regionEquals(starts[i], line)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean regionEquals(int offset, byte[] line) {
+            for (int i = 0; i < line.length; i++) {
+                if (body[offset + i] != line[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
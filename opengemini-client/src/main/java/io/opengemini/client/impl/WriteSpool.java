@@ -0,0 +1,715 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.CircuitBreakerOpenException;
+import io.opengemini.client.api.DeadLetterHandler;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.SpoolConfig;
+import io.opengemini.client.api.Write;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of line protocol writes kept in memory-mapped segment files, replayed in order by a background
+ * thread once a server is available.
+ * <p>
+ * A segment is a file of fixed size named after its sequence number, holding records laid out as
+ * <pre>
+ * int   payload length, 0 after the last record
+ * int   CRC32 of the payload
+ * byte  1 once the record has been replayed, 0 before
+ * bytes payload: database, retention policy and precision as length prefixed UTF-8, then the body
+ * </pre>
+ * The length of a record is written last, so a record only becomes visible once complete. When the spool is
+ * opened, the records of existing segments are read up to the first one failing its CRC check, the tail torn
+ * by a crash, and new records go to a new segment. Replayed records are flagged in place, a segment is deleted
+ * once all of its records have been replayed. When a new segment would exceed the maximum size, the oldest
+ * segment is dropped with the records it still holds.
+ * <p>
+ * When {@link SpoolConfig#getMaxReplayAttempts()} is set, a record the server answers with an error is replayed
+ * at most that many times, so that a write the server keeps failing does not hold back the records after it, and
+ * with them every new write. The lines of the records dropped to make room, of the records the server rejects on
+ * replay and of the records given up after the max attempts are passed to the
+ * {@link SpoolConfig#getDeadLetterHandler() dead letter handler}. The counters of the spool are available
+ * through {@link OpenGeminiClient#getWriteSpool()}.
+ * <p>
+ * Records live in the mapped pages, so they survive a crash of the process. They are forced to the device
+ * when their segment is full and when the spool is closed. The mapping of a segment is released as soon as the
+ * segment is deleted or the spool closed, rather than when the buffer is garbage collected, so that the address
+ * space and the file are freed at once.
+ */
+public final class WriteSpool implements Closeable {
+    static final int HEADER_SIZE = 9;
+
+    private static final String SEGMENT_SUFFIX = ".spool";
+
+    private static final String LOCK_FILE = "spool.lock";
+
+    private static final byte REPLAYED = 1;
+
+    private static final int NULL_STRING = 0xffff;
+
+    private static final Consumer<ByteBuffer> UNMAPPER = unmapper();
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    private final FileChannel lockChannel;
+
+    private final FileLock lock;
+
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+    /**
+     * sends a replayed write to the server, set when the spool is started
+     */
+    private Function<Write, CompletableFuture<Void>> sender;
+
+    /**
+     * tells whether a server may be reachable, set when the spool is started
+     */
+    private BooleanSupplier available;
+
+    private final ScheduledExecutorService replayer;
+
+    private final long replayInterval;
+
+    private final LongAdder spooledRecords = new LongAdder();
+
+    private final LongAdder replayedRecords = new LongAdder();
+
+    private final LongAdder droppedRecords = new LongAdder();
+
+    private final LongAdder rejectedRecords = new LongAdder();
+
+    private final DeadLetterHandler deadLetterHandler;
+
+    private final int maxReplayAttempts;
+
+    /**
+     * the record the server answered with an error on its last replay, and the number of such answers, only
+     * used by the replaying thread
+     */
+    private Record failedRecord;
+
+    private int failedAttempts;
+
+    /**
+     * writes of the segments dropped to make room, passed to the dead letter handler once the lock is released
+     */
+    private List<Write> droppedWrites = new ArrayList<>();
+
+    /**
+     * segment receiving new records, null until the first record is appended
+     */
+    private Segment active;
+
+    private long nextSequence;
+
+    private long pendingRecords;
+
+    private volatile boolean closed;
+
+    /**
+     * Open the spool, recovering the records left in its directory. Nothing is replayed before {@link #start()}.
+     *
+     * @param config the spool config.
+     * @throws IOException if the directory cannot be used.
+     */
+    WriteSpool(SpoolConfig config) throws IOException {
+        this.directory = Paths.get(config.getDirectory());
+        this.segmentSize = config.getSegmentSize();
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE, config.getMaxSize() / segmentSize));
+        this.deadLetterHandler = config.getDeadLetterHandler();
+        this.maxReplayAttempts = config.getMaxReplayAttempts();
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock fileLock = null;
+        try {
+            try {
+                fileLock = lockChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // held by another client of this process
+            }
+            if (fileLock == null) {
+                throw new IOException("spool directory is used by another client: " + directory);
+            }
+            recover();
+        } catch (IOException | RuntimeException e) {
+            if (fileLock != null) {
+                fileLock.release();
+            }
+            lockChannel.close();
+            throw e;
+        }
+        this.lock = fileLock;
+        this.replayer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setName("opengemini-client-spool-replayer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.replayInterval = config.getReplayInterval();
+    }
+
+    /**
+     * Start replaying the spooled writes in the background.
+     *
+     * @param sender    sends a replayed write to the server.
+     * @param available tells whether a server may be reachable, replay is skipped while it is false.
+     */
+    void start(Function<Write, CompletableFuture<Void>> sender, BooleanSupplier available) {
+        this.sender = sender;
+        this.available = available;
+        replayer.scheduleWithFixedDelay(this::replay, replayInterval, replayInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files, (a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+        for (Path file : files) {
+            long sequence = sequenceOf(file);
+            nextSequence = Math.max(nextSequence, sequence + 1);
+            Segment segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                segment = new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+            }
+            segment.scan();
+            if (segment.pending == 0) {
+                segment.delete();
+            } else {
+                segments.add(segment);
+                pendingRecords += segment.pending;
+            }
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = String.valueOf(file.getFileName());
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Whether records are waiting to be replayed.
+     */
+    synchronized boolean hasPending() {
+        return pendingRecords > 0;
+    }
+
+    /**
+     * Append a write after the spooled ones.
+     *
+     * @param write the write to spool.
+     * @return false if the write is larger than a segment, in which case nothing is appended.
+     * @throws IOException if a new segment cannot be created.
+     */
+    boolean append(Write write) throws IOException {
+        try {
+            return appendRecord(write);
+        } finally {
+            List<Write> dropped = takeDroppedWrites();
+            if (dropped != null) {
+                OpenGeminiException error = new OpenGeminiException("spool is full, dropped the oldest segment");
+                for (Write droppedWrite : dropped) {
+                    deadLetter(droppedWrite, error);
+                }
+            }
+        }
+    }
+
+    private synchronized List<Write> takeDroppedWrites() {
+        if (droppedWrites.isEmpty()) {
+            return null;
+        }
+        List<Write> dropped = droppedWrites;
+        droppedWrites = new ArrayList<>();
+        return dropped;
+    }
+
+    private synchronized boolean appendRecord(Write write) throws IOException {
+        if (closed) {
+            throw new IOException("spool is closed");
+        }
+        byte[] database = utf8(write.getDatabase());
+        byte[] retentionPolicy = utf8(write.getRetentionPolicy());
+        byte[] precision = utf8(write.getPrecision());
+        byte[] body = write.getBody();
+        long length = stringSize(database) + stringSize(retentionPolicy) + stringSize(precision)
+                + (long) body.length;
+        if (HEADER_SIZE + length > segmentSize || isTooLong(database) || isTooLong(retentionPolicy)
+                || isTooLong(precision)) {
+            return false;
+        }
+        if (active == null || active.writePosition + HEADER_SIZE + length > active.buffer.capacity()) {
+            roll();
+        }
+        MappedByteBuffer buffer = active.buffer;
+        int position = active.writePosition;
+        // through Buffer, the covariant overrides of ByteBuffer do not exist on Java 8
+        ((Buffer) buffer).position(position + HEADER_SIZE);
+        putString(buffer, database);
+        putString(buffer, retentionPolicy);
+        putString(buffer, precision);
+        buffer.put(body);
+        CRC32 crc = new CRC32();
+        crc.update(slice(buffer, position + HEADER_SIZE, (int) length));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.put(position + 8, (byte) 0);
+        buffer.putInt(position, (int) length);
+        active.writePosition = buffer.position();
+        active.pending++;
+        pendingRecords++;
+        spooledRecords.increment();
+        return true;
+    }
+
+    private void roll() throws IOException {
+        if (active != null && active.pending == 0) {
+            segments.remove(active);
+            active.delete();
+        } else if (active != null) {
+            active.buffer.force();
+        }
+        while (segments.size() >= maxSegments) {
+            Segment oldest = segments.pollFirst();
+            if (deadLetterHandler != null) {
+                oldest.pendingWrites(droppedWrites);
+            }
+            droppedRecords.add(oldest.pending);
+            pendingRecords -= oldest.pending;
+            oldest.delete();
+        }
+        Path file = directory.resolve(String.format("%020d%s", nextSequence++, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+        segments.add(active);
+    }
+
+    /**
+     * Get the oldest record not replayed yet.
+     *
+     * @return the record, null when every record has been replayed.
+     */
+    synchronized Record next() {
+        if (closed) {
+            return null;
+        }
+        for (Segment segment : segments) {
+            if (segment.readPosition < segment.writePosition) {
+                return segment.read(segment.readPosition);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Flag a record returned by {@link #next()} as replayed.
+     *
+     * @param record   the record.
+     * @param rejected whether the server rejected the write instead of accepting it.
+     */
+    synchronized void ack(Record record, boolean rejected) {
+        Segment segment = record.segment;
+        if (segment.unmapped || record.position != segment.readPosition) {
+            // dropped to make room, unmapped by close(), or acknowledged already
+            return;
+        }
+        segment.buffer.put(record.position + 8, REPLAYED);
+        segment.readPosition = record.next;
+        segment.pending--;
+        pendingRecords--;
+        (rejected ? rejectedRecords : replayedRecords).increment();
+        if (segment.readPosition == segment.writePosition && segment != active) {
+            segments.remove(segment);
+            segment.delete();
+        }
+    }
+
+    /**
+     * Replay the spooled writes in order, until none is left or one cannot be delivered.
+     */
+    void replay() {
+        if (!available.getAsBoolean()) {
+            return;
+        }
+        Record record;
+        while (!closed && (record = next()) != null) {
+            try {
+                sender.apply(record.write).join();
+                ack(record, false);
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (isRejected(cause) || isGivenUp(record, cause)) {
+                    // a write the server refuses would block every record after it
+                    ack(record, true);
+                    deadLetter(record.write, (OpenGeminiException) cause);
+                    continue;
+                }
+                // retried on the next run
+                return;
+            }
+        }
+    }
+
+    /**
+     * Count a failed replay of a record, failures without an answer from the server, including rejections by an
+     * open circuit breaker, are not counted.
+     *
+     * @return true if the record failed the max replay attempts.
+     */
+    private boolean isGivenUp(Record record, Throwable cause) {
+        if (!(cause instanceof OpenGeminiException) || cause instanceof CircuitBreakerOpenException
+                || maxReplayAttempts <= 0) {
+            return false;
+        }
+        if (failedRecord == null || failedRecord.segment != record.segment
+                || failedRecord.position != record.position) {
+            failedRecord = record;
+            failedAttempts = 0;
+        }
+        return ++failedAttempts >= maxReplayAttempts;
+    }
+
+    /**
+     * Pass the lines of a write which is given up to the dead letter handler.
+     */
+    private void deadLetter(Write write, OpenGeminiException error) {
+        if (deadLetterHandler == null) {
+            return;
+        }
+        for (String line : write.getLineProtocol().split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                deadLetterHandler.rejected(write.getDatabase(), write.getRetentionPolicy(), line, error);
+            } catch (RuntimeException e) {
+                // a failing handler must not stop the spool, the line is lost either way
+            }
+        }
+    }
+
+    /**
+     * Tell whether a failure is the server rejecting a write, which it would reject again however often it is
+     * sent.
+     */
+    static boolean isRejected(Throwable t) {
+        if (!(t instanceof OpenGeminiException)) {
+            return false;
+        }
+        int statusCode = ((OpenGeminiException) t).getStatusCode();
+        return statusCode >= 400 && statusCode < 500;
+    }
+
+    /**
+     * Get the number of writes appended to the spool since it was opened.
+     */
+    public long spooledRecords() {
+        return spooledRecords.sum();
+    }
+
+    /**
+     * Get the number of spooled writes the server accepted on replay.
+     */
+    public long replayedRecords() {
+        return replayedRecords.sum();
+    }
+
+    /**
+     * Get the number of spooled writes dropped with the oldest segment to make room.
+     */
+    public long droppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    /**
+     * Get the number of spooled writes the server rejected on replay, or kept failing for the max replay
+     * attempts.
+     */
+    public long rejectedRecords() {
+        return rejectedRecords.sum();
+    }
+
+    /**
+     * Get the number of spooled writes waiting to be replayed, including the ones recovered from the directory.
+     */
+    public synchronized long pendingRecords() {
+        return pendingRecords;
+    }
+
+    /**
+     * Stop the replay and force the records to the device, the records left are replayed when the directory
+     * is opened again.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        replayer.shutdown();
+        try {
+            replayer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                segment.unmap();
+            }
+            try {
+                lock.release();
+            } finally {
+                lockChannel.close();
+            }
+        }
+    }
+
+    /**
+     * Find how to release the mapping of a buffer at once: Unsafe.invokeCleaner from Java 9, the cleaner of the
+     * direct buffer before. When neither is accessible, mappings are released when their buffer is collected.
+     */
+    private static Consumer<ByteBuffer> unmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // before Java 9
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> invoke(clean, invoke(cleaner, buffer));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> {
+            };
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+            return null;
+        }
+    }
+
+    private static byte[] utf8(String s) {
+        return s == null ? null : s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isTooLong(byte[] s) {
+        return s != null && s.length >= NULL_STRING;
+    }
+
+    private static long stringSize(byte[] s) {
+        return 2L + (s == null ? 0 : s.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] s) {
+        if (s == null) {
+            buffer.putShort((short) NULL_STRING);
+        } else {
+            buffer.putShort((short) s.length);
+            buffer.put(s);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xffff;
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int position, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        ((Buffer) slice).limit(position + length);
+        ((Buffer) slice).position(position);
+        return slice;
+    }
+
+    /**
+     * A spooled write and its place in the spool.
+     */
+    static final class Record {
+        private final Segment segment;
+
+        private final int position;
+
+        private final int next;
+
+        private final Write write;
+
+        private Record(Segment segment, int position, int next, Write write) {
+            this.segment = segment;
+            this.position = position;
+            this.next = next;
+            this.write = write;
+        }
+
+        Write write() {
+            return write;
+        }
+    }
+
+    private static final class Segment {
+        private final Path file;
+
+        private final MappedByteBuffer buffer;
+
+        private int readPosition;
+
+        private int writePosition;
+
+        private int pending;
+
+        private boolean unmapped;
+
+        private Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Find the valid records of a recovered segment, and the first one not replayed.
+         */
+        private void scan() {
+            int position = 0;
+            boolean replayed = true;
+            while (position + HEADER_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || length > buffer.capacity() - position - HEADER_SIZE) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(slice(buffer, position + HEADER_SIZE, length));
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+                if (buffer.get(position + 8) != REPLAYED) {
+                    if (replayed) {
+                        readPosition = position;
+                        replayed = false;
+                    }
+                    pending++;
+                }
+                position += HEADER_SIZE + length;
+            }
+            writePosition = position;
+            if (replayed) {
+                readPosition = position;
+            }
+        }
+
+        private Record read(int position) {
+            int length = buffer.getInt(position);
+            ByteBuffer payload = slice(buffer, position + HEADER_SIZE, length);
+            String database = getString(payload);
+            String retentionPolicy = getString(payload);
+            String precision = getString(payload);
+            byte[] body = new byte[payload.remaining()];
+            payload.get(body);
+            Write write = new Write(database, retentionPolicy, body, precision);
+            return new Record(this, position, position + HEADER_SIZE + length, write);
+        }
+
+        /**
+         * Add the records not replayed yet to the given list.
+         */
+        private void pendingWrites(List<Write> writes) {
+            int position = readPosition;
+            while (position < writePosition) {
+                Record record = read(position);
+                if (buffer.get(position + 8) != REPLAYED) {
+                    writes.add(record.write);
+                }
+                position = record.next;
+            }
+        }
+
+        /**
+         * Release the mapping, the buffer must not be used afterwards.
+         */
+        private void unmap() {
+            if (!unmapped) {
+                unmapped = true;
+                UNMAPPER.accept(buffer);
+            }
+        }
+
+        private void delete() {
+            unmap();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // the file is found again and deleted, or replayed, when the spool is opened next
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.SaturationPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class ConcurrencyLimiterTest {
+    private final List<CompletableFuture<String>> responses = new ArrayList<>();
+
+    private CompletableFuture<String> request() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        responses.add(response);
+        return response;
+    }
+
+    private static ConcurrencyLimiter limiter(SaturationPolicy policy, int queueSize, long blockTimeoutNanos) {
+        return new ConcurrencyLimiter("http://127.0.0.1:8086", ConcurrencyLimiter.Operation.WRITE, 2, policy,
+                queueSize, blockTimeoutNanos);
+    }
+
+    private static void assertRejected(CompletableFuture<String> future) {
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+        Assertions.assertEquals("too many in-flight write requests to http://127.0.0.1:8086, limit 2",
+                e.getCause().getMessage());
+    }
+
+    @Test
+    void fail_fast_rejects_beyond_limit() throws Exception {
+        ConcurrencyLimiter limiter = limiter(SaturationPolicy.FAIL_FAST, 0, 0);
+        CompletableFuture<String> first = limiter.execute(this::request);
+        limiter.execute(this::request);
+        assertRejected(limiter.execute(this::request));
+        Assertions.assertEquals(2, limiter.inFlight());
+        Assertions.assertEquals(1, limiter.rejectedCount());
+
+        responses.get(0).complete("ok");
+        Assertions.assertEquals("ok", first.get());
+        Assertions.assertEquals(1, limiter.inFlight());
+        limiter.execute(this::request);
+        Assertions.assertEquals(3, responses.size());
+    }
+
+    @Test
+    void block_fails_after_timeout() {
+        ConcurrencyLimiter limiter = limiter(SaturationPolicy.BLOCK, 0, TimeUnit.MILLISECONDS.toNanos(50));
+        limiter.execute(this::request);
+        limiter.execute(this::request);
+        assertRejected(limiter.execute(this::request));
+    }
+
+    @Test
+    void block_waits_for_a_permit() throws Exception {
+        ConcurrencyLimiter limiter = limiter(SaturationPolicy.BLOCK, 0, 0);
+        limiter.execute(this::request);
+        limiter.execute(this::request);
+        CompletableFuture<String> response = responses.get(0);
+        CompletableFuture.runAsync(() -> {
+            sleep(100);
+            response.complete("ok");
+        });
+        CompletableFuture<String> blocked = limiter.execute(() -> CompletableFuture.completedFuture("sent"));
+        Assertions.assertTrue(response.isDone());
+        Assertions.assertEquals("sent", blocked.get());
+        Assertions.assertEquals(1, limiter.waitCount());
+        Assertions.assertTrue(limiter.maxWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void block_queues_requests_of_client_threads() throws Exception {
+        ConcurrencyLimiter limiter = limiter(SaturationPolicy.BLOCK, 1, 0);
+        limiter.execute(this::request);
+        limiter.execute(this::request);
+        List<CompletableFuture<String>> queued = new ArrayList<>();
+        ConcurrencyLimiter.runNonBlocking(() -> {
+            queued.add(limiter.execute(this::request));
+            queued.add(limiter.execute(this::request));
+        });
+        Assertions.assertFalse(queued.get(0).isDone());
+        assertRejected(queued.get(1));
+        Assertions.assertEquals(1, limiter.queueDepth());
+
+        responses.get(0).complete("r0");
+        Assertions.assertEquals(3, responses.size());
+        responses.get(2).complete("r2");
+        Assertions.assertEquals("r2", queued.get(0).get());
+        Assertions.assertEquals(0, limiter.queueDepth());
+    }
+
+    @Test
+    void queue_starts_waiting_requests_in_order() throws Exception {
+        ConcurrencyLimiter limiter = limiter(SaturationPolicy.QUEUE, 2, 0);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(limiter.execute(this::request));
+        }
+        assertRejected(limiter.execute(this::request));
+        Assertions.assertEquals(2, responses.size());
+        Assertions.assertEquals(2, limiter.queueDepth());
+
+        responses.get(1).complete("r1");
+        Assertions.assertEquals(3, responses.size());
+        Assertions.assertEquals(1, limiter.queueDepth());
+        responses.get(0).completeExceptionally(new IllegalStateException("r0"));
+        Assertions.assertEquals(4, responses.size());
+        Assertions.assertEquals(0, limiter.queueDepth());
+        responses.get(3).complete("r3");
+        responses.get(2).complete("r2");
+
+        Assertions.assertThrows(ExecutionException.class, () -> results.get(0).get());
+        Assertions.assertEquals("r1", results.get(1).get());
+        Assertions.assertEquals("r2", results.get(2).get());
+        Assertions.assertEquals("r3", results.get(3).get());
+        Assertions.assertEquals(0, limiter.inFlight());
+        Assertions.assertEquals(2, limiter.waitCount());
+        Assertions.assertEquals(1, limiter.rejectedCount());
+    }
+
+    @Test
+    void queue_survives_requests_failing_at_once() throws Exception {
+        ConcurrencyLimiter limiter = limiter(SaturationPolicy.QUEUE, 10_000, 0);
+        CompletableFuture<String> gate = new CompletableFuture<>();
+        limiter.execute(() -> gate);
+        limiter.execute(() -> gate);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            results.add(limiter.execute(() -> {
+                throw new IllegalStateException("refused");
+            }));
+        }
+        gate.complete("open");
+        for (CompletableFuture<String> result : results) {
+            Assertions.assertThrows(ExecutionException.class, result::get);
+        }
+        Assertions.assertEquals(0, limiter.inFlight());
+        Assertions.assertEquals(0, limiter.queueDepth());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
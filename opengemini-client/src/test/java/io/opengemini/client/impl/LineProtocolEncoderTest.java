@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.ParallelEncodingConfig;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Precision;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LineProtocolEncoderTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final LineProtocolEncoder serial = new LineProtocolEncoder(null);
+
+    private final LineProtocolEncoder parallel = parallelEncoder(100, 7);
+
+    private final LineProtocolEncoder ordered = new LineProtocolEncoder(null, true);
+
+    @AfterAll
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private LineProtocolEncoder parallelEncoder(int threshold, int segmentSize) {
+        ParallelEncodingConfig config = new ParallelEncodingConfig();
+        config.setPool(pool);
+        config.setThreshold(threshold);
+        config.setSegmentSize(segmentSize);
+        return new LineProtocolEncoder(config);
+    }
+
+    @Test
+    void parallel_body_equals_serial_body() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            // every fourth point has nothing to write, whole segments of them are skipped
+            boolean valid = i % 4 != 0 && (i < 500 || i > 530);
+            points.add(point(i, valid ? (Object) i : Double.NaN));
+        }
+        byte[] expected = serial.encode(points, Precision.PRECISIONNANOSECOND);
+        String lines = points.stream().map(Point::lineProtocol).filter(line -> !line.isEmpty())
+                .collect(Collectors.joining("\n"));
+        Assertions.assertEquals(lines, new String(expected, StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(expected, parallel.encode(points, Precision.PRECISIONNANOSECOND));
+    }
+
+    @Test
+    void trailing_segments_without_lines() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            points.add(point(i, i < 3 ? (Object) i : null));
+        }
+        Assertions.assertEquals("m v=0i 1\nm v=1i 2\nm v=2i 3",
+                new String(parallel.encode(points, Precision.PRECISIONNANOSECOND), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void nothing_to_write() {
+        List<Point> points = new ArrayList<>(Collections.nCopies(300, point(0, null)));
+        Assertions.assertNull(parallel.encode(points, Precision.PRECISIONNANOSECOND));
+        Assertions.assertNull(serial.encode(Collections.emptyList(), Precision.PRECISIONNANOSECOND));
+    }
+
+    @Test
+    void segment_failure_propagated() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            points.add(point(i, i));
+        }
+        points.get(250).setMeasurement(null);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> parallel.encode(points, Precision.PRECISIONNANOSECOND));
+        // buffers of the failed write were released, the encoder keeps working
+        points.get(250).setMeasurement("m");
+        Assertions.assertArrayEquals(serial.encode(points, Precision.PRECISIONNANOSECOND),
+                parallel.encode(points, Precision.PRECISIONNANOSECOND));
+    }
+
+    @Test
+    void ordered_by_series_then_time() {
+        List<Point> points = new ArrayList<>();
+        points.add(point("cpu", 3, "host", "b", "region", "x"));
+        points.add(point("cpu", 2, "region", "x", "host", "a"));
+        points.add(point("cpu", 4, "host", "a", "region", "x"));
+        points.add(point("cpu", 1, "region", "x", "host", "b"));
+        points.add(point("cpu", 1, "host", "a", "region", "x"));
+        points.add(point("cp", 9));
+        Point untimed = point("cp", 0);
+        untimed.setTime(0);
+        points.add(1, untimed);
+        Assertions.assertEquals(String.join("\n",
+                        "cp v=9i 9",
+                        "cp v=0i ",
+                        "cpu,host=a,region=x v=1i 1",
+                        "cpu,host=a,region=x v=2i 2",
+                        "cpu,host=a,region=x v=4i 4",
+                        "cpu,host=b,region=x v=1i 1",
+                        "cpu,host=b,region=x v=3i 3"),
+                new String(ordered.encode(points, Precision.PRECISIONNANOSECOND), StandardCharsets.UTF_8));
+        Assertions.assertNull(ordered.encode(Collections.singletonList(point(0, null)),
+                Precision.PRECISIONNANOSECOND));
+    }
+
+    @Test
+    void ordered_body_matches_reference_sort() {
+        Random random = new Random(7);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String measurement = random.nextBoolean() ? "cpu" : "cpu_usage\u00e9";
+            points.add(point(measurement, random.nextInt(50) + 1, "host", "h " + random.nextInt(30),
+                    "dc", "d" + random.nextInt(3)));
+        }
+        Comparator<String> byKey = Comparator.comparing(line -> line.substring(0, line.indexOf(" v=")));
+        String expected = points.stream().map(point -> {
+            Point sorted = point(point.getMeasurement(), (int) point.getTime(),
+                    "dc", point.getTags().get("dc"), "host", point.getTags().get("host"));
+            return sorted.lineProtocol();
+        }).sorted(byKey.thenComparingLong(line -> Long.parseLong(line.substring(line.lastIndexOf(' ') + 1))))
+                .collect(Collectors.joining("\n"));
+        Assertions.assertEquals(expected,
+                new String(ordered.encode(points, Precision.PRECISIONNANOSECOND), StandardCharsets.UTF_8));
+    }
+
+    private static Point point(String measurement, int time, String... tags) {
+        Map<String, String> tagMap = new LinkedHashMap<>();
+        for (int i = 0; i < tags.length; i += 2) {
+            tagMap.put(tags[i], tags[i + 1]);
+        }
+        Point point = new Point();
+        point.setMeasurement(measurement);
+        point.setTime(time);
+        point.setTags(tagMap);
+        point.setFields(Collections.singletonMap("v", time));
+        return point;
+    }
+
+    private static Point point(int index, Object value) {
+        Point point = new Point();
+        point.setMeasurement("m");
+        point.setTime(index + 1);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * A tiny in-process HTTP server that records every request and answers with a configurable handler.
+ */
+class MockServer implements Closeable {
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    private volatile Function<RecordedRequest, MockResponse> handler = request -> MockResponse.noContent();
+
+    MockServer() throws IOException {
+        this(0);
+    }
+
+    MockServer(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    List<RecordedRequest> requests() {
+        return requests;
+    }
+
+    List<RecordedRequest> requests(String path) {
+        return requests.stream().filter(request -> request.path().equals(path)).toList();
+    }
+
+    void setHandler(Function<RecordedRequest, MockResponse> handler) {
+        this.handler = handler;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        RecordedRequest request = new RecordedRequest(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                exchange.getRequestURI().getRawQuery(), exchange.getRequestHeaders(), body);
+        requests.add(request);
+        MockResponse response = handler.apply(request);
+        response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        if (response.body().length == 0) {
+            exchange.sendResponseHeaders(response.status(), -1);
+        } else {
+            exchange.sendResponseHeaders(response.status(), response.body().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body());
+            }
+        }
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    record RecordedRequest(String method, String path, String query, Map<String, List<String>> headers,
+                           byte[] body) {
+        String bodyAsString() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        String header(String name) {
+            List<String> values = headers.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+
+    record MockResponse(int status, Map<String, String> headers, byte[] body) {
+        static MockResponse noContent() {
+            return new MockResponse(204, Map.of(), new byte[0]);
+        }
+
+        static MockResponse json(String json) {
+            return new MockResponse(200, Map.of("Content-Type", "application/json"),
+                    json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static MockResponse error(int status, String message) {
+            return new MockResponse(status, Map.of("Content-Type", "application/json"),
+                    ("{\"error\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.BatchConfig;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class OpenGeminiClientBatchWriteTest {
+    private MockServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private OpenGeminiClient batchClient(int batchSize, int batchInterval) throws OpenGeminiException {
+        return batchClient(batchSize, batchInterval, 0);
+    }
+
+    private OpenGeminiClient batchClient(int batchSize, int batchInterval, int maxPendingPoints)
+            throws OpenGeminiException {
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setBatchSize(batchSize);
+        batchConfig.setBatchInterval(batchInterval);
+        batchConfig.setMaxPendingPoints(maxPendingPoints);
+        HttpClientConfig httpConfig = new HttpClientConfig.Builder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .timeout(Duration.ofSeconds(3))
+                .build();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(httpConfig)
+                .batchConfig(batchConfig)
+                .build();
+        return OpenGeminiClientFactory.create(configuration);
+    }
+
+    @Test
+    void batch_flushed_when_size_reached() throws Exception {
+        try (OpenGeminiClient client = batchClient(3, 60_000)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(client.write("db0", testPoint("m0", i)));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+            List<MockServer.RecordedRequest> writes = server.requests("/write");
+            Assertions.assertEquals(1, writes.size());
+            Assertions.assertEquals("db=db0", writes.get(0).query());
+            Assertions.assertEquals("m0 v=0i 1\nm0 v=1i 2\nm0 v=2i 3", writes.get(0).bodyAsString());
+        }
+    }
+
+    @Test
+    void batch_flushed_when_interval_elapsed() throws Exception {
+        try (OpenGeminiClient client = batchClient(1000, 100)) {
+            client.write("db0", testPoint("m0", 0)).get(5, TimeUnit.SECONDS);
+
+            List<MockServer.RecordedRequest> writes = server.requests("/write");
+            Assertions.assertEquals(1, writes.size());
+            Assertions.assertEquals("m0 v=0i 1", writes.get(0).bodyAsString());
+        }
+    }
+
+    @Test
+    void batches_separated_by_database_and_retention_policy() throws Exception {
+        try (OpenGeminiClient client = batchClient(1000, 60_000)) {
+            CompletableFuture<Void> f1 = client.write("db0", testPoint("m0", 0));
+            CompletableFuture<Void> f2 = client.write("db0", "rp0", testPoint("m1", 1));
+            CompletableFuture<Void> f3 = client.write("db1", List.of(testPoint("m2", 2), testPoint("m3", 3)));
+            Assertions.assertFalse(f1.isDone());
+
+            client.close();
+            CompletableFuture.allOf(f1, f2, f3).get(5, TimeUnit.SECONDS);
+
+            List<String> queries = server.requests("/write").stream()
+                    .map(MockServer.RecordedRequest::query).sorted().toList();
+            Assertions.assertEquals(List.of("db=db0", "db=db0&rp=rp0", "db=db1"), queries);
+        }
+    }
+
+    @Test
+    void batch_failure_reported_to_every_caller() throws Exception {
+        server.setHandler(request -> MockServer.MockResponse.error(500, "engine failure"));
+        try (OpenGeminiClient client = batchClient(2, 60_000)) {
+            CompletableFuture<Void> f1 = client.write("db0", testPoint("m0", 0));
+            CompletableFuture<Void> f2 = client.write("db0", testPoint("m0", 1));
+
+            for (CompletableFuture<Void> future : List.of(f1, f2)) {
+                ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                        () -> future.get(5, TimeUnit.SECONDS));
+                Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+                Assertions.assertEquals(500, ((OpenGeminiException) e.getCause()).getStatusCode());
+            }
+        }
+    }
+
+    @Test
+    void write_beyond_max_pending_points_fails() throws Exception {
+        try (OpenGeminiClient client = batchClient(1000, 60_000, 3)) {
+            CompletableFuture<Void> f1 = client.write("db0", List.of(testPoint("m0", 0), testPoint("m0", 1)));
+            CompletableFuture<Void> f2 = client.write("db1", testPoint("m1", 2));
+            CompletableFuture<Void> rejected = client.write("db0", testPoint("m0", 3));
+
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                    () -> rejected.get(5, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+            Assertions.assertFalse(f1.isDone());
+
+            client.close();
+            CompletableFuture.allOf(f1, f2).get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(2, server.requests("/write").size());
+        }
+    }
+
+    @Test
+    void write_accepted_once_pending_points_written() throws Exception {
+        try (OpenGeminiClient client = batchClient(2, 60_000, 2)) {
+            client.write("db0", List.of(testPoint("m0", 0), testPoint("m0", 1))).get(5, TimeUnit.SECONDS);
+            client.write("db0", List.of(testPoint("m0", 2), testPoint("m0", 3))).get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(2, server.requests("/write").size());
+        }
+    }
+
+    @Test
+    void write_after_close_fails() throws Exception {
+        OpenGeminiClient client = batchClient(10, 60_000);
+        client.close();
+        CompletableFuture<Void> future = client.write("db0", testPoint("m0", 0));
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+    }
+
+    private static Point testPoint(String measurement, int value) {
+        Point point = new Point();
+        point.setMeasurement(measurement);
+        point.setTime(value + 1);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.CircuitBreakerConfig;
+import io.opengemini.client.api.CircuitBreakerEvent;
+import io.opengemini.client.api.CircuitState;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.Point;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class OpenGeminiClientCircuitBreakerTest {
+    private final MockServer failing = new MockServer();
+
+    private final MockServer healthy = new MockServer();
+
+    OpenGeminiClientCircuitBreakerTest() throws Exception {
+    }
+
+    @AfterEach
+    void tearDown() {
+        failing.close();
+        healthy.close();
+    }
+
+    @Test
+    void failing_server_avoided_once_circuit_opens() throws Exception {
+        // the failing server answers pings, so only the outcomes of the writes can flag it
+        failing.setHandler(request -> request.path().equals("/ping")
+                ? MockServer.MockResponse.noContent() : MockServer.MockResponse.error(500, "engine failure"));
+        List<CircuitBreakerEvent> events = new CopyOnWriteArrayList<>();
+        CircuitBreakerConfig breakerConfig = new CircuitBreakerConfig();
+        breakerConfig.setWindowSize(4);
+        breakerConfig.setMinimumCalls(4);
+        breakerConfig.setHalfOpenCalls(1);
+        breakerConfig.setOpenDuration(60_000);
+        breakerConfig.setListener(events::add);
+        Configuration configuration = Configuration.builder()
+                .addresses(List.of(new Address("127.0.0.1", failing.port()),
+                        new Address("127.0.0.1", healthy.port())))
+                .httpConfig(new HttpClientConfig.Builder().build())
+                .circuitBreakerConfig(breakerConfig)
+                .build();
+        try (OpenGeminiClient client = OpenGeminiClientFactory.create(configuration)) {
+            for (int i = 0; i < 20; i++) {
+                try {
+                    client.write("db0", testPoint(i)).get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException ignored) {
+                    // writes sent to the failing server before its circuit opens
+                }
+            }
+        }
+
+        Assertions.assertEquals(4, failing.requests("/write").size());
+        Assertions.assertEquals(16, healthy.requests("/write").size());
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("http://127.0.0.1:" + failing.port(), events.get(0).getEndpoint());
+        Assertions.assertEquals(CircuitState.OPEN, events.get(0).getTo());
+    }
+
+    private static Point testPoint(int value) {
+        Point point = new Point();
+        point.setMeasurement("m0");
+        point.setTime(value + 1);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
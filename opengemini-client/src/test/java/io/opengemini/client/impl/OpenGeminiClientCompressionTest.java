@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import com.github.luben.zstd.Zstd;
+import io.github.openfacade.http.HttpClientConfig;
+import io.github.openfacade.http.HttpClientEngine;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.CompressionConfig;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Query;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.common.ContentCodec;
+import io.opengemini.client.common.ContentCodecs;
+import io.opengemini.client.common.GzipCompressor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OpenGeminiClientCompressionTest {
+    private static final String QUERY_RESULT = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"databases\","
+            + "\"columns\":[\"name\"],\"values\":[[\"db0\"],[\"db1\"]]}]}]}";
+
+    private MockServer server;
+
+    @BeforeAll
+    void startServer() throws IOException {
+        server = new MockServer();
+    }
+
+    @BeforeEach
+    void resetServer() {
+        server.requests().clear();
+    }
+
+    @AfterAll
+    void stopServer() {
+        server.close();
+    }
+
+    private OpenGeminiClient client(HttpClientEngine engine, boolean gzipEnabled) throws OpenGeminiException {
+        HttpClientConfig httpConfig = new HttpClientConfig.Builder()
+                .engine(engine)
+                .connectTimeout(Duration.ofSeconds(3))
+                .timeout(Duration.ofSeconds(3))
+                .build();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(httpConfig)
+                .gzipEnabled(gzipEnabled)
+                .build();
+        return OpenGeminiClientFactory.create(configuration);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpClientEngine.class, names = {"Async", "Java", "Java8", "OkHttp"})
+    void write_body_gzip_compressed(HttpClientEngine engine) throws Exception {
+        try (OpenGeminiClient client = client(engine, true)) {
+            client.write("db0", List.of(testPoint(1), testPoint(2))).get();
+        }
+        MockServer.RecordedRequest request = server.requests("/write").get(0);
+        Assertions.assertEquals("gzip", request.header("Content-Encoding"));
+        Assertions.assertTrue(GzipCompressor.isCompressed(request.body()));
+        Assertions.assertEquals("m0 v=1i 1\nm0 v=2i 2",
+                new String(GzipCompressor.decompress(request.body()), StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpClientEngine.class, names = {"Async", "Java", "Java8", "OkHttp"})
+    void write_body_plain_when_gzip_disabled(HttpClientEngine engine) throws Exception {
+        try (OpenGeminiClient client = client(engine, false)) {
+            client.write("db0", testPoint(1)).get();
+        }
+        MockServer.RecordedRequest request = server.requests("/write").get(0);
+        Assertions.assertNull(request.header("Content-Encoding"));
+        Assertions.assertEquals("m0 v=1i 1", request.bodyAsString());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpClientEngine.class, names = {"Async", "Java", "Java8", "OkHttp"})
+    void query_response_gzip_decoded(HttpClientEngine engine) throws Exception {
+        server.setHandler(request -> new MockServer.MockResponse(200,
+                Map.of("Content-Type", "application/json", "Content-Encoding", "gzip"), gzip(QUERY_RESULT)));
+        try (OpenGeminiClient client = client(engine, true)) {
+            QueryResult result = client.query(new Query("SHOW DATABASES")).get();
+            Assertions.assertEquals(2, result.getResults().get(0).getSeries().get(0).getValues().size());
+        } finally {
+            server.setHandler(request -> MockServer.MockResponse.noContent());
+        }
+        Assertions.assertEquals("gzip", server.requests("/query").get(0).header("Accept-Encoding"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpClientEngine.class, names = {"Async", "Java", "Java8", "OkHttp"})
+    void query_rows_decoded_from_gzip_response(HttpClientEngine engine) throws Exception {
+        server.setHandler(request -> new MockServer.MockResponse(200,
+                Map.of("Content-Type", "application/json", "Content-Encoding", "gzip"), gzip(QUERY_RESULT)));
+        List<String> names = new ArrayList<>();
+        try (OpenGeminiClient client = client(engine, true)) {
+            client.query(new Query("SHOW DATABASES"), (series, row) -> names.add((String) row.get(0))).get();
+        } finally {
+            server.setHandler(request -> MockServer.MockResponse.noContent());
+        }
+        Assertions.assertEquals(List.of("db0", "db1"), names);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpClientEngine.class, names = {"Async", "Java", "Java8", "OkHttp"})
+    void query_columnar_decoded_from_gzip_response(HttpClientEngine engine) throws Exception {
+        server.setHandler(request -> new MockServer.MockResponse(200,
+                Map.of("Content-Type", "application/json", "Content-Encoding", "gzip"), gzip(QUERY_RESULT)));
+        List<ColumnarSeries> series;
+        try (OpenGeminiClient client = client(engine, true)) {
+            series = client.queryColumnar(new Query("SHOW DATABASES")).get();
+        } finally {
+            server.setHandler(request -> MockServer.MockResponse.noContent());
+        }
+        Assertions.assertEquals(1, series.size());
+        Assertions.assertEquals("db0", series.get(0).getString(0, 0));
+        Assertions.assertEquals("db1", series.get(0).getString(1, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"zstd", "snappy"})
+    void write_body_compressed_with_configured_codec(String contentEncoding) throws Exception {
+        try (OpenGeminiClient client = client(HttpClientEngine.Java, new CompressionConfig(contentEncoding))) {
+            client.write("db0", List.of(testPoint(1), testPoint(2))).get();
+        }
+        MockServer.RecordedRequest request = server.requests("/write").get(0);
+        Assertions.assertEquals(contentEncoding, request.header("Content-Encoding"));
+        try (ContentCodec codec = ContentCodecs.create(new CompressionConfig(contentEncoding))) {
+            Assertions.assertEquals("m0 v=1i 1\nm0 v=2i 2",
+                    new String(codec.decode(request.body()), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void query_response_decoded_with_configured_codec() throws Exception {
+        byte[] body = QUERY_RESULT.getBytes(StandardCharsets.UTF_8);
+        server.setHandler(request -> new MockServer.MockResponse(200,
+                Map.of("Content-Type", "application/json", "Content-Encoding", "zstd"), Zstd.compress(body)));
+        try (OpenGeminiClient client = client(HttpClientEngine.Java, new CompressionConfig("zstd"))) {
+            QueryResult result = client.query(new Query("SHOW DATABASES")).get();
+            Assertions.assertEquals(2, result.getResults().get(0).getSeries().get(0).getValues().size());
+        } finally {
+            server.setHandler(request -> MockServer.MockResponse.noContent());
+        }
+        Assertions.assertEquals("zstd, gzip", server.requests("/query").get(0).header("Accept-Encoding"));
+    }
+
+    private OpenGeminiClient client(HttpClientEngine engine, CompressionConfig compressionConfig)
+            throws OpenGeminiException {
+        HttpClientConfig httpConfig = new HttpClientConfig.Builder()
+                .engine(engine)
+                .connectTimeout(Duration.ofSeconds(3))
+                .timeout(Duration.ofSeconds(3))
+                .build();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(httpConfig)
+                .compressionConfig(compressionConfig)
+                .build();
+        return OpenGeminiClientFactory.create(configuration);
+    }
+
+    private static Point testPoint(int value) {
+        Point point = new Point();
+        point.setMeasurement("m0");
+        point.setTime(value);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+
+    private static byte[] gzip(String content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
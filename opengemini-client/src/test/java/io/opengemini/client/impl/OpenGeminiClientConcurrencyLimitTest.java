@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.ConcurrencyLimitConfig;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.SaturationPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class OpenGeminiClientConcurrencyLimitTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MockServer server;
+
+    private OpenGeminiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockServer();
+        server.setHandler(request -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return MockServer.MockResponse.noContent();
+        });
+        ConcurrencyLimitConfig limitConfig = new ConcurrencyLimitConfig();
+        limitConfig.setMaxInFlightWrites(1);
+        limitConfig.setSaturationPolicy(SaturationPolicy.FAIL_FAST);
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(new HttpClientConfig.Builder().build())
+                .concurrencyLimitConfig(limitConfig)
+                .build();
+        client = OpenGeminiClientFactory.create(configuration);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void writes_beyond_limit_rejected() throws Exception {
+        CompletableFuture<Void> first = client.write("db0", point(1));
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(2)).get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+
+        List<ConcurrencyLimiter> limiters = client.getConcurrencyLimiters();
+        Assertions.assertEquals(1, limiters.size());
+        Assertions.assertEquals(ConcurrencyLimiter.Operation.WRITE, limiters.get(0).getOperation());
+        Assertions.assertEquals("http://127.0.0.1:" + server.port(), limiters.get(0).getEndpoint());
+        Assertions.assertEquals(1, limiters.get(0).inFlight());
+        Assertions.assertEquals(1, limiters.get(0).rejectedCount());
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        client.write("db0", point(3)).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, server.requests("/write").size());
+    }
+
+    private static Point point(int value) {
+        Point point = new Point();
+        point.setMeasurement("m");
+        point.setTime(value);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
@@ -20,8 +20,10 @@ import io.opengemini.client.api.Address;
 import io.opengemini.client.api.AuthConfig;
 import io.opengemini.client.api.AuthType;
 import io.opengemini.client.api.BatchConfig;
+import io.opengemini.client.api.CompressionConfig;
 import io.opengemini.client.api.Configuration;
 import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.SpoolConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -130,4 +132,45 @@ public class OpenGeminiClientFactoryTest {
         });
         Assertions.assertEquals("batch enabled, batch size must be great than 0", actualException.getMessage());
     }
+
+    @Test
+    public void testGetClientWithUnsupportedContentEncoding() {
+        configuration.setAddresses(List.of(new Address()));
+        configuration.setBatchConfig(null);
+        configuration.setCompressionConfig(new CompressionConfig("br"));
+
+        Throwable actualException = Assertions.assertThrows(OpenGeminiException.class, () -> {
+            OpenGeminiClientFactory.create(configuration);
+        });
+        Assertions.assertEquals("unsupported content encoding: br", actualException.getMessage());
+        configuration.setCompressionConfig(null);
+    }
+
+    @Test
+    public void testGetClientWithNegativeMaxWriteBodySize() {
+        configuration.setAddresses(List.of(new Address()));
+        configuration.setAuthConfig(null);
+        configuration.setBatchConfig(null);
+        configuration.setMaxWriteBodySize(-1);
+
+        Throwable actualException = Assertions.assertThrows(OpenGeminiException.class, () -> {
+            OpenGeminiClientFactory.create(configuration);
+        });
+        Assertions.assertEquals("max write body size must not be negative", actualException.getMessage());
+        configuration.setMaxWriteBodySize(0);
+    }
+
+    @Test
+    public void testGetClientWithSpoolWithoutDirectory() {
+        configuration.setAddresses(List.of(new Address()));
+        configuration.setAuthConfig(null);
+        configuration.setBatchConfig(null);
+        configuration.setSpoolConfig(new SpoolConfig());
+
+        Throwable actualException = Assertions.assertThrows(OpenGeminiException.class, () -> {
+            OpenGeminiClientFactory.create(configuration);
+        });
+        Assertions.assertEquals("spool enabled, directory must not be empty", actualException.getMessage());
+        configuration.setSpoolConfig(null);
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.ByteArraySink;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Precision;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class OpenGeminiClientIteratorWriteTest {
+    private static final int MAX_BODY_SIZE = 1024;
+
+    private MockServer server;
+
+    private OpenGeminiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockServer();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(new HttpClientConfig.Builder().build())
+                .maxWriteBodySize(MAX_BODY_SIZE)
+                .build();
+        client = OpenGeminiClientFactory.create(configuration);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void points_split_into_bounded_requests() throws Exception {
+        int count = 5_000;
+        client.write("db0", "rp0", points(count, Precision.PRECISIONSECOND)).get(10, TimeUnit.SECONDS);
+
+        List<MockServer.RecordedRequest> writes = server.requests("/write");
+        Assertions.assertTrue(writes.size() > 50, "requests: " + writes.size());
+        StringBuilder lines = new StringBuilder();
+        for (MockServer.RecordedRequest write : writes) {
+            Assertions.assertEquals("db=db0&rp=rp0&precision=s", write.query());
+            Assertions.assertTrue(write.body().length <= MAX_BODY_SIZE, "body: " + write.body().length);
+            lines.append(write.bodyAsString()).append('\n');
+        }
+        String expected = IntStream.range(0, count)
+                .mapToObj(i -> "m,host=h" + (i % 10) + " v=" + i + "i " + (1_700_000_000L + i))
+                .collect(Collectors.joining("\n", "", "\n"));
+        Assertions.assertEquals(expected, lines.toString());
+    }
+
+    @Test
+    void request_widened_to_finest_precision() throws Exception {
+        Iterator<Point> points = List.of(point(0, Precision.PRECISIONSECOND, 1), point(1, Precision.PRECISIONSECOND, 2),
+                point(2, Precision.PRECISIONMILLISECOND, 3), point(3, Precision.PRECISIONNANOSECOND, 0)).iterator();
+        client.write("db0", null, points).get(5, TimeUnit.SECONDS);
+
+        List<MockServer.RecordedRequest> writes = server.requests("/write");
+        Assertions.assertEquals(1, writes.size());
+        Assertions.assertEquals("db=db0&precision=ms", writes.get(0).query());
+        Assertions.assertEquals("m,host=h0 v=0i 1000\nm,host=h1 v=1i 2000\nm,host=h2 v=2i 3\nm,host=h3 v=3i ",
+                writes.get(0).bodyAsString());
+    }
+
+    @Test
+    void widened_lines_beyond_max_body_carried_over() throws Exception {
+        List<Point> input = new ArrayList<>();
+        for (int i = 0; i < 35; i++) {
+            input.add(point(i, Precision.PRECISIONSECOND, 1_700_000_000L + i));
+        }
+        input.add(point(35, Precision.PRECISIONNANOSECOND, 1_800_000_000_000_000_000L));
+        client.write("db0", null, input.iterator()).get(5, TimeUnit.SECONDS);
+
+        List<MockServer.RecordedRequest> writes = server.requests("/write");
+        Assertions.assertEquals(2, writes.size());
+        List<String> lines = new ArrayList<>();
+        for (MockServer.RecordedRequest write : writes) {
+            // nanoseconds are the default precision of the write endpoint
+            Assertions.assertEquals("db=db0", write.query());
+            Assertions.assertTrue(write.body().length <= MAX_BODY_SIZE, "body: " + write.body().length);
+            lines.addAll(List.of(write.bodyAsString().split("\n")));
+        }
+        List<String> expected = new ArrayList<>();
+        for (Point point : input) {
+            ByteArraySink sink = new ByteArraySink();
+            point.writeTo(sink, Precision.PRECISIONNANOSECOND);
+            expected.add(sink.toString());
+        }
+        Assertions.assertEquals(expected, lines);
+    }
+
+    @Test
+    void point_larger_than_max_body_sent_alone() throws Exception {
+        Point large = point(1, Precision.PRECISIONSECOND, 1);
+        large.setTags(Collections.singletonMap("host", "x".repeat(2 * MAX_BODY_SIZE)));
+        client.write("db0", null, List.of(point(0, Precision.PRECISIONSECOND, 1), large,
+                point(2, Precision.PRECISIONSECOND, 1)).iterator()).get(5, TimeUnit.SECONDS);
+
+        List<MockServer.RecordedRequest> writes = server.requests("/write");
+        Assertions.assertEquals(3, writes.size());
+        Assertions.assertEquals(large.lineProtocol().length() - 9, writes.get(1).body().length);
+    }
+
+    @Test
+    void failure_stops_consuming_iterator() {
+        server.setHandler(request -> MockServer.MockResponse.error(500, "engine failure"));
+        AtomicInteger consumed = new AtomicInteger();
+        Iterator<Point> points = new Iterator<Point>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Point next() {
+                int i = consumed.getAndIncrement();
+                return point(i, Precision.PRECISIONSECOND, i + 1);
+            }
+        };
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", null, points).get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(OpenGeminiException.class, e.getCause());
+        Assertions.assertEquals(1, server.requests("/write").size());
+        // the first request and the one encoded while it was in flight
+        Assertions.assertTrue(consumed.get() < 200, "consumed: " + consumed.get());
+    }
+
+    @Test
+    void iterator_failure_fails_write() {
+        Iterator<Point> points = IntStream.range(0, 10).mapToObj(i -> {
+            if (i == 5) {
+                throw new IllegalStateException("source failed");
+            }
+            return point(i, Precision.PRECISIONSECOND, i + 1);
+        }).iterator();
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", null, points).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("source failed", e.getCause().getMessage());
+    }
+
+    @Test
+    void empty_iterator_writes_nothing() throws Exception {
+        client.write("db0", null, Collections.emptyIterator()).get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(server.requests("/write").isEmpty());
+    }
+
+    private static Iterator<Point> points(int count, Precision precision) {
+        return IntStream.range(0, count).mapToObj(i -> point(i, precision, 1_700_000_000L + i)).iterator();
+    }
+
+    private static Point point(int value, Precision precision, long time) {
+        Point point = new Point();
+        point.setMeasurement("m");
+        point.setPrecision(precision);
+        point.setTime(time);
+        point.setTags(Collections.singletonMap("host", "h" + (value % 10)));
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
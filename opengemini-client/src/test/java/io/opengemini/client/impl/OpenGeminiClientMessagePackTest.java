@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.github.openfacade.http.HttpClientEngine;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.ColumnarSeries;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Query;
+import io.opengemini.client.api.QueryResult;
+import io.opengemini.client.api.ResponseFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class OpenGeminiClientMessagePackTest {
+    private static final String JSON_RESULT = "{\"results\":[{\"statement_id\":0,\"series\":[{\"name\":\"cpu\","
+            + "\"columns\":[\"time\",\"usage\"],\"values\":[[\"2024-01-01T00:00:00Z\",0.25]]}]}]}";
+
+    private MockServer server;
+
+    private byte[] recorded;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockServer();
+        try (InputStream in = getClass().getResourceAsStream("/msgpack/query-response.msgpack")) {
+            recorded = in.readAllBytes();
+        }
+        // answers like the server does: msgpack when asked for it, json otherwise
+        server.setHandler(request -> "application/x-msgpack".equals(request.header("Accept"))
+                ? new MockServer.MockResponse(200, Map.of("Content-Type", "application/x-msgpack"), recorded)
+                : MockServer.MockResponse.json(JSON_RESULT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private OpenGeminiClient client(HttpClientEngine engine, ResponseFormat responseFormat)
+            throws OpenGeminiException {
+        HttpClientConfig httpConfig = new HttpClientConfig.Builder()
+                .engine(engine)
+                .connectTimeout(Duration.ofSeconds(3))
+                .timeout(Duration.ofSeconds(3))
+                .build();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(httpConfig)
+                .responseFormat(responseFormat)
+                .build();
+        return OpenGeminiClientFactory.create(configuration);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpClientEngine.class, names = {"Async", "Java", "Java8", "OkHttp"})
+    void query_result_decoded_from_msgpack_response(HttpClientEngine engine) throws Exception {
+        try (OpenGeminiClient client = client(engine, ResponseFormat.MSGPACK)) {
+            QueryResult result = client.query(new Query("SELECT * FROM cpu", "db0", null)).get();
+
+            Assertions.assertEquals(2, result.getResults().size());
+            List<Object> row = result.getResults().get(0).getSeries().get(0).getValues().get(1);
+            Assertions.assertEquals(List.of("2024-01-01T00:00:10.000000001Z", 2.0, 12345678901L, false, "x"), row);
+        }
+        Assertions.assertEquals("application/x-msgpack", server.requests("/query").get(0).header("Accept"));
+    }
+
+    @Test
+    void format_selected_per_query() throws Exception {
+        try (OpenGeminiClient client = client(HttpClientEngine.Java, null)) {
+            Query query = new Query("SELECT * FROM cpu", "db0", null);
+            Assertions.assertEquals(1, client.queryColumnar(query).get().size());
+
+            query.setResponseFormat(ResponseFormat.MSGPACK);
+            List<ColumnarSeries> series = client.queryColumnar(query).get();
+            Assertions.assertEquals(3, series.size());
+            Assertions.assertEquals(1704067200000000000L, series.get(0).getTime(0));
+
+            List<Object> times = new ArrayList<>();
+            client.query(query, (s, row) -> times.add(row.get(0))).get();
+            Assertions.assertEquals(4, times.size());
+        }
+        List<MockServer.RecordedRequest> queries = server.requests("/query");
+        Assertions.assertNull(queries.get(0).header("Accept"));
+        Assertions.assertEquals("application/x-msgpack", queries.get(1).header("Accept"));
+    }
+
+    @Test
+    void json_response_decoded_when_server_ignores_msgpack() throws Exception {
+        server.setHandler(request -> MockServer.MockResponse.json(JSON_RESULT));
+        try (OpenGeminiClient client = client(HttpClientEngine.Java, ResponseFormat.MSGPACK)) {
+            QueryResult result = client.query(new Query("SELECT * FROM cpu", "db0", null)).get();
+            Assertions.assertEquals("cpu", result.getResults().get(0).getSeries().get(0).getName());
+        }
+    }
+}
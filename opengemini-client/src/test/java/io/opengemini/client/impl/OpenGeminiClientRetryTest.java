@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.github.openfacade.http.HttpResponse;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.CircuitBreakerConfig;
+import io.opengemini.client.api.CircuitBreakerOpenException;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Query;
+import io.opengemini.client.api.RetryConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OpenGeminiClientRetryTest {
+    private final List<MockServer> servers = new ArrayList<>();
+
+    private OpenGeminiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servers.add(new MockServer());
+        servers.add(new MockServer());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        for (MockServer server : servers) {
+            server.close();
+        }
+    }
+
+    private OpenGeminiClient retryClient(int budgetCapacity) throws OpenGeminiException {
+        return retryClient(budgetCapacity, null);
+    }
+
+    private OpenGeminiClient retryClient(int budgetCapacity, CircuitBreakerConfig breakerConfig)
+            throws OpenGeminiException {
+        RetryConfig retryConfig = new RetryConfig();
+        retryConfig.setMaxAttempts(3);
+        retryConfig.setInitialBackoff(10);
+        retryConfig.setBudgetCapacity(budgetCapacity);
+        retryConfig.setBudgetRefillRate(0);
+        List<Address> addresses = new ArrayList<>();
+        for (MockServer server : servers) {
+            addresses.add(new Address("127.0.0.1", server.port()));
+        }
+        Configuration configuration = Configuration.builder()
+                .addresses(addresses)
+                .httpConfig(new HttpClientConfig.Builder().build())
+                .retryConfig(retryConfig)
+                .circuitBreakerConfig(breakerConfig)
+                .build();
+        return OpenGeminiClientFactory.create(configuration);
+    }
+
+    private int writeCount() {
+        return servers.stream().mapToInt(server -> server.requests("/write").size()).sum();
+    }
+
+    @Test
+    void write_retried_on_the_other_server() throws Exception {
+        AtomicInteger writes = new AtomicInteger();
+        for (MockServer server : servers) {
+            server.setHandler(request -> request.path().equals("/write") && writes.getAndIncrement() == 0
+                    ? MockServer.MockResponse.error(503, "overloaded") : MockServer.MockResponse.noContent());
+        }
+        client = retryClient(10);
+        client.write("db0", point(1)).get(5, TimeUnit.SECONDS);
+
+        // the first attempt failed, the retry went to the other server
+        Assertions.assertEquals(1, servers.get(0).requests("/write").size());
+        Assertions.assertEquals(1, servers.get(1).requests("/write").size());
+    }
+
+    @Test
+    void failure_reported_after_last_attempt() throws Exception {
+        for (MockServer server : servers) {
+            server.setHandler(request -> request.path().equals("/ping") ? MockServer.MockResponse.noContent()
+                    : MockServer.MockResponse.error(500, "engine failure"));
+        }
+        client = retryClient(10);
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(1)).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(500, ((OpenGeminiException) e.getCause()).getStatusCode());
+        Assertions.assertEquals(3, writeCount());
+    }
+
+    @Test
+    void client_errors_not_retried() throws Exception {
+        for (MockServer server : servers) {
+            server.setHandler(request -> request.path().equals("/ping") ? MockServer.MockResponse.noContent()
+                    : MockServer.MockResponse.error(400, "unable to parse"));
+        }
+        client = retryClient(10);
+        Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(1)).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, writeCount());
+    }
+
+    @Test
+    void retries_stop_when_budget_exhausted() throws Exception {
+        for (MockServer server : servers) {
+            server.setHandler(request -> request.path().equals("/ping") ? MockServer.MockResponse.noContent()
+                    : MockServer.MockResponse.error(503, "overloaded"));
+        }
+        client = retryClient(2);
+        Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(1)).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(3, writeCount());
+        Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(2)).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(4, writeCount());
+        Assertions.assertEquals(2, client.getRetryExecutor().retryCount());
+        Assertions.assertEquals(1, client.getRetryExecutor().budgetExhaustedCount());
+    }
+
+    @Test
+    void circuit_breaker_rejections_retried() throws Exception {
+        for (MockServer server : servers) {
+            server.setHandler(request -> request.path().equals("/ping") ? MockServer.MockResponse.noContent()
+                    : MockServer.MockResponse.error(500, "engine failure"));
+        }
+        CircuitBreakerConfig breakerConfig = new CircuitBreakerConfig();
+        breakerConfig.setWindowSize(2);
+        breakerConfig.setMinimumCalls(2);
+        breakerConfig.setHalfOpenCalls(1);
+        breakerConfig.setOpenDuration(60_000);
+        client = retryClient(100, breakerConfig);
+        // two writes of three attempts open the circuits of both servers
+        for (int i = 0; i < 2; i++) {
+            int value = i;
+            Assertions.assertThrows(ExecutionException.class,
+                    () -> client.write("db0", point(value)).get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(4, writeCount());
+        long retries = client.getRetryExecutor().retryCount();
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(3)).get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(CircuitBreakerOpenException.class, e.getCause());
+        Assertions.assertEquals(503, ((OpenGeminiException) e.getCause()).getStatusCode());
+        // every attempt was rejected before being sent, and retried
+        Assertions.assertEquals(4, writeCount());
+        Assertions.assertEquals(retries + 2, client.getRetryExecutor().retryCount());
+    }
+
+    @Test
+    void read_queries_retried_and_other_queries_not() throws Exception {
+        for (MockServer server : servers) {
+            server.setHandler(request -> request.path().equals("/ping") ? MockServer.MockResponse.noContent()
+                    : MockServer.MockResponse.error(503, "overloaded"));
+        }
+        client = retryClient(10);
+        Assertions.assertThrows(ExecutionException.class,
+                () -> client.query(new Query("SELECT * FROM m")).get(5, TimeUnit.SECONDS));
+        Assertions.assertThrows(ExecutionException.class,
+                () -> client.createDatabase("db0").get(5, TimeUnit.SECONDS));
+        int queries = servers.stream().mapToInt(server -> server.requests("/query").size()).sum();
+        Assertions.assertEquals(4, queries);
+    }
+
+    @Test
+    void only_transport_failures_retried() {
+        Assertions.assertTrue(RetryExecutor.isTransient(new ConnectException("Connection refused")));
+        Assertions.assertTrue(RetryExecutor.isTransient(new CompletionException(new HttpTimeoutException("timeout"))));
+        Assertions.assertTrue(RetryExecutor.isTransient(new IllegalStateException(new ClosedChannelException())));
+        Assertions.assertTrue(RetryExecutor.isTransient(new TimeoutException()));
+        Assertions.assertTrue(RetryExecutor.isTransient(new CircuitBreakerOpenException("http://127.0.0.1:8086")));
+
+        Assertions.assertFalse(RetryExecutor.isTransient(new OpenGeminiException("limit reached")));
+        Assertions.assertFalse(RetryExecutor.isTransient(new CompletionException(new IllegalStateException("bug"))));
+        Assertions.assertFalse(RetryExecutor.isTransient(new NullPointerException()));
+    }
+
+    @Test
+    void client_failures_not_retried() throws Exception {
+        RetryConfig retryConfig = new RetryConfig();
+        retryConfig.setMaxAttempts(3);
+        retryConfig.setInitialBackoff(1);
+        try (RetryExecutor executor = new RetryExecutor(retryConfig)) {
+            AtomicInteger attempts = new AtomicInteger();
+            CompletableFuture<HttpResponse> failed = executor.execute(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalArgumentException("interceptor failure");
+            });
+            Assertions.assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, attempts.get());
+
+            CompletableFuture<HttpResponse> refused = executor.execute(() -> {
+                attempts.incrementAndGet();
+                CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                future.completeExceptionally(new ConnectException("Connection refused"));
+                return future;
+            });
+            Assertions.assertThrows(ExecutionException.class, () -> refused.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(4, attempts.get());
+        }
+    }
+
+    private static Point point(int value) {
+        Point point = new Point();
+        point.setMeasurement("m");
+        point.setTime(value);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
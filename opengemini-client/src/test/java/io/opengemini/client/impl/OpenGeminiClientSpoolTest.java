@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.SpoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class OpenGeminiClientSpoolTest {
+    @TempDir
+    Path directory;
+
+    private MockServer server;
+
+    private OpenGeminiClient client;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private OpenGeminiClient spoolClient(int port) throws OpenGeminiException {
+        SpoolConfig spoolConfig = new SpoolConfig();
+        spoolConfig.setDirectory(directory.toString());
+        spoolConfig.setSegmentSize(1024 * 1024);
+        spoolConfig.setMaxSize(4 * 1024 * 1024);
+        spoolConfig.setReplayInterval(50);
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", port)))
+                .httpConfig(new HttpClientConfig.Builder().connectTimeout(Duration.ofSeconds(1)).build())
+                .spoolConfig(spoolConfig)
+                .build();
+        return OpenGeminiClientFactory.create(configuration);
+    }
+
+    @Test
+    void writes_spooled_while_server_down_and_replayed_in_order() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        client = spoolClient(port);
+        client.write("db0", List.of(point(1), point(2))).get(5, TimeUnit.SECONDS);
+        client.write("db0", "rp0", point(3)).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, client.getWriteSpool().spooledRecords());
+
+        server = new MockServer(port);
+        awaitWrites(2);
+        List<MockServer.RecordedRequest> writes = server.requests("/write");
+        Assertions.assertEquals(2, writes.size());
+        Assertions.assertEquals("db=db0", writes.get(0).query());
+        Assertions.assertEquals("m v=1i 1\nm v=2i 2", writes.get(0).bodyAsString());
+        Assertions.assertEquals("db=db0&rp=rp0", writes.get(1).query());
+        Assertions.assertEquals("m v=3i 3", writes.get(1).bodyAsString());
+
+        client.write("db0", point(4)).get(5, TimeUnit.SECONDS);
+        awaitWrites(3);
+        Assertions.assertEquals("m v=4i 4", server.requests("/write").get(2).bodyAsString());
+    }
+
+    private void awaitWrites(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (server.requests("/write").size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(count, server.requests("/write").size());
+    }
+
+    @Test
+    void writes_failing_with_server_errors_spooled() throws Exception {
+        server = new MockServer();
+        server.setHandler(request -> request.path().equals("/write")
+                ? MockServer.MockResponse.error(503, "overloaded") : MockServer.MockResponse.noContent());
+        client = spoolClient(server.port());
+        client.write("db0", point(1)).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, client.getWriteSpool().spooledRecords());
+
+        server.setHandler(request -> MockServer.MockResponse.noContent());
+        awaitWrites(2);
+        Assertions.assertEquals("m v=1i 1", server.requests("/write").get(1).bodyAsString());
+    }
+
+    @Test
+    void writes_rejected_by_server_not_spooled() throws Exception {
+        server = new MockServer();
+        server.setHandler(request -> MockServer.MockResponse.error(400, "unable to parse"));
+        client = spoolClient(server.port());
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.write("db0", point(1)).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(400, ((OpenGeminiException) e.getCause()).getStatusCode());
+        Assertions.assertEquals(0, client.getWriteSpool().spooledRecords());
+
+        server.setHandler(request -> MockServer.MockResponse.noContent());
+        client.write("db0", point(2)).get(5, TimeUnit.SECONDS);
+        List<MockServer.RecordedRequest> writes = server.requests("/write");
+        Assertions.assertEquals(2, writes.size());
+        Assertions.assertEquals("m v=2i 2", writes.get(1).bodyAsString());
+    }
+
+    private static Point point(int value) {
+        Point point = new Point();
+        point.setMeasurement("m");
+        point.setTime(value);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
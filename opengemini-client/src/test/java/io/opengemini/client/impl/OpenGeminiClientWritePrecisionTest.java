@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.github.openfacade.http.HttpClientConfig;
+import io.github.openfacade.http.HttpResponse;
+import io.opengemini.client.api.Address;
+import io.opengemini.client.api.Configuration;
+import io.opengemini.client.api.Point;
+import io.opengemini.client.api.Precision;
+import io.opengemini.client.api.Query;
+import io.opengemini.client.api.Write;
+import io.opengemini.client.interceptor.Interceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class OpenGeminiClientWritePrecisionTest {
+    private MockServer server;
+
+    private OpenGeminiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockServer();
+        Configuration configuration = Configuration.builder()
+                .addresses(Collections.singletonList(new Address("127.0.0.1", server.port())))
+                .httpConfig(new HttpClientConfig.Builder().build())
+                .build();
+        client = OpenGeminiClientFactory.create(configuration);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void points_sent_in_their_native_precision() throws Exception {
+        client.write("db0", List.of(point(1, Precision.PRECISIONSECOND, 1_700_000_000L),
+                point(2, Precision.PRECISIONSECOND, 1_700_000_010L))).get(5, TimeUnit.SECONDS);
+
+        MockServer.RecordedRequest write = server.requests("/write").get(0);
+        Assertions.assertEquals("db=db0&precision=s", write.query());
+        Assertions.assertEquals("m v=1i 1700000000\nm v=2i 1700000010", write.bodyAsString());
+    }
+
+    @Test
+    void mixed_points_sent_in_finest_precision() throws Exception {
+        Point withoutTime = point(3, Precision.PRECISIONNANOSECOND, 0);
+        client.write("db0", "rp0", List.of(point(1, Precision.PRECISIONMINUTE, 2),
+                point(2, Precision.PRECISIONMILLISECOND, 1_500), withoutTime)).get(5, TimeUnit.SECONDS);
+
+        MockServer.RecordedRequest write = server.requests("/write").get(0);
+        Assertions.assertEquals("db=db0&rp=rp0&precision=ms", write.query());
+        Assertions.assertEquals("m v=1i 120000\nm v=2i 1500\nm v=3i ", write.bodyAsString());
+    }
+
+    @Test
+    void nanosecond_precision_not_sent() throws Exception {
+        client.write("db0", point(1, Precision.PRECISIONNANOSECOND, 5)).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("db=db0", server.requests("/write").get(0).query());
+    }
+
+    @Test
+    void write_precision_visible_to_interceptors() throws Exception {
+        String[] precision = new String[1];
+        client.addInterceptors(new Interceptor() {
+            @Override
+            public CompletableFuture<Void> queryBefore(Query query) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Void> queryAfter(Query query, HttpResponse response) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Void> writeBefore(Write write) {
+                precision[0] = write.getPrecision();
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Void> writeAfter(Write write, HttpResponse response) {
+                return CompletableFuture.completedFuture(null);
+            }
+        });
+        client.write("db0", point(1, Precision.PRECISIONMICROSECOND, 5)).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("u", precision[0]);
+        Assertions.assertEquals("db=db0&precision=u", server.requests("/write").get(0).query());
+    }
+
+    private static Point point(int value, Precision precision, long time) {
+        Point point = new Point();
+        point.setMeasurement("m");
+        point.setPrecision(precision);
+        point.setTime(time);
+        point.setFields(Collections.singletonMap("v", value));
+        return point;
+    }
+}
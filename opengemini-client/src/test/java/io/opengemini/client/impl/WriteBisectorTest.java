@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.BisectionConfig;
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.Write;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class WriteBisectorTest {
+    private final List<String> accepted = new ArrayList<>();
+
+    private final List<String> rejected = new ArrayList<>();
+
+    private int requests;
+
+    private boolean nameBadLine;
+
+    private CompletableFuture<Void> server(Write write) {
+        requests++;
+        List<String> lines = Arrays.asList(write.getLineProtocol().split("\n"));
+        String bad = lines.stream().filter(line -> line.contains("bad")).findFirst().orElse(null);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (bad == null) {
+            accepted.addAll(lines);
+            future.complete(null);
+        } else if (nameBadLine) {
+            future.completeExceptionally(new OpenGeminiException("http error: {\"error\":\"unable to parse '"
+                    + bad + "': invalid field format\"}", 400));
+        } else {
+            future.completeExceptionally(new OpenGeminiException("http error: {\"error\":\"partial write: field "
+                    + "type conflict dropped=1\"}", 400));
+        }
+        return future;
+    }
+
+    private WriteBisector bisector(int maxRejectedLines) {
+        BisectionConfig config = new BisectionConfig();
+        config.setMaxRejectedLines(maxRejectedLines);
+        config.setDeadLetterHandler((database, retentionPolicy, line, error) -> {
+            Assertions.assertEquals("db0", database);
+            Assertions.assertEquals(400, error.getStatusCode());
+            rejected.add(line);
+        });
+        return new WriteBisector(config, this::server);
+    }
+
+    private static Write write(List<String> lines) {
+        return new Write("db0", null, String.join("\n", lines).getBytes(StandardCharsets.UTF_8), "ns");
+    }
+
+    private static List<String> lines(int count, int... bad) {
+        List<String> lines = IntStream.range(0, count).mapToObj(i -> "m v=" + i + "i " + i)
+                .collect(Collectors.toList());
+        for (int i : bad) {
+            lines.set(i, "m v=bad " + i);
+        }
+        return lines;
+    }
+
+    @Test
+    void accepted_write_sent_once() throws Exception {
+        bisector(10).write(write(lines(100))).get();
+        Assertions.assertEquals(1, requests);
+        Assertions.assertEquals(100, accepted.size());
+    }
+
+    @Test
+    void rejected_lines_isolated_by_bisection() throws Exception {
+        List<String> lines = lines(1000, 3, 500, 501, 999);
+        bisector(10).write(write(lines)).get();
+
+        List<String> good = new ArrayList<>(lines);
+        good.removeIf(line -> line.contains("bad"));
+        Assertions.assertEquals(good, accepted.stream().sorted((a, b) -> Integer.compare(good.indexOf(a),
+                good.indexOf(b))).collect(Collectors.toList()));
+        Assertions.assertEquals(996, accepted.size());
+        Assertions.assertEquals(List.of("m v=bad 3", "m v=bad 500", "m v=bad 501", "m v=bad 999"), rejected);
+        // about log2(1000) requests per rejected line
+        Assertions.assertTrue(requests < 4 * 2 * 11, "requests: " + requests);
+    }
+
+    @Test
+    void rejected_lines_named_by_the_server_isolated_at_once() throws Exception {
+        nameBadLine = true;
+        bisector(10).write(write(lines(1000, 3, 500, 999))).get();
+        Assertions.assertEquals(997, accepted.size());
+        Assertions.assertEquals(List.of("m v=bad 3", "m v=bad 500", "m v=bad 999"), rejected);
+        // the first request, then the lines before and after each rejected line, none after the last one
+        Assertions.assertEquals(6, requests);
+    }
+
+    @Test
+    void write_fails_beyond_max_rejected_lines() {
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> bisector(2).write(write(lines(100, 10, 20, 30, 40))).get());
+        Assertions.assertEquals(400, ((OpenGeminiException) e.getCause()).getStatusCode());
+        Assertions.assertEquals(2, rejected.size());
+    }
+
+    @Test
+    void other_failures_not_bisected() {
+        ConnectException refused = new ConnectException("connection refused");
+        WriteBisector bisector = new WriteBisector(new BisectionConfig(), write -> {
+            requests++;
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(refused);
+            return future;
+        });
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> bisector.write(write(lines(100))).get());
+        Assertions.assertSame(refused, e.getCause());
+        Assertions.assertEquals(1, requests);
+    }
+}
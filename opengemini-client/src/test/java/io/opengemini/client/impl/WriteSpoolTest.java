@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025 openGemini Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.opengemini.client.impl;
+
+import io.opengemini.client.api.OpenGeminiException;
+import io.opengemini.client.api.SpoolConfig;
+import io.opengemini.client.api.Write;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class WriteSpoolTest {
+    @TempDir
+    Path directory;
+
+    private final List<String> sent = new ArrayList<>();
+
+    private final List<String> deadLetters = new ArrayList<>();
+
+    private Function<Write, CompletableFuture<Void>> sender = this::accept;
+
+    private CompletableFuture<Void> accept(Write write) {
+        sent.add(write.getDatabase() + "/" + write.getRetentionPolicy() + "/" + write.getPrecision() + ": "
+                + write.getLineProtocol());
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private WriteSpool open(int segmentSize, long maxSize) throws IOException {
+        return open(segmentSize, maxSize, new SpoolConfig().getMaxReplayAttempts());
+    }
+
+    private WriteSpool open(int segmentSize, long maxSize, int maxReplayAttempts) throws IOException {
+        SpoolConfig config = new SpoolConfig();
+        config.setMaxReplayAttempts(maxReplayAttempts);
+        config.setDirectory(directory.toString());
+        config.setSegmentSize(segmentSize);
+        config.setMaxSize(maxSize);
+        config.setDeadLetterHandler((database, retentionPolicy, line, error) ->
+                deadLetters.add(database + "/" + retentionPolicy + ": " + line + " (" + error.getMessage() + ")"));
+        // replayed by the tests only, the background replay never comes
+        config.setReplayInterval(Integer.MAX_VALUE);
+        WriteSpool spool = new WriteSpool(config);
+        spool.start(write -> sender.apply(write), () -> true);
+        return spool;
+    }
+
+    /**
+     * Every write takes 25 bytes in the spool.
+     */
+    private static Write write(int i) {
+        return new Write("db", null, ("m v=" + i + "i").getBytes(StandardCharsets.UTF_8), "ns");
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".spool")).count();
+        }
+    }
+
+    @Test
+    void replayed_in_order() throws IOException {
+        try (WriteSpool spool = open(64, 1024)) {
+            Assertions.assertTrue(spool.append(new Write("db0", "rp0", "m v=1.5 1".getBytes(StandardCharsets.UTF_8),
+                    "s")));
+            for (int i = 0; i < 9; i++) {
+                Assertions.assertTrue(spool.append(write(i)));
+            }
+            Assertions.assertTrue(spool.hasPending());
+            Assertions.assertEquals(5, segmentFiles());
+
+            spool.replay();
+            List<String> expected = new ArrayList<>();
+            expected.add("db0/rp0/s: m v=1.5 1");
+            for (int i = 0; i < 9; i++) {
+                expected.add("db/null/ns: m v=" + i + "i");
+            }
+            Assertions.assertEquals(expected, sent);
+            Assertions.assertFalse(spool.hasPending());
+            Assertions.assertEquals(10, spool.replayedRecords());
+            // only the segment still receiving writes is left
+            Assertions.assertEquals(1, segmentFiles());
+        }
+    }
+
+    @Test
+    void recovered_after_reopen() throws IOException {
+        try (WriteSpool spool = open(1024, 4096)) {
+            for (int i = 0; i < 3; i++) {
+                spool.append(write(i));
+            }
+            spool.ack(spool.next(), false);
+        }
+        try (WriteSpool spool = open(1024, 4096)) {
+            Assertions.assertEquals(2, spool.pendingRecords());
+            spool.append(write(3));
+            spool.replay();
+        }
+        Assertions.assertEquals(List.of("db/null/ns: m v=1i", "db/null/ns: m v=2i", "db/null/ns: m v=3i"), sent);
+        try (WriteSpool spool = open(1024, 4096)) {
+            Assertions.assertFalse(spool.hasPending());
+        }
+        Assertions.assertEquals(0, segmentFiles());
+    }
+
+    @Test
+    void torn_tail_ignored() throws IOException {
+        try (WriteSpool spool = open(1024, 1024)) {
+            for (int i = 0; i < 3; i++) {
+                spool.append(write(i));
+            }
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.toString().endsWith(".spool")).findFirst().get();
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        // flip the last byte of the last record
+        bytes[3 * 25 - 1] ^= 1;
+        Files.write(segment, bytes);
+        try (WriteSpool spool = open(1024, 1024)) {
+            Assertions.assertEquals(2, spool.pendingRecords());
+            spool.replay();
+        }
+        Assertions.assertEquals(List.of("db/null/ns: m v=0i", "db/null/ns: m v=1i"), sent);
+    }
+
+    @Test
+    void oldest_segment_dropped_at_max_size() throws IOException {
+        try (WriteSpool spool = open(64, 128)) {
+            for (int i = 0; i < 6; i++) {
+                Assertions.assertTrue(spool.append(write(i)));
+            }
+            Assertions.assertEquals(2, spool.droppedRecords());
+            Assertions.assertEquals(6, spool.spooledRecords());
+            Assertions.assertEquals(4, spool.pendingRecords());
+            Assertions.assertEquals(List.of("db/null: m v=0i (spool is full, dropped the oldest segment)",
+                    "db/null: m v=1i (spool is full, dropped the oldest segment)"), deadLetters);
+            Assertions.assertEquals(2, segmentFiles());
+            spool.replay();
+        }
+        Assertions.assertEquals(List.of("db/null/ns: m v=2i", "db/null/ns: m v=3i", "db/null/ns: m v=4i",
+                "db/null/ns: m v=5i"), sent);
+    }
+
+    @Test
+    void write_larger_than_segment_not_spooled() throws IOException {
+        try (WriteSpool spool = open(64, 128)) {
+            Assertions.assertFalse(spool.append(new Write("db", null, new byte[64], "ns")));
+            Assertions.assertFalse(spool.hasPending());
+        }
+    }
+
+    @Test
+    void rejected_writes_dead_lettered_and_failed_writes_retried() throws IOException {
+        try (WriteSpool spool = open(1024, 1024)) {
+            for (int i = 0; i < 3; i++) {
+                spool.append(write(i));
+            }
+            sender = write -> failed(new ConnectException("connection refused"));
+            spool.replay();
+            Assertions.assertEquals(3, spool.pendingRecords());
+
+            sender = write -> write.getLineProtocol().endsWith("1i")
+                    ? failed(new OpenGeminiException("partial write", 400)) : accept(write);
+            spool.replay();
+            Assertions.assertFalse(spool.hasPending());
+            Assertions.assertEquals(1, spool.rejectedRecords());
+            Assertions.assertEquals(2, spool.replayedRecords());
+            Assertions.assertEquals(0, spool.droppedRecords());
+            Assertions.assertEquals(List.of("db/null/ns: m v=0i", "db/null/ns: m v=2i"), sent);
+            Assertions.assertEquals(List.of("db/null: m v=1i (partial write)"), deadLetters);
+        }
+    }
+
+    @Test
+    void write_failing_on_server_given_up_after_max_attempts() throws IOException {
+        try (WriteSpool spool = open(1024, 1024, 3)) {
+            for (int i = 0; i < 3; i++) {
+                spool.append(write(i));
+            }
+            sender = write -> write.getLineProtocol().endsWith("1i")
+                    ? failed(new OpenGeminiException("engine failure", 500)) : accept(write);
+            spool.replay();
+            // a failure without an answer from the server is not an attempt
+            sender = write -> failed(new ConnectException("connection refused"));
+            spool.replay();
+            sender = write -> write.getLineProtocol().endsWith("1i")
+                    ? failed(new OpenGeminiException("engine failure", 500)) : accept(write);
+            spool.replay();
+            Assertions.assertEquals(2, spool.pendingRecords());
+            Assertions.assertTrue(deadLetters.isEmpty());
+
+            spool.replay();
+            Assertions.assertFalse(spool.hasPending());
+            Assertions.assertEquals(1, spool.rejectedRecords());
+            Assertions.assertEquals(List.of("db/null/ns: m v=0i", "db/null/ns: m v=2i"), sent);
+            Assertions.assertEquals(List.of("db/null: m v=1i (engine failure)"), deadLetters);
+        }
+    }
+
+    @Test
+    void write_failing_on_server_replayed_until_accepted_by_default() throws IOException {
+        try (WriteSpool spool = open(1024, 1024)) {
+            spool.append(write(0));
+            sender = write -> failed(new OpenGeminiException("engine failure", 503));
+            for (int i = 0; i < 100; i++) {
+                spool.replay();
+            }
+            Assertions.assertEquals(1, spool.pendingRecords());
+            Assertions.assertTrue(deadLetters.isEmpty());
+
+            sender = this::accept;
+            spool.replay();
+            Assertions.assertFalse(spool.hasPending());
+            Assertions.assertEquals(List.of("db/null/ns: m v=0i"), sent);
+        }
+    }
+
+    @Test
+    void segments_unmapped_when_deleted_and_closed() throws IOException {
+        Path maps = Path.of("/proc/self/maps");
+        Assumptions.assumeTrue(Files.isReadable(maps));
+        try (WriteSpool spool = open(64, 1024)) {
+            for (int i = 0; i < 6; i++) {
+                spool.append(write(i));
+            }
+            Assertions.assertEquals(3, mappedSegments(maps));
+            spool.replay();
+            // only the segment still receiving writes is left
+            Assertions.assertEquals(1, mappedSegments(maps));
+        }
+        Assertions.assertEquals(0, mappedSegments(maps));
+    }
+
+    private long mappedSegments(Path maps) throws IOException {
+        return Files.readAllLines(maps).stream().filter(line -> line.contains(directory.toString())).count();
+    }
+
+    @Test
+    void directory_used_by_one_spool_only() throws IOException {
+        try (WriteSpool ignored = open(1024, 1024)) {
+            IOException e = Assertions.assertThrows(IOException.class, () -> open(1024, 1024));
+            Assertions.assertTrue(e.getMessage().startsWith("spool directory is used by another client"));
+        }
+        open(1024, 1024).close();
+    }
+
+    private static CompletableFuture<Void> failed(Throwable t) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+}